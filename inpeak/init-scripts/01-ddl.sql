@@ -19,6 +19,8 @@ START TRANSACTION;
 
 -- 테이블 삭제 (의존성 역순)
 DROP TABLE IF EXISTS answers;
+DROP TABLE IF EXISTS answer_replay_jobs;
+DROP TABLE IF EXISTS answer_task_outbox;
 DROP TABLE IF EXISTS answer_tasks;
 DROP TABLE IF EXISTS interviews;
 DROP TABLE IF EXISTS refreshtokens;
@@ -105,9 +107,48 @@ CREATE TABLE answer_tasks (
                               audio_file_url VARCHAR(255) NOT NULL,
                               video_url VARCHAR(255),
                               time BIGINT NOT NULL,
+                              measured_time BIGINT NULL,
                               status VARCHAR(50) NOT NULL,
+                              stage VARCHAR(50),
+                              transcript TEXT,
+                              feedback TEXT,
+                              failure_reason VARCHAR(1000) NULL,
+                              transcribed_at TIMESTAMP NULL,
+                              graded_at TIMESTAMP NULL,
+                              completed_at TIMESTAMP NULL,
+                              reap_count INT NOT NULL DEFAULT 0,
+                              version BIGINT NOT NULL DEFAULT 0,
                               created_at TIMESTAMP NOT NULL,
-                              updated_at TIMESTAMP NOT NULL
+                              updated_at TIMESTAMP NOT NULL,
+                              UNIQUE KEY uk_answer_tasks_interview_question (interview_id, question_id),
+                              KEY idx_answer_tasks_status_reap_updated (status, reap_count, updated_at),
+                              KEY idx_answer_tasks_status_updated (status, updated_at)
+);
+
+CREATE TABLE answer_task_outbox (
+                                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                    task_id BIGINT NOT NULL,
+                                    topic VARCHAR(255) NOT NULL,
+                                    message_key VARCHAR(255) NOT NULL,
+                                    created_at TIMESTAMP NOT NULL,
+                                    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE answer_replay_jobs (
+                                   id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                   requested_by BIGINT NOT NULL,
+                                   failed_from TIMESTAMP NOT NULL,
+                                   failed_to TIMESTAMP NOT NULL,
+                                   error_class VARCHAR(255) NULL,
+                                   status VARCHAR(50) NOT NULL,
+                                   cursor_updated_at TIMESTAMP NOT NULL,
+                                   cursor_id BIGINT NOT NULL,
+                                   replayed_count BIGINT NOT NULL DEFAULT 0,
+                                   skipped_count BIGINT NOT NULL DEFAULT 0,
+                                   completed_at TIMESTAMP NULL,
+                                   version BIGINT NOT NULL DEFAULT 0,
+                                   created_at TIMESTAMP NOT NULL,
+                                   updated_at TIMESTAMP NOT NULL
 );
 
 -- 트랜잭션 완료
@@ -0,0 +1,65 @@
+package com.blooming.inpeak.auth.utils;
+
+import com.blooming.inpeak.member.domain.Member;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 검증 캐시가 있을 때와 없을 때의 JwtTokenProvider.verify 비용 비교
+ * 요청마다 같은 액세스 토큰을 다시 검증하는 상황을 재현한다.
+ * cacheSize 가 0 이면 검증 결과가 바로 밀려나므로 매번 서명을 다시 검증한다.
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    @Param({"0", "10000"})
+    private int cacheSize;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider();
+        set("jwtSecret", SECRET);
+        set("issuer", "inpeak");
+        set("verifyCacheMaxSize", cacheSize);
+        jwtTokenProvider.init();
+
+        token = jwtTokenProvider.makeToken(Member.builder().id(1L).build(), Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public JwtTokenProvider.VerifiedToken verify() {
+        return jwtTokenProvider.verify(token);
+    }
+
+    private void set(String name, Object value) throws Exception {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenProvider, value);
+    }
+}
@@ -0,0 +1,35 @@
+package com.blooming.inpeak.answer.audio;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * 디스크에 내려받은 임시 오디오 파일
+ * try-with-resources 로 사용하면 처리가 끝난 뒤 파일이 삭제된다.
+ *
+ * @param path 임시 파일 경로
+ * @param size 파일 크기 (byte)
+ */
+@Slf4j
+public record AudioFile(Path path, long size) implements AutoCloseable {
+
+    /**
+     * 멀티파트 업로드용 Resource 로 변환한다.
+     * 파일 내용을 메모리에 올리지 않고 전송 시점에 스트리밍한다.
+     */
+    public FileSystemResource toResource() {
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 오디오 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.blooming.inpeak.answer.audio;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오디오 임시 파일 저장소
+ * 답변 처리 중 내려받은 오디오는 힙 대신 이 디렉토리의 파일로 보관되므로,
+ * 오디오 길이와 관계없이 작업당 힙 사용량은 복사 버퍼 크기로 제한된다.
+ */
+@Slf4j
+@Component
+public class AudioFileStorage {
+
+    private static final String FILE_PREFIX = "answer-";
+
+    private final Path directory;
+
+    public AudioFileStorage(@Value("${audio.temp-dir}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    /**
+     * 임시 디렉토리를 만들고, 이전 프로세스가 비정상 종료되며 남긴 파일을 정리한다.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+
+        try (Stream<Path> leftovers = Files.list(directory)) {
+            leftovers
+                .filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX))
+                .forEach(this::deleteQuietly);
+        }
+    }
+
+    /**
+     * 새 임시 파일 경로를 생성한다.
+     *
+     * @param extension 확장자 (예: "wav")
+     * @return 생성된 빈 파일 경로
+     */
+    public Path createTempFile(String extension) {
+        Path path = directory.resolve(FILE_PREFIX + UUID.randomUUID() + "." + extension);
+
+        try {
+            return Files.createFile(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("임시 오디오 파일 생성 실패: " + path, e);
+        }
+    }
+
+    public void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 오디오 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.blooming.inpeak.answer.audio;
+
+/**
+ * 전처리된 오디오
+ * 변환된 경우 audio 는 새 임시 파일이며 close() 시 삭제된다.
+ * 변환하지 못한 형식(webm 등)은 원본을 그대로 담고, close() 해도 원본은 삭제하지 않는다.
+ *
+ * @param audio           STT 에 보낼 오디오
+ * @param durationSeconds 서버에서 측정한 원본 길이 (초), 측정할 수 없으면 null
+ * @param speechSeconds   무음을 잘라낸 뒤의 길이 (초), 측정할 수 없으면 null
+ * @param converted       전처리로 새 파일을 만들었는지 여부
+ */
+public record PreprocessedAudio(
+    AudioFile audio,
+    Double durationSeconds,
+    Double speechSeconds,
+    boolean converted
+) implements AutoCloseable {
+
+    public static PreprocessedAudio passThrough(AudioFile source) {
+        return new PreprocessedAudio(source, null, null, false);
+    }
+
+    /**
+     * 음성이 감지되지 않은 오디오
+     * 변환할 음성이 없으므로 원본을 그대로 담는다.
+     *
+     * @param source          원본 오디오
+     * @param durationSeconds 원본 길이 (초)
+     */
+    public static PreprocessedAudio silent(AudioFile source, double durationSeconds) {
+        return new PreprocessedAudio(source, durationSeconds, 0.0, false);
+    }
+
+    public boolean isSilent() {
+        return speechSeconds != null && speechSeconds == 0;
+    }
+
+    @Override
+    public void close() {
+        if (converted) {
+            audio.close();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.blooming.inpeak.answer.audio;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 WAV 파일을 무음 구간 기준으로 여러 조각으로 나눈다.
+ * 목표 길이마다 앞뒤 search-window 범위에서 가장 조용한 구간을 찾아 자르므로,
+ * 단어 중간이 잘려 인식 품질이 떨어지는 것을 피한다.
+ * 16bit PCM WAV 가 아니면 나누지 않는다.
+ */
+@Slf4j
+@Component
+public class WavChunker {
+
+    // 무음 판단에 사용하는 분석 구간 길이
+    private static final int ANALYSIS_WINDOW_MILLIS = 50;
+
+    private final AudioFileStorage audioFileStorage;
+    private final double chunkSeconds;
+    private final double searchWindowSeconds;
+
+    public WavChunker(
+        AudioFileStorage audioFileStorage,
+        @Value("${audio.chunk.duration}") Duration chunkDuration,
+        @Value("${audio.chunk.search-window}") Duration searchWindow
+    ) {
+        this.audioFileStorage = audioFileStorage;
+        this.chunkSeconds = chunkDuration.toMillis() / 1000.0;
+        this.searchWindowSeconds = searchWindow.toMillis() / 1000.0;
+    }
+
+    /**
+     * 파일을 조각으로 나눈다.
+     * 반환된 조각은 새 임시 파일이므로 사용 후 각각 close() 해야 한다.
+     *
+     * @param source 원본 오디오 파일 (변경되지 않는다)
+     * @return 순서대로 정렬된 조각 목록, 나눌 필요가 없거나 나눌 수 없으면 빈 목록
+     */
+    public List<AudioFile> split(AudioFile source) {
+        try {
+            Optional<WavHeader> header = WavHeader.read(source.path());
+            if (header.isEmpty() || !header.get().isPcm16()) {
+                return List.of();
+            }
+
+            WavHeader wav = header.get();
+            int chunkCount = (int) Math.ceil(wav.durationSeconds() / chunkSeconds);
+            if (chunkCount <= 1) {
+                return List.of();
+            }
+
+            try (FileChannel channel = FileChannel.open(source.path(), StandardOpenOption.READ)) {
+                List<Long> boundaries = findBoundaries(channel, wav, chunkCount);
+                log.info("오디오 분할: duration={}s, chunks={}",
+                    String.format("%.1f", wav.durationSeconds()), boundaries.size() - 1);
+                return writeChunks(channel, wav, boundaries);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("오디오 분할 실패: " + source.path(), e);
+        }
+    }
+
+    // 조각 경계 (프레임 단위, 처음과 끝 포함)
+    private List<Long> findBoundaries(FileChannel channel, WavHeader wav, int chunkCount)
+        throws IOException {
+        long totalFrames = wav.frameCount();
+        long targetFrames = totalFrames / chunkCount;
+        long searchFrames = (long) (searchWindowSeconds * wav.sampleRate());
+
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        for (int i = 1; i < chunkCount; i++) {
+            long target = targetFrames * i;
+            long from = Math.max(boundaries.get(boundaries.size() - 1) + 1, target - searchFrames);
+            long to = Math.min(totalFrames, target + searchFrames);
+            boundaries.add(findQuietestFrame(channel, wav, from, to, target));
+        }
+        boundaries.add(totalFrames);
+        return boundaries;
+    }
+
+    // [from, to) 범위에서 RMS 가 가장 작은 분석 구간의 가운데 프레임
+    private long findQuietestFrame(FileChannel channel, WavHeader wav, long from, long to,
+        long fallback) throws IOException {
+        int windowFrames = Math.max(1, wav.sampleRate() * ANALYSIS_WINDOW_MILLIS / 1000);
+        if (to - from < windowFrames) {
+            return fallback;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(windowFrames * wav.blockAlign())
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+        long best = fallback;
+        double bestEnergy = Double.MAX_VALUE;
+        for (long frame = from; frame + windowFrames <= to; frame += windowFrames) {
+            buffer.clear();
+            long position = wav.dataOffset() + frame * wav.blockAlign();
+            while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) > 0) {
+                // 구간을 끝까지 읽는다.
+            }
+            buffer.flip();
+
+            double energy = meanSquare(buffer);
+            // 같은 에너지면 목표 지점에 더 가까운 구간을 고른다.
+            long center = frame + windowFrames / 2;
+            if (energy < bestEnergy || (energy == bestEnergy
+                && Math.abs(center - fallback) < Math.abs(best - fallback))) {
+                bestEnergy = energy;
+                best = center;
+            }
+        }
+        return best;
+    }
+
+    private double meanSquare(ByteBuffer samples) {
+        int count = samples.remaining() / 2;
+        if (count == 0) {
+            return Double.MAX_VALUE;
+        }
+
+        double sum = 0;
+        while (samples.remaining() >= 2) {
+            double sample = samples.getShort();
+            sum += sample * sample;
+        }
+        return sum / count;
+    }
+
+    private List<AudioFile> writeChunks(FileChannel source, WavHeader wav, List<Long> boundaries)
+        throws IOException {
+        List<AudioFile> chunks = new ArrayList<>(boundaries.size() - 1);
+        try {
+            for (int i = 0; i < boundaries.size() - 1; i++) {
+                long start = boundaries.get(i) * wav.blockAlign();
+                long length = (boundaries.get(i + 1) - boundaries.get(i)) * wav.blockAlign();
+                chunks.add(writeChunk(source, wav, wav.dataOffset() + start, length));
+            }
+            return chunks;
+        } catch (IOException | RuntimeException e) {
+            chunks.forEach(AudioFile::close);
+            throw e;
+        }
+    }
+
+    private AudioFile writeChunk(FileChannel source, WavHeader wav, long offset, long length)
+        throws IOException {
+        Path target = audioFileStorage.createTempFile("wav");
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            ByteBuffer header = wav.canonicalHeader(length);
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+
+            long copied = 0;
+            while (copied < length) {
+                long transferred = source.transferTo(offset + copied, length - copied, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                copied += transferred;
+            }
+            return new AudioFile(target, WavHeader.CANONICAL_HEADER_SIZE + copied);
+        } catch (IOException | RuntimeException e) {
+            audioFileStorage.deleteQuietly(target);
+            throw e;
+        }
+    }
+}
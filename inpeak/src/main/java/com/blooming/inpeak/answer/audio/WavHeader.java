@@ -0,0 +1,208 @@
+package com.blooming.inpeak.answer.audio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * WAV(RIFF) 파일의 포맷 정보와 PCM 데이터 위치
+ *
+ * @param audioFormat   포맷 코드 (1: PCM, 3: IEEE float)
+ *                      EXTENSIBLE 은 SubFormat 의 포맷 코드로 바꿔 담고, SubFormat 을 알 수 없으면 0xFFFE 로 남긴다.
+ * @param channels      채널 수
+ * @param sampleRate    샘플레이트 (Hz)
+ * @param bitsPerSample 샘플당 비트 수
+ * @param blockAlign    프레임 크기 (byte)
+ * @param dataOffset    data 청크 본문 시작 위치
+ * @param dataLength    data 청크 본문 길이
+ */
+public record WavHeader(
+    int audioFormat,
+    int channels,
+    int sampleRate,
+    int bitsPerSample,
+    int blockAlign,
+    long dataOffset,
+    long dataLength
+) {
+
+    public static final int CANONICAL_HEADER_SIZE = 44;
+
+    private static final int FORMAT_PCM = 1;
+    private static final int FORMAT_FLOAT = 3;
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+    // EXTENSIBLE fmt 청크의 cbSize 이후 확장 영역 크기와 그 안의 SubFormat GUID 위치
+    private static final int EXTENSION_SIZE = 22;
+    private static final int SUB_FORMAT_OFFSET = 24;
+
+    // KSDATAFORMAT_SUBTYPE_* GUID 의 공통 뒷부분 (앞 2byte 가 포맷 코드)
+    private static final byte[] SUB_FORMAT_SUFFIX = {
+        0x00, 0x00, 0x00, 0x00, 0x10, 0x00, (byte) 0x80, 0x00, 0x00, (byte) 0xAA, 0x00, 0x38,
+        (byte) 0x9B, 0x71
+    };
+
+    /**
+     * 파일 앞부분의 청크를 읽어 헤더를 파싱한다.
+     *
+     * @return WAV 파일이 아니거나 필요한 청크가 없으면 빈 값
+     */
+    public static Optional<WavHeader> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer riff = readAt(channel, 0, 12);
+            if (riff == null || riff.getInt(0) != 0x46464952 || riff.getInt(8) != 0x45564157) {
+                // "RIFF" ... "WAVE"
+                return Optional.empty();
+            }
+
+            Integer audioFormat = null;
+            int channels = 0;
+            int sampleRate = 0;
+            int bitsPerSample = 0;
+            int blockAlign = 0;
+
+            long position = 12;
+            while (position + 8 <= channel.size()) {
+                ByteBuffer chunk = readAt(channel, position, 8);
+                if (chunk == null) {
+                    return Optional.empty();
+                }
+                int chunkId = chunk.getInt(0);
+                long chunkSize = Integer.toUnsignedLong(chunk.getInt(4));
+                long body = position + 8;
+
+                if (chunkId == 0x20746d66) {
+                    // "fmt "
+                    ByteBuffer fmt = readAt(channel, body, 16);
+                    if (fmt == null) {
+                        return Optional.empty();
+                    }
+                    audioFormat = Short.toUnsignedInt(fmt.getShort(0));
+                    if (audioFormat == FORMAT_EXTENSIBLE) {
+                        audioFormat = readSubFormat(channel, body, chunkSize);
+                    }
+                    channels = Short.toUnsignedInt(fmt.getShort(2));
+                    sampleRate = fmt.getInt(4);
+                    blockAlign = Short.toUnsignedInt(fmt.getShort(12));
+                    bitsPerSample = Short.toUnsignedInt(fmt.getShort(14));
+
+                } else if (chunkId == 0x61746164) {
+                    // "data" (스트리밍 녹음은 크기가 0 또는 최대값으로 기록되기도 한다)
+                    if (audioFormat == null) {
+                        return Optional.empty();
+                    }
+                    long available = channel.size() - body;
+                    long dataLength = chunkSize == 0 || chunkSize > available ? available : chunkSize;
+                    return Optional.of(new WavHeader(audioFormat, channels, sampleRate,
+                        bitsPerSample, blockAlign, body, dataLength));
+                }
+
+                // 청크는 짝수 바이트 단위로 정렬된다.
+                position = body + chunkSize + (chunkSize % 2);
+            }
+            return Optional.empty();
+        }
+    }
+
+    // EXTENSIBLE 의 실제 포맷 코드. SubFormat 이 없거나 표준 GUID 가 아니면 EXTENSIBLE 그대로 둔다.
+    private static int readSubFormat(FileChannel channel, long body, long chunkSize)
+        throws IOException {
+        if (chunkSize < SUB_FORMAT_OFFSET + 16) {
+            return FORMAT_EXTENSIBLE;
+        }
+        ByteBuffer extension = readAt(channel, body + 16, SUB_FORMAT_OFFSET);
+        if (extension == null || Short.toUnsignedInt(extension.getShort(0)) < EXTENSION_SIZE) {
+            return FORMAT_EXTENSIBLE;
+        }
+
+        byte[] guid = new byte[16];
+        extension.get(SUB_FORMAT_OFFSET - 16, guid);
+        if (!Arrays.equals(guid, 2, 16, SUB_FORMAT_SUFFIX, 0, SUB_FORMAT_SUFFIX.length)) {
+            return FORMAT_EXTENSIBLE;
+        }
+        return Short.toUnsignedInt(extension.getShort(SUB_FORMAT_OFFSET - 16));
+    }
+
+    /**
+     * 파일이 RIFF/WAVE 시그니처로 시작하는지 확인한다.
+     * 시그니처는 있는데 {@link #read(Path)}가 실패하면 손상된 WAV 파일이다.
+     */
+    public static boolean hasRiffSignature(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer riff = readAt(channel, 0, 12);
+            return riff != null && riff.getInt(0) == 0x46464952 && riff.getInt(8) == 0x45564157;
+        }
+    }
+
+    /**
+     * 정수 PCM(8/16/24/32bit) 또는 32bit float 이면 샘플 값을 직접 읽을 수 있다.
+     */
+    public boolean isDecodable() {
+        if (channels <= 0 || sampleRate <= 0 || blockAlign != channels * (bitsPerSample / 8)) {
+            return false;
+        }
+        if (audioFormat == FORMAT_FLOAT) {
+            return bitsPerSample == 32;
+        }
+        return audioFormat == FORMAT_PCM
+            && (bitsPerSample == 8 || bitsPerSample == 16 || bitsPerSample == 24
+            || bitsPerSample == 32);
+    }
+
+    public boolean isFloat() {
+        return audioFormat == FORMAT_FLOAT;
+    }
+
+    /**
+     * 16bit PCM 이면 샘플 값을 직접 분석할 수 있다.
+     */
+    public boolean isPcm16() {
+        return audioFormat == FORMAT_PCM
+            && bitsPerSample == 16 && channels > 0 && blockAlign == channels * 2;
+    }
+
+    public long frameCount() {
+        return blockAlign == 0 ? 0 : dataLength / blockAlign;
+    }
+
+    public double durationSeconds() {
+        return sampleRate == 0 ? 0 : (double) frameCount() / sampleRate;
+    }
+
+    /**
+     * 지정한 길이의 PCM 데이터를 담는 44byte 표준 헤더를 만든다.
+     */
+    public ByteBuffer canonicalHeader(long dataLength) {
+        ByteBuffer header = ByteBuffer.allocate(CANONICAL_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0x46464952);                       // "RIFF"
+        header.putInt((int) (36 + dataLength));
+        header.putInt(0x45564157);                       // "WAVE"
+        header.putInt(0x20746d66);                       // "fmt "
+        header.putInt(16);
+        header.putShort((short) FORMAT_PCM);
+        header.putShort((short) channels);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * blockAlign);          // byteRate
+        header.putShort((short) blockAlign);
+        header.putShort((short) bitsPerSample);
+        header.putInt(0x61746164);                       // "data"
+        header.putInt((int) dataLength);
+        return header.flip();
+    }
+
+    private static ByteBuffer readAt(FileChannel channel, long position, int length)
+        throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return null;
+            }
+        }
+        return buffer.flip();
+    }
+}
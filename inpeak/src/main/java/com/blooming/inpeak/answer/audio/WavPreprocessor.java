@@ -0,0 +1,351 @@
+package com.blooming.inpeak.answer.audio;
+
+import com.blooming.inpeak.common.error.exception.InvalidAudioException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * STT 전 WAV 전처리
+ * <ol>
+ *     <li>RIFF 헤더를 파싱하고, 빈 파일 / 손상된 파일 / 최대 길이를 넘는 파일은 STT 호출 전에 거절한다.</li>
+ *     <li>에너지 기반 VAD 로 앞뒤 무음을 잘라낸다. 음성이 전혀 없으면 변환하지 않고 무음으로 표시한다.</li>
+ *     <li>모노로 다운믹스하고 16kHz 16bit PCM 으로 리샘플링한다.</li>
+ * </ol>
+ * 파일은 블록 단위로 두 번 읽으므로 메모리 사용량은 오디오 길이와 무관하다.
+ * WAV 가 아니거나 디코딩할 수 없는 형식(webm 등)은 그대로 통과시킨다.
+ */
+@Slf4j
+@Component
+public class WavPreprocessor {
+
+    private static final int BLOCK_FRAMES = 8_192;
+
+    private final AudioFileStorage audioFileStorage;
+    private final int targetSampleRate;
+    private final Duration maxDuration;
+    private final Duration vadFrame;
+    private final double minSpeechRms;
+    private final double noiseFactor;
+    private final Duration padding;
+
+    public WavPreprocessor(
+        AudioFileStorage audioFileStorage,
+        @Value("${audio.preprocess.target-sample-rate}") int targetSampleRate,
+        @Value("${audio.preprocess.max-duration}") Duration maxDuration,
+        @Value("${audio.preprocess.vad-frame}") Duration vadFrame,
+        @Value("${audio.preprocess.min-speech-rms}") double minSpeechRms,
+        @Value("${audio.preprocess.noise-factor}") double noiseFactor,
+        @Value("${audio.preprocess.padding}") Duration padding
+    ) {
+        this.audioFileStorage = audioFileStorage;
+        this.targetSampleRate = targetSampleRate;
+        this.maxDuration = maxDuration;
+        this.vadFrame = vadFrame;
+        this.minSpeechRms = minSpeechRms;
+        this.noiseFactor = noiseFactor;
+        this.padding = padding;
+    }
+
+    /**
+     * 오디오를 전처리한다.
+     *
+     * @param source 내려받은 원본 오디오 (변경되지 않는다)
+     * @return 전처리 결과, 사용 후 close() 해야 한다.
+     * @throws InvalidAudioException 비어 있거나 손상되었거나 너무 긴 오디오
+     */
+    public PreprocessedAudio preprocess(AudioFile source) {
+        if (source.size() == 0) {
+            throw new InvalidAudioException("빈 오디오 파일");
+        }
+
+        try {
+            Optional<WavHeader> parsed = WavHeader.read(source.path());
+            if (parsed.isEmpty()) {
+                if (WavHeader.hasRiffSignature(source.path())) {
+                    throw new InvalidAudioException("손상된 WAV 파일");
+                }
+                return PreprocessedAudio.passThrough(source);
+            }
+
+            WavHeader wav = parsed.get();
+            if (!wav.isDecodable()) {
+                log.warn("지원하지 않는 WAV 형식, 전처리 생략: format={}, bits={}", wav.audioFormat(),
+                    wav.bitsPerSample());
+                return PreprocessedAudio.passThrough(source);
+            }
+
+            validate(wav);
+            return convert(source, wav);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("오디오 전처리 실패: " + source.path(), e);
+        }
+    }
+
+    private void validate(WavHeader wav) {
+        if (wav.frameCount() == 0) {
+            throw new InvalidAudioException("오디오 데이터 없음");
+        }
+        if (wav.durationSeconds() > maxDuration.toSeconds()) {
+            throw new InvalidAudioException(
+                String.format("오디오 길이 초과: %.1fs > %ds", wav.durationSeconds(),
+                    maxDuration.toSeconds()));
+        }
+    }
+
+    private PreprocessedAudio convert(AudioFile source, WavHeader wav) throws IOException {
+        try (FileChannel in = FileChannel.open(source.path(), StandardOpenOption.READ)) {
+            long[] speech = detectSpeech(in, wav);
+            if (speech == null) {
+                // 답하지 못한 것도 답변이므로 거절하지 않고 빈 답변으로 채점하게 한다.
+                log.info("음성이 감지되지 않은 오디오: {}s", String.format("%.1f",
+                    wav.durationSeconds()));
+                return PreprocessedAudio.silent(source, wav.durationSeconds());
+            }
+            long speechFrames = speech[1] - speech[0];
+
+            Path target = audioFileStorage.createTempFile("wav");
+            try {
+                long size = writeMono16(in, wav, speech[0], speech[1], target);
+
+                double duration = wav.durationSeconds();
+                double speechSeconds = (double) speechFrames / wav.sampleRate();
+                log.info("오디오 전처리 완료: {}Hz {}ch {}s -> {}Hz 1ch {}s, {}B -> {}B",
+                    wav.sampleRate(), wav.channels(), String.format("%.1f", duration),
+                    targetSampleRate, String.format("%.1f", speechSeconds), wav.dataLength(), size);
+
+                return new PreprocessedAudio(new AudioFile(target, size), duration, speechSeconds,
+                    true);
+            } catch (IOException | RuntimeException e) {
+                audioFileStorage.deleteQuietly(target);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 프레임별 RMS 를 구해 음성 구간의 시작/끝 프레임을 찾는다.
+     * 임계값은 하위 10% 구간의 에너지(배경 소음)의 noiseFactor 배와 minSpeechRms 중 큰 값이다.
+     * 중간의 무음은 자르지 않는다. 음성 구간이 없으면 null 을 반환한다.
+     */
+    private long[] detectSpeech(FileChannel in, WavHeader wav) throws IOException {
+        int frameSize = (int) Math.max(1, wav.sampleRate() * vadFrame.toMillis() / 1000);
+        int vadFrames = (int) Math.ceil((double) wav.frameCount() / frameSize);
+        double[] rms = new double[vadFrames];
+
+        PcmReader reader = new PcmReader(in, wav, 0, wav.frameCount());
+        double[] block = new double[BLOCK_FRAMES];
+        long frame = 0;
+        double sum = 0;
+        int read;
+        while ((read = reader.read(block)) > 0) {
+            for (int i = 0; i < read; i++, frame++) {
+                sum += block[i] * block[i];
+                if ((frame + 1) % frameSize == 0 || frame + 1 == wav.frameCount()) {
+                    int index = (int) (frame / frameSize);
+                    int count = (int) (frame - (long) index * frameSize + 1);
+                    rms[index] = Math.sqrt(sum / count);
+                    sum = 0;
+                }
+            }
+        }
+
+        double[] sorted = rms.clone();
+        Arrays.sort(sorted);
+        double noiseFloor = sorted[(int) (sorted.length * 0.1)];
+        // 무음 없이 말만 있는 녹음에서 배경 소음을 과대평가하지 않도록 상위 에너지의 절반을 넘지 않게 한다.
+        double loud = sorted[(int) (sorted.length * 0.9)];
+        double threshold = Math.max(minSpeechRms, Math.min(noiseFloor * noiseFactor, loud * 0.5));
+
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < rms.length; i++) {
+            if (rms[i] >= threshold) {
+                if (first < 0) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        if (first < 0) {
+            return null;
+        }
+
+        long paddingFrames = wav.sampleRate() * padding.toMillis() / 1000;
+        long start = Math.max(0, (long) first * frameSize - paddingFrames);
+        long end = Math.min(wav.frameCount(), (long) (last + 1) * frameSize + paddingFrames);
+        return new long[]{start, end};
+    }
+
+    // 모노 16bit PCM 으로 변환해 기록하고 파일 크기를 반환한다.
+    private long writeMono16(FileChannel in, WavHeader wav, long startFrame, long endFrame,
+        Path target) throws IOException {
+        WavHeader output = new WavHeader(1, 1, targetSampleRate, 16, 2,
+            WavHeader.CANONICAL_HEADER_SIZE, 0);
+
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            out.position(WavHeader.CANONICAL_HEADER_SIZE);
+
+            Resampler resampler = new Resampler(wav.sampleRate(), targetSampleRate);
+            PcmReader reader = new PcmReader(in, wav, startFrame, endFrame);
+            double[] block = new double[BLOCK_FRAMES];
+            double[] resampled = new double[resampler.maxOutput(BLOCK_FRAMES)];
+            ByteBuffer buffer = ByteBuffer.allocate(resampled.length * 2)
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+            long dataLength = 0;
+            int read;
+            while ((read = reader.read(block)) > 0) {
+                int produced = resampler.process(block, read, resampled);
+
+                buffer.clear();
+                for (int i = 0; i < produced; i++) {
+                    double sample = Math.max(-1.0, Math.min(1.0, resampled[i]));
+                    buffer.putShort((short) Math.round(sample * Short.MAX_VALUE));
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    dataLength += out.write(buffer);
+                }
+            }
+
+            ByteBuffer header = output.canonicalHeader(dataLength);
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += out.write(header, position);
+            }
+            return WavHeader.CANONICAL_HEADER_SIZE + dataLength;
+        }
+    }
+
+    /**
+     * PCM 데이터를 블록 단위로 읽어 채널 평균(모노) 값을 [-1, 1] 범위로 반환한다.
+     */
+    private static class PcmReader {
+
+        private final FileChannel channel;
+        private final WavHeader wav;
+        private final int bytesPerSample;
+        private final ByteBuffer buffer;
+        private long frame;
+        private final long endFrame;
+
+        PcmReader(FileChannel channel, WavHeader wav, long startFrame, long endFrame) {
+            this.channel = channel;
+            this.wav = wav;
+            this.bytesPerSample = wav.bitsPerSample() / 8;
+            this.buffer = ByteBuffer.allocate(BLOCK_FRAMES * wav.blockAlign())
+                .order(ByteOrder.LITTLE_ENDIAN);
+            this.frame = startFrame;
+            this.endFrame = endFrame;
+        }
+
+        int read(double[] out) throws IOException {
+            int frames = (int) Math.min(out.length, endFrame - frame);
+            if (frames <= 0) {
+                return 0;
+            }
+
+            buffer.clear().limit(frames * wav.blockAlign());
+            long position = wav.dataOffset() + frame * wav.blockAlign();
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+
+            int completeFrames = buffer.remaining() / wav.blockAlign();
+            for (int i = 0; i < completeFrames; i++) {
+                double sum = 0;
+                for (int c = 0; c < wav.channels(); c++) {
+                    sum += readSample();
+                }
+                out[i] = sum / wav.channels();
+            }
+            frame += completeFrames;
+            return completeFrames;
+        }
+
+        private double readSample() {
+            if (wav.isFloat()) {
+                return buffer.getFloat();
+            }
+            return switch (bytesPerSample) {
+                case 1 -> (Byte.toUnsignedInt(buffer.get()) - 128) / 128.0;
+                case 2 -> buffer.getShort() / 32768.0;
+                case 3 -> {
+                    int value = Byte.toUnsignedInt(buffer.get())
+                        | Byte.toUnsignedInt(buffer.get()) << 8
+                        | buffer.get() << 16;
+                    yield value / 8388608.0;
+                }
+                default -> buffer.getInt() / 2147483648.0;
+            };
+        }
+    }
+
+    /**
+     * 스트리밍 리샘플러
+     * 다운샘플링은 출력 샘플 하나가 덮는 입력 구간의 평균(박스 필터)으로 앨리어싱을 줄이고,
+     * 업샘플링은 선형 보간한다.
+     */
+    private static class Resampler {
+
+        private final double step;   // 출력 샘플 하나당 입력 샘플 수
+        private double nextBoundary;  // 다음 출력 샘플이 끝나는 입력 위치
+        private long inputIndex;
+        private double sum;
+        private int count;
+        private double previous;
+
+        Resampler(int inputRate, int outputRate) {
+            this.step = (double) inputRate / outputRate;
+            this.nextBoundary = step;
+        }
+
+        int maxOutput(int inputLength) {
+            return (int) Math.ceil(inputLength / step) + 2;
+        }
+
+        int process(double[] input, int length, double[] output) {
+            int produced = 0;
+            for (int i = 0; i < length; i++, inputIndex++) {
+                double sample = input[i];
+
+                if (step >= 1) {
+                    sum += sample;
+                    count++;
+                    if (inputIndex + 1 >= nextBoundary) {
+                        output[produced++] = sum / count;
+                        sum = 0;
+                        count = 0;
+                        nextBoundary += step;
+                    }
+                } else {
+                    // 입력 [inputIndex - 1, inputIndex) 사이에 놓이는 출력 샘플을 보간한다.
+                    while (nextBoundary - step <= inputIndex) {
+                        double position = nextBoundary - step;
+                        double fraction = position - (inputIndex - 1);
+                        output[produced++] = inputIndex == 0 ? sample
+                            : previous + (sample - previous) * fraction;
+                        nextBoundary += step;
+                    }
+                    previous = sample;
+                }
+            }
+            return produced;
+        }
+    }
+}
@@ -16,11 +16,13 @@ import com.blooming.inpeak.answer.dto.response.AnswerPresignedUrlResponse;
 import com.blooming.inpeak.answer.dto.response.InterviewWithAnswersResponse;
 import com.blooming.inpeak.answer.dto.response.RecentAnswerListResponse;
 import com.blooming.inpeak.answer.dto.response.TaskIDResponse;
-import com.blooming.inpeak.answer.service.AnswerAsyncService;
+import com.blooming.inpeak.answer.service.AnswerIdempotencyService;
 import com.blooming.inpeak.answer.service.AnswerService;
+import com.blooming.inpeak.answer.service.AnswerTaskEventService;
 import com.blooming.inpeak.member.dto.MemberPrincipal;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,9 +30,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/answer")
@@ -38,7 +42,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnswerController {
 
     private final AnswerService answerService;
-    private final AnswerAsyncService answerAsyncService;
+    private final AnswerIdempotencyService answerIdempotencyService;
+    private final AnswerTaskEventService answerTaskEventService;
 
     @PostMapping("/skip")
     public ResponseEntity<AnswerIDResponse> skipAnswer(
@@ -98,10 +103,11 @@ public class AnswerController {
     @PostMapping("/create")
     public ResponseEntity<TaskIDResponse> createAnswer(
         @AuthenticationPrincipal MemberPrincipal memberPrincipal,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody AnswerCreateRequest request
     ) {
-        return ResponseEntity.ok(answerAsyncService.requestAsyncAnswerCreation(request.toCommand(
-            memberPrincipal.id())));
+        return ResponseEntity.ok(answerIdempotencyService.requestAnswerCreation(
+            request.toCommand(memberPrincipal.id()), idempotencyKey));
     }
 
     @PutMapping("/understood")
@@ -129,6 +135,16 @@ public class AnswerController {
         return answerService.findAnswerByTaskId(taskId, memberPrincipal.id());
     }
 
+    @GetMapping(value = "/tasks/{taskId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeAnswerTask(
+        @AuthenticationPrincipal MemberPrincipal memberPrincipal,
+        @PathVariable Long taskId) {
+        return ResponseEntity.ok()
+            // 프록시(nginx)가 이벤트를 버퍼링하지 않도록 한다.
+            .header("X-Accel-Buffering", "no")
+            .body(answerTaskEventService.subscribe(taskId, memberPrincipal.id()));
+    }
+
     @GetMapping("/{answerId}")
     public ResponseEntity<AnswerDetailResponse> getAnswerById(
         @PathVariable Long answerId,
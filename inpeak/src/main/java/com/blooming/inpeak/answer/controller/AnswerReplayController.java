@@ -0,0 +1,48 @@
+package com.blooming.inpeak.answer.controller;
+
+import com.blooming.inpeak.answer.dto.request.AnswerReplayRequest;
+import com.blooming.inpeak.answer.dto.response.AnswerReplayJobResponse;
+import com.blooming.inpeak.answer.service.AnswerReplayService;
+import com.blooming.inpeak.member.dto.MemberPrincipal;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/answer/replays")
+@RequiredArgsConstructor
+public class AnswerReplayController {
+
+    private final AnswerReplayService answerReplayService;
+
+    @PostMapping
+    public ResponseEntity<AnswerReplayJobResponse> createReplayJob(
+        @AuthenticationPrincipal MemberPrincipal memberPrincipal,
+        @Valid @RequestBody AnswerReplayRequest request
+    ) {
+        return ResponseEntity.ok(answerReplayService.createJob(memberPrincipal.id(), request));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AnswerReplayJobResponse> getReplayJob(
+        @AuthenticationPrincipal MemberPrincipal memberPrincipal,
+        @PathVariable Long jobId
+    ) {
+        return ResponseEntity.ok(answerReplayService.getJob(memberPrincipal.id(), jobId));
+    }
+
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<AnswerReplayJobResponse> cancelReplayJob(
+        @AuthenticationPrincipal MemberPrincipal memberPrincipal,
+        @PathVariable Long jobId
+    ) {
+        return ResponseEntity.ok(answerReplayService.cancelJob(memberPrincipal.id(), jobId));
+    }
+}
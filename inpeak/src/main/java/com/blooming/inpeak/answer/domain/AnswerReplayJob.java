@@ -0,0 +1,110 @@
+package com.blooming.inpeak.answer.domain;
+
+import com.blooming.inpeak.common.base.BaseEntity;
+import com.blooming.inpeak.common.error.exception.BadRequestException;
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실패한 답변 작업 일괄 재처리 작업
+ * 실패 시각 범위와 예외 종류로 대상을 고르고, (updated_at, id) 커서를 배치마다 저장해
+ * 서버가 재시작되어도 마지막으로 처리한 작업 다음부터 이어서 진행한다.
+ */
+@Entity
+@Getter
+@Table(name = "answer_replay_jobs")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnswerReplayJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long requestedBy;
+
+    // 실패 시각 범위 [failedFrom, failedTo)
+    @Column(nullable = false)
+    private ZonedDateTime failedFrom;
+
+    @Column(nullable = false)
+    private ZonedDateTime failedTo;
+
+    // 실패 원인에 포함된 예외 이름 (없으면 전체)
+    private String errorClass;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AnswerReplayJobStatus status;
+
+    // 마지막으로 처리한 작업의 (updated_at, id)
+    @Column(nullable = false)
+    private ZonedDateTime cursorUpdatedAt;
+
+    @Column(nullable = false)
+    private Long cursorId;
+
+    @Column(nullable = false)
+    private long replayedCount;
+
+    // 조회 이후 다른 경로로 이미 처리되어 건너뛴 작업 수
+    @Column(nullable = false)
+    private long skippedCount;
+
+    private ZonedDateTime completedAt;
+
+    // 진행 중에 관리자가 중단한 작업을 러너가 덮어쓰지 않도록 하는 낙관적 락 버전
+    @Version
+    private Long version;
+
+    @Builder
+    public AnswerReplayJob(Long requestedBy, ZonedDateTime failedFrom, ZonedDateTime failedTo,
+        String errorClass) {
+        if (!failedFrom.isBefore(failedTo)) {
+            throw new BadRequestException("재처리 범위의 시작 시각은 끝 시각보다 앞서야 합니다.");
+        }
+
+        this.requestedBy = requestedBy;
+        this.failedFrom = failedFrom;
+        this.failedTo = failedTo;
+        this.errorClass = errorClass;
+        this.status = AnswerReplayJobStatus.RUNNING;
+        this.cursorUpdatedAt = failedFrom;
+        this.cursorId = 0L;
+    }
+
+    public boolean isRunning() {
+        return this.status == AnswerReplayJobStatus.RUNNING;
+    }
+
+    /**
+     * 한 배치의 처리 결과를 반영하고 커서를 옮긴다.
+     *
+     * @param lastTask 배치에서 마지막으로 읽은 작업
+     * @param replayed 재처리한 작업 수
+     * @param skipped  건너뛴 작업 수
+     */
+    public void advance(AnswerTask lastTask, int replayed, int skipped) {
+        this.cursorUpdatedAt = lastTask.getUpdatedAt();
+        this.cursorId = lastTask.getId();
+        this.replayedCount += replayed;
+        this.skippedCount += skipped;
+    }
+
+    public void complete() {
+        this.status = AnswerReplayJobStatus.COMPLETED;
+        this.completedAt = ZonedDateTime.now();
+    }
+
+    public void cancel() {
+        if (!isRunning()) {
+            throw new BadRequestException("진행 중인 재처리 작업이 아닙니다. 현재 상태: " + this.status);
+        }
+        this.status = AnswerReplayJobStatus.CANCELLED;
+        this.completedAt = ZonedDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.blooming.inpeak.answer.domain;
+
+public enum AnswerReplayJobStatus {
+    RUNNING,    // 재처리 진행 중 (재시작 후에도 커서부터 이어서 진행)
+    COMPLETED,  // 범위 안의 실패 작업을 모두 재처리함
+    CANCELLED   // 관리자가 중단함
+}
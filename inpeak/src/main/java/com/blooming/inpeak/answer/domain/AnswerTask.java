@@ -4,6 +4,7 @@ import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
 import com.blooming.inpeak.common.base.BaseEntity;
 import com.blooming.inpeak.common.error.exception.BadRequestException;
 import jakarta.persistence.*;
+import java.time.ZonedDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,9 +12,30 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "answer_tasks")
+@Table(
+    name = "answer_tasks",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_answer_tasks_interview_question",
+        columnNames = {"interview_id", "question_id"}
+    ),
+    // 멈춘 작업 정리용: 재발행 횟수별로 오래 갱신되지 않은 대기 작업만 범위 조회한다.
+    indexes = {
+        @Index(
+            name = "idx_answer_tasks_status_reap_updated",
+            columnList = "status, reap_count, updated_at"
+        ),
+        // 실패 작업 일괄 재처리용: 실패 시각 범위를 (updated_at, id) 커서로 이어 읽는다.
+        @Index(
+            name = "idx_answer_tasks_status_updated",
+            columnList = "status, updated_at"
+        )
+    }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AnswerTask extends BaseEntity {
+
+    private static final int FAILURE_REASON_MAX_LENGTH = 1000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,14 +64,46 @@ public class AnswerTask extends BaseEntity {
     @Column(nullable = false)
     private Long time; // 답변 시간 (초 또는 ms)
 
+    private Long measuredTime; // 서버에서 측정한 오디오 길이 (초)
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AnswerTaskStatus status;
 
+    // 파이프라인 진행 단계 (진행률 조회용)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = true)
+    private AnswerTaskStage stage;
+
+    // 단계별 체크포인트: 재시도 시 마지막으로 완료된 단계부터 이어서 처리한다.
+    @Column(columnDefinition = "TEXT")
+    private String transcript;
+
+    @Column(columnDefinition = "TEXT")
+    private String feedback;
+
+    // DLT 로 넘어간 작업의 마지막 실패 원인
+    @Column(length = FAILURE_REASON_MAX_LENGTH)
+    private String failureReason;
+
+    private ZonedDateTime transcribedAt;
+
+    private ZonedDateTime gradedAt;
+
+    private ZonedDateTime completedAt;
+
+    // 멈춘 작업으로 판단되어 다시 발행된 횟수
+    @Column(nullable = false)
+    private int reapCount;
+
+    // 여러 워커가 같은 작업을 동시에 갱신하지 못하도록 하는 낙관적 락 버전
+    @Version
+    private Long version;
+
     @Builder
     public AnswerTask(Long id, Long answerId, Long questionId, Long interviewId,
         Long memberId, String audioFileUrl, String videoUrl, Long time,
-        AnswerTaskStatus status, String questionContent) {
+        AnswerTaskStatus status, AnswerTaskStage stage, String questionContent) {
         this.id = id;
         this.answerId = answerId;
         this.questionId = questionId;
@@ -60,6 +114,7 @@ public class AnswerTask extends BaseEntity {
         this.videoUrl = removeQueryParams(videoUrl);
         this.time = time;
         this.status = status;
+        this.stage = stage != null ? stage : AnswerTaskStage.DOWNLOAD;
     }
 
     public static AnswerTask waiting(AnswerCreateCommand command, String questionContent) {
@@ -75,9 +130,58 @@ public class AnswerTask extends BaseEntity {
             .build();
     }
 
+    public void moveTo(AnswerTaskStage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * STT 결과를 체크포인트로 기록하고 채점 단계로 넘어간다.
+     *
+     * @param transcript 음성 인식 결과
+     */
+    public void completeTranscription(String transcript) {
+        this.transcript = transcript;
+        this.transcribedAt = ZonedDateTime.now();
+        this.stage = AnswerTaskStage.GRADING;
+    }
+
+    /**
+     * 채점 결과를 체크포인트로 기록하고 저장 단계로 넘어간다.
+     *
+     * @param feedback GPT 채점 결과
+     */
+    public void completeGrading(String feedback) {
+        this.feedback = feedback;
+        this.gradedAt = ZonedDateTime.now();
+        this.stage = AnswerTaskStage.PERSIST;
+    }
+
+    /**
+     * 전처리 단계에서 측정한 오디오 길이를 기록한다.
+     *
+     * @param seconds 측정된 길이 (초)
+     */
+    public void recordMeasuredTime(long seconds) {
+        this.measuredTime = seconds;
+    }
+
+    public boolean isTranscribed() {
+        return this.transcript != null;
+    }
+
+    public boolean isGraded() {
+        return this.feedback != null;
+    }
+
+    public boolean isCompleted() {
+        return this.status == AnswerTaskStatus.SUCCESS;
+    }
+
     public void markSuccess(Long answerId) {
         this.status = AnswerTaskStatus.SUCCESS;
+        this.stage = AnswerTaskStage.DONE;
         this.answerId = answerId;
+        this.completedAt = ZonedDateTime.now();
     }
 
     private static String removeQueryParams(String url) {
@@ -89,11 +193,19 @@ public class AnswerTask extends BaseEntity {
         this.status = AnswerTaskStatus.FAILED;
     }
 
+    public void markFailed(String reason) {
+        markFailed();
+        this.failureReason = reason != null && reason.length() > FAILURE_REASON_MAX_LENGTH
+            ? reason.substring(0, FAILURE_REASON_MAX_LENGTH) : reason;
+    }
+
     public void retry() {
         if (this.status != AnswerTaskStatus.FAILED) {
             throw new BadRequestException("작업 상태가 실패 상태가 아닙니다. 현재 상태: " + this.status);
         }
 
         this.status = AnswerTaskStatus.WAITING;
+        this.failureReason = null;
+        this.reapCount = 0;
     }
 }
@@ -0,0 +1,62 @@
+package com.blooming.inpeak.answer.domain;
+
+import com.blooming.inpeak.common.base.BaseEntity;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 답변 작업 발행 대기열 (트랜잭셔널 아웃박스)
+ * 작업과 같은 트랜잭션에서 저장되므로, 커밋된 작업만 발행되고 커밋된 작업은 반드시 발행된다.
+ * 릴레이가 Kafka 발행을 확인한 뒤 삭제한다.
+ */
+@Entity
+@Getter
+@Table(name = "answer_task_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnswerTaskOutbox extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(nullable = false)
+    private String messageKey;
+
+    @Builder
+    public AnswerTaskOutbox(Long id, Long taskId, String topic, String messageKey) {
+        this.id = id;
+        this.taskId = taskId;
+        this.topic = topic;
+        this.messageKey = messageKey;
+    }
+
+    // 같은 회원의 작업은 같은 파티션에서 순서대로 처리되도록 회원 ID를 키로 사용한다.
+    public static AnswerTaskOutbox of(AnswerTask task, String topic) {
+        return AnswerTaskOutbox.builder()
+            .taskId(task.getId())
+            .topic(topic)
+            .messageKey(String.valueOf(task.getMemberId()))
+            .build();
+    }
+
+    // 멈춘 작업이나 실패한 작업을 다시 발행할 때는 체크포인트가 남아 있는 단계부터 시작해
+    // 다운로드나 OpenAI 호출을 반복하지 않는다.
+    public static String resumeTopic(AnswerTask task) {
+        if (task.isGraded()) {
+            return KafkaTopics.ANSWER_PERSIST;
+        }
+        if (task.isTranscribed()) {
+            return KafkaTopics.ANSWER_GRADING;
+        }
+        return KafkaTopics.ANSWER_TASK;
+    }
+}
@@ -0,0 +1,9 @@
+package com.blooming.inpeak.answer.domain;
+
+public enum AnswerTaskStage {
+    DOWNLOAD,   // S3 오디오 다운로드 대기
+    STT,        // Whisper 음성 인식 중
+    GRADING,    // GPT 채점 중
+    PERSIST,    // 답변 저장 중
+    DONE        // 모든 단계 완료
+}
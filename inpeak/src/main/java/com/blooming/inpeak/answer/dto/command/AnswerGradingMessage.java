@@ -0,0 +1,22 @@
+package com.blooming.inpeak.answer.dto.command;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AnswerGradingMessage(
+    Long taskId,
+    String transcript,
+    AnswerTaskPayload payload
+) {
+
+    // payload 가 없는 이전 형식
+    public AnswerGradingMessage(Long taskId, String transcript) {
+        this(taskId, transcript, null);
+    }
+
+    // 작업에 기록된 체크포인트로 이 단계를 다시 시작한다.
+    public static AnswerGradingMessage of(AnswerTask task) {
+        return new AnswerGradingMessage(task.getId(), task.getTranscript(), AnswerTaskPayload.from(task));
+    }
+}
@@ -0,0 +1,23 @@
+package com.blooming.inpeak.answer.dto.command;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AnswerPersistMessage(
+    Long taskId,
+    String feedback,
+    AnswerTaskPayload payload
+) {
+
+    // payload 가 없는 이전 형식
+    public AnswerPersistMessage(Long taskId, String feedback) {
+        this(taskId, feedback, null);
+    }
+
+    // 작업에 기록된 체크포인트로 이 단계를 다시 시작한다.
+    public static AnswerPersistMessage of(AnswerTask task) {
+        return new AnswerPersistMessage(task.getId(), task.getFeedback(),
+            AnswerTaskPayload.from(task));
+    }
+}
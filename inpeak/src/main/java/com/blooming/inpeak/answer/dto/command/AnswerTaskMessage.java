@@ -1,3 +1,27 @@
 package com.blooming.inpeak.answer.dto.command;
 
-public record AnswerTaskMessage (Long taskId){ }
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 1단계(다운로드 + STT) 메시지
+ * schemaVersion 1 은 taskId 만 가진 이전 형식이며, 컨슈머가 작업을 조회해 payload 를 채운다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AnswerTaskMessage(
+    int schemaVersion,
+    Long taskId,
+    AnswerTaskPayload payload
+) {
+
+    public static final int CURRENT_SCHEMA_VERSION = 2;
+
+    public AnswerTaskMessage(Long taskId) {
+        this(1, taskId, null);
+    }
+
+    public static AnswerTaskMessage of(AnswerTask task) {
+        return new AnswerTaskMessage(CURRENT_SCHEMA_VERSION, task.getId(),
+            AnswerTaskPayload.from(task));
+    }
+}
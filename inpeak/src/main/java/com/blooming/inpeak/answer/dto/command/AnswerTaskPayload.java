@@ -0,0 +1,17 @@
+package com.blooming.inpeak.answer.dto.command;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+
+/**
+ * 파이프라인 메시지에 실어 보내는 작업 정보
+ * 컨슈머가 AnswerTask 를 다시 조회하지 않고 다운로드 / 채점 / 답변 저장을 처리할 수 있게 한다.
+ */
+public record AnswerTaskPayload(
+    AnswerCreateCommand command,
+    String questionContent
+) {
+
+    public static AnswerTaskPayload from(AnswerTask task) {
+        return new AnswerTaskPayload(AnswerCreateCommand.from(task), task.getQuestionContent());
+    }
+}
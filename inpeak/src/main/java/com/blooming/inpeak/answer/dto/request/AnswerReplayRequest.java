@@ -0,0 +1,19 @@
+package com.blooming.inpeak.answer.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.ZonedDateTime;
+
+/**
+ * 실패 작업 일괄 재처리 요청
+ *
+ * @param failedFrom 실패 시각 범위 시작 (포함)
+ * @param failedTo   실패 시각 범위 끝 (제외, 없으면 요청 시각)
+ * @param errorClass 실패 원인에 포함된 예외 이름 (예: GPTApiException, 없으면 전체)
+ */
+public record AnswerReplayRequest(
+    @NotNull
+    ZonedDateTime failedFrom,
+    ZonedDateTime failedTo,
+    String errorClass
+) {
+}
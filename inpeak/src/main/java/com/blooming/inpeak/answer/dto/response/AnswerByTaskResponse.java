@@ -1,18 +1,37 @@
 package com.blooming.inpeak.answer.dto.response;
 
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskStage;
+import com.blooming.inpeak.answer.domain.AnswerTaskStatus;
+
 public record AnswerByTaskResponse(
     Long taskId,
     String status,
-    Long answerId) {
-    public static AnswerByTaskResponse waiting(Long taskId) {
-        return new AnswerByTaskResponse(taskId, "WAITING", null);
+    Long answerId,
+    String stage) {
+    public static AnswerByTaskResponse from(AnswerTask task) {
+        if (task.getStatus() == AnswerTaskStatus.SUCCESS) {
+            return success(task.getId(), task.getAnswerId());
+        }
+        if (task.getStatus() == AnswerTaskStatus.FAILED) {
+            return failed(task.getId(), task.getStage());
+        }
+        return waiting(task.getId(), task.getStage());
+    }
+
+    public static AnswerByTaskResponse waiting(Long taskId, AnswerTaskStage stage) {
+        return new AnswerByTaskResponse(taskId, "WAITING", null, stageName(stage));
     }
 
-    public static AnswerByTaskResponse failed(Long taskId) {
-        return new AnswerByTaskResponse(taskId, "FAILED", null);
+    public static AnswerByTaskResponse failed(Long taskId, AnswerTaskStage stage) {
+        return new AnswerByTaskResponse(taskId, "FAILED", null, stageName(stage));
     }
 
     public static AnswerByTaskResponse success(Long taskId, Long answerId) {
-        return new AnswerByTaskResponse(taskId, "SUCCESS", answerId);
+        return new AnswerByTaskResponse(taskId, "SUCCESS", answerId, AnswerTaskStage.DONE.name());
+    }
+
+    private static String stageName(AnswerTaskStage stage) {
+        return stage == null ? null : stage.name();
     }
 }
@@ -0,0 +1,32 @@
+package com.blooming.inpeak.answer.dto.response;
+
+import com.blooming.inpeak.answer.domain.AnswerReplayJob;
+import java.time.ZonedDateTime;
+
+public record AnswerReplayJobResponse(
+    Long jobId,
+    String status,
+    ZonedDateTime failedFrom,
+    ZonedDateTime failedTo,
+    String errorClass,
+    long replayedCount,
+    long skippedCount,
+    ZonedDateTime cursorUpdatedAt,
+    ZonedDateTime createdAt,
+    ZonedDateTime completedAt
+) {
+    public static AnswerReplayJobResponse from(AnswerReplayJob job) {
+        return new AnswerReplayJobResponse(
+            job.getId(),
+            job.getStatus().name(),
+            job.getFailedFrom(),
+            job.getFailedTo(),
+            job.getErrorClass(),
+            job.getReplayedCount(),
+            job.getSkippedCount(),
+            job.getCursorUpdatedAt(),
+            job.getCreatedAt(),
+            job.getCompletedAt()
+        );
+    }
+}
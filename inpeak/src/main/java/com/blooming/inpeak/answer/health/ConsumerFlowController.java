@@ -0,0 +1,150 @@
+package com.blooming.inpeak.answer.health;
+
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 의존 서비스 상태에 따른 단계 컨슈머 일시 정지 / 재개
+ * 단계가 의존하는 서비스가 비정상이면 그 단계의 컨슈머를 모두 멈춰, 레코드가 재시도를 소진하고
+ * 실패 작업이 되는 대신 Kafka 에 남아 기다리게 한다.
+ * cooldown 이 지나면 컨슈머 스레드를 하나씩 ramp-step 간격으로 재개하며,
+ * 재개 도중 다시 비정상으로 판단되면 전부 멈추고 cooldown 부터 다시 시작한다.
+ * <p>
+ * 상태 판단은 인스턴스별 호출 결과로 하므로 인스턴스마다 따로 멈추고 재개한다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class ConsumerFlowController {
+
+    private static final List<Stage> STAGES = List.of(
+        new Stage("stt", KafkaTopics.ANSWER_TASK_LISTENER,
+            List.of(PipelineDependency.DOWNLOAD, PipelineDependency.WHISPER)),
+        new Stage("grading", KafkaTopics.ANSWER_GRADING_LISTENER,
+            List.of(PipelineDependency.CHAT))
+    );
+
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final DependencyHealthMonitor dependencyHealthMonitor;
+    private final Duration cooldown;
+    private final Duration rampStep;
+
+    private final Map<String, FlowState> states = new HashMap<>();
+
+    public ConsumerFlowController(
+        KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+        DependencyHealthMonitor dependencyHealthMonitor,
+        MeterRegistry meterRegistry,
+        @Value("${answer.flow-control.cooldown}") Duration cooldown,
+        @Value("${answer.flow-control.ramp-step}") Duration rampStep
+    ) {
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.dependencyHealthMonitor = dependencyHealthMonitor;
+        this.cooldown = cooldown;
+        this.rampStep = rampStep;
+
+        for (Stage stage : STAGES) {
+            FlowState state = new FlowState(Counter.builder("answer.consumer.paused")
+                .tag("stage", stage.name())
+                .register(meterRegistry));
+            states.put(stage.name(), state);
+            Gauge.builder("answer.consumer.active.containers", state, flow -> flow.running)
+                .tag("stage", stage.name())
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${answer.flow-control.check-interval-millis}")
+    public void control() {
+        long now = System.currentTimeMillis();
+        for (Stage stage : STAGES) {
+            MessageListenerContainer container =
+                kafkaListenerEndpointRegistry.getListenerContainer(stage.listenerId());
+            if (container == null || !container.isRunning()) {
+                continue;
+            }
+            control(stage, children(container), states.get(stage.name()), now);
+        }
+    }
+
+    void control(Stage stage, List<MessageListenerContainer> children, FlowState state,
+        long now) {
+        if (state.running < 0) {
+            state.running = children.size();
+        }
+
+        boolean healthy = stage.dependencies().stream()
+            .allMatch(dependencyHealthMonitor::isHealthy);
+        if (!healthy) {
+            if (state.running > 0) {
+                pause(stage, children, state, now);
+            }
+            return;
+        }
+
+        if (state.running < children.size() && now >= state.cooldownUntil
+            && now >= state.nextStepAt) {
+            children.get(state.running).resume();
+            state.running++;
+            state.nextStepAt = now + rampStep.toMillis();
+            log.info("단계 컨슈머 재개: stage={}, running={}/{}", stage.name(), state.running,
+                children.size());
+        }
+    }
+
+    private void pause(Stage stage, List<MessageListenerContainer> children, FlowState state,
+        long now) {
+        children.forEach(MessageListenerContainer::pause);
+        state.running = 0;
+        state.cooldownUntil = now + cooldown.toMillis();
+        state.pausedCounter.increment();
+
+        // 재개 후의 판단이 멈추기 전의 실패에 끌려가지 않도록 기록을 비운다.
+        stage.dependencies().forEach(dependencyHealthMonitor::reset);
+        log.warn("의존 서비스 비정상, 단계 컨슈머 일시 정지: stage={}, dependencies={}, cooldown={}s",
+            stage.name(), stage.dependencies(), cooldown.toSeconds());
+    }
+
+    private List<MessageListenerContainer> children(MessageListenerContainer container) {
+        if (container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent) {
+            return new ArrayList<>(concurrent.getContainers());
+        }
+        return List.of(container);
+    }
+
+    record Stage(String name, String listenerId, List<PipelineDependency> dependencies) {
+
+    }
+
+    static final class FlowState {
+
+        private final Counter pausedCounter;
+        // 처리 중인 컨슈머 스레드 수 (-1: 아직 확인 전)
+        private volatile int running = -1;
+        private long cooldownUntil;
+        private long nextStepAt;
+
+        FlowState(Counter pausedCounter) {
+            this.pausedCounter = pausedCounter;
+        }
+
+        int getRunning() {
+            return running;
+        }
+    }
+}
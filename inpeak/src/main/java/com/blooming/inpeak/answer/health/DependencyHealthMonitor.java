@@ -0,0 +1,76 @@
+package com.blooming.inpeak.answer.health;
+
+import com.blooming.inpeak.answer.health.HealthWindow.Snapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파이프라인 외부 의존 서비스의 상태 판단
+ * 최근 window 동안 호출이 min-samples 이상이고, 실패율이 failure-rate-threshold 이상이거나
+ * 평균 지연이 서비스별 latency-threshold 이상이면 비정상으로 본다.
+ * 실패로 세는 것은 서버 오류와 연결 / 타임아웃 오류뿐이며, 잘못된 입력으로 인한 오류는 세지 않는다.
+ */
+@Component
+public class DependencyHealthMonitor {
+
+    private final Map<PipelineDependency, HealthWindow> windows =
+        new EnumMap<>(PipelineDependency.class);
+    private final Map<PipelineDependency, Duration> latencyThresholds =
+        new EnumMap<>(PipelineDependency.class);
+    private final int minSamples;
+    private final double failureRateThreshold;
+
+    public DependencyHealthMonitor(
+        MeterRegistry meterRegistry,
+        @Value("${answer.health.window}") Duration window,
+        @Value("${answer.health.min-samples}") int minSamples,
+        @Value("${answer.health.failure-rate-threshold}") double failureRateThreshold,
+        @Value("${answer.health.latency-threshold.download}") Duration downloadLatencyThreshold,
+        @Value("${answer.health.latency-threshold.whisper}") Duration whisperLatencyThreshold,
+        @Value("${answer.health.latency-threshold.chat}") Duration chatLatencyThreshold
+    ) {
+        this.minSamples = minSamples;
+        this.failureRateThreshold = failureRateThreshold;
+
+        latencyThresholds.put(PipelineDependency.DOWNLOAD, downloadLatencyThreshold);
+        latencyThresholds.put(PipelineDependency.WHISPER, whisperLatencyThreshold);
+        latencyThresholds.put(PipelineDependency.CHAT, chatLatencyThreshold);
+
+        for (PipelineDependency dependency : PipelineDependency.values()) {
+            windows.put(dependency, new HealthWindow(window, 10));
+            Gauge.builder("pipeline.dependency.healthy", this,
+                    monitor -> monitor.isHealthy(dependency) ? 1 : 0)
+                .tag("dependency", dependency.name().toLowerCase())
+                .register(meterRegistry);
+        }
+    }
+
+    public void recordSuccess(PipelineDependency dependency, long latencyMillis) {
+        windows.get(dependency).record(true, latencyMillis);
+    }
+
+    public void recordFailure(PipelineDependency dependency, long latencyMillis) {
+        windows.get(dependency).record(false, latencyMillis);
+    }
+
+    public boolean isHealthy(PipelineDependency dependency) {
+        Snapshot snapshot = windows.get(dependency).snapshot();
+        if (snapshot.total() < minSamples) {
+            return true;
+        }
+        return snapshot.failureRate() < failureRateThreshold
+            && snapshot.averageLatencyMillis() < latencyThresholds.get(dependency).toMillis();
+    }
+
+    /**
+     * 기록을 비운다. 컨슈머를 멈춘 뒤 다시 시작할 때, 멈추기 전의 실패가 판단에 남지 않도록 한다.
+     */
+    public void reset(PipelineDependency dependency) {
+        windows.get(dependency).reset();
+    }
+}
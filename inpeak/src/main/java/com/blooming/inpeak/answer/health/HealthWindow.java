@@ -0,0 +1,120 @@
+package com.blooming.inpeak.answer.health;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 window 동안의 호출 결과 (성공 / 실패 수, 평균 지연)
+ * window 를 bucketCount 개의 시간 구간으로 나눠, 지난 구간은 다음에 쓰일 때 비운다.
+ * <p>
+ * 가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock 을 사용한다.
+ */
+public class HealthWindow {
+
+    private final int bucketCount;
+    private final long bucketMillis;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] bucketIndexes;
+    private final int[] successes;
+    private final int[] failures;
+    private final long[] latencySums;
+
+    /**
+     * 구간별 합계
+     *
+     * @param successes            성공 수
+     * @param failures             실패 수
+     * @param averageLatencyMillis 평균 지연 시간 (호출이 없으면 0)
+     */
+    public record Snapshot(int successes, int failures, long averageLatencyMillis) {
+
+        public int total() {
+            return successes + failures;
+        }
+
+        public double failureRate() {
+            return total() == 0 ? 0 : (double) failures / total();
+        }
+    }
+
+    public HealthWindow(Duration window, int bucketCount) {
+        this(window, bucketCount, System::currentTimeMillis);
+    }
+
+    HealthWindow(Duration window, int bucketCount, LongSupplier clock) {
+        this.bucketCount = bucketCount;
+        this.bucketMillis = Math.max(window.toMillis() / bucketCount, 1);
+        this.clock = clock;
+        this.bucketIndexes = new long[bucketCount];
+        this.successes = new int[bucketCount];
+        this.failures = new int[bucketCount];
+        this.latencySums = new long[bucketCount];
+    }
+
+    public void record(boolean success, long latencyMillis) {
+        long index = clock.getAsLong() / bucketMillis;
+        int slot = (int) (index % bucketCount);
+
+        lock.lock();
+        try {
+            if (bucketIndexes[slot] != index) {
+                clear(slot);
+                bucketIndexes[slot] = index;
+            }
+            if (success) {
+                successes[slot]++;
+            } else {
+                failures[slot]++;
+            }
+            latencySums[slot] += latencyMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long current = clock.getAsLong() / bucketMillis;
+
+        lock.lock();
+        try {
+            int success = 0;
+            int failure = 0;
+            long latencySum = 0;
+            for (int slot = 0; slot < bucketCount; slot++) {
+                if (current - bucketIndexes[slot] >= bucketCount) {
+                    continue;
+                }
+                success += successes[slot];
+                failure += failures[slot];
+                latencySum += latencySums[slot];
+            }
+            int total = success + failure;
+            return new Snapshot(success, failure, total == 0 ? 0 : latencySum / total);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지의 기록을 모두 지운다.
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            for (int slot = 0; slot < bucketCount; slot++) {
+                clear(slot);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void clear(int slot) {
+        successes[slot] = 0;
+        failures[slot] = 0;
+        latencySums[slot] = 0;
+    }
+}
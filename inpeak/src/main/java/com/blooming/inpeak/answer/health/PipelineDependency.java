@@ -0,0 +1,22 @@
+package com.blooming.inpeak.answer.health;
+
+import com.blooming.inpeak.answer.ratelimit.OpenAiEndpoint;
+
+/**
+ * 답변 파이프라인 단계가 의존하는 외부 서비스
+ */
+public enum PipelineDependency {
+    // S3 Presigned URL 오디오 다운로드
+    DOWNLOAD,
+    // OpenAI 음성 인식
+    WHISPER,
+    // OpenAI 채점
+    CHAT;
+
+    public static PipelineDependency of(OpenAiEndpoint endpoint) {
+        return switch (endpoint) {
+            case WHISPER -> WHISPER;
+            case CHAT -> CHAT;
+        };
+    }
+}
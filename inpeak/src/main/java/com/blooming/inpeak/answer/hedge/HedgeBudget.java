@@ -0,0 +1,43 @@
+package com.blooming.inpeak.answer.hedge;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 헤지 요청 예산 (토큰 버킷)
+ * 원 요청마다 ratio 만큼 적립하고 헤지 요청마다 1을 소비하므로,
+ * 헤지로 늘어나는 요청 수는 전체 요청의 ratio 비율을 넘지 않는다.
+ */
+public class HedgeBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private final ReentrantLock lock = new ReentrantLock();
+    private double tokens;
+
+    public HedgeBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+    }
+
+    public void onRequest() {
+        lock.lock();
+        try {
+            tokens = Math.min(maxTokens, tokens + ratio);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
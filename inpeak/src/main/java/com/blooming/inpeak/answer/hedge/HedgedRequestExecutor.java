@@ -0,0 +1,162 @@
+package com.blooming.inpeak.answer.hedge;
+
+import com.blooming.inpeak.common.error.exception.GPTApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * GPT 채점 요청 헤징
+ * 첫 요청이 최근 지연 시간의 지정 백분위 안에 끝나지 않으면 같은 요청을 한 번 더 보내고,
+ * 먼저 끝난 응답을 사용한 뒤 나머지 요청은 취소(인터럽트)한다.
+ * 요청은 가상 스레드에서 실행되므로 취소 시 블로킹 중인 소켓 읽기도 중단된다.
+ */
+@Slf4j
+@Component
+public class HedgedRequestExecutor {
+
+    private final boolean enabled;
+    private final double percentile;
+    private final int minSamples;
+    private final Duration minDelay;
+    private final ExecutorService openAiExecutor;
+    private final LatencyWindow latencyWindow;
+    private final HedgeBudget budget;
+
+    private final Timer latencyTimer;
+    private final Counter hedgedCounter;
+    private final Counter hedgeWonCounter;
+    private final Counter budgetExhaustedCounter;
+
+    public HedgedRequestExecutor(
+        ExecutorService openAiExecutor,
+        MeterRegistry meterRegistry,
+        @Value("${openai.hedge.enabled}") boolean enabled,
+        @Value("${openai.hedge.percentile}") double percentile,
+        @Value("${openai.hedge.min-samples}") int minSamples,
+        @Value("${openai.hedge.window-size}") int windowSize,
+        @Value("${openai.hedge.min-delay}") Duration minDelay,
+        @Value("${openai.hedge.budget-ratio}") double budgetRatio,
+        @Value("${openai.hedge.budget-burst}") double budgetBurst
+    ) {
+        this.openAiExecutor = openAiExecutor;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.minDelay = minDelay;
+        this.latencyWindow = new LatencyWindow(windowSize);
+        this.budget = new HedgeBudget(budgetRatio, budgetBurst);
+
+        this.latencyTimer = Timer.builder("openai.chat.latency")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.hedgedCounter = Counter.builder("openai.hedge.requests").register(meterRegistry);
+        this.hedgeWonCounter = Counter.builder("openai.hedge.won").register(meterRegistry);
+        this.budgetExhaustedCounter = Counter.builder("openai.hedge.budget.exhausted")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 실행하고, 느리면 헤지 요청을 추가로 보낸다.
+     *
+     * @param call 멱등한 요청 (두 번 실행될 수 있다)
+     * @return 먼저 성공한 요청의 결과
+     */
+    public <T> T execute(Supplier<T> call) {
+        budget.onRequest();
+
+        long hedgeDelay = hedgeDelayMillis();
+        if (!enabled || hedgeDelay < 0) {
+            return timed(call);
+        }
+
+        CompletionService<T> completionService = new ExecutorCompletionService<>(openAiExecutor);
+        List<Future<T>> futures = new ArrayList<>(2);
+        try {
+            Future<T> primary = completionService.submit(() -> timed(call));
+            futures.add(primary);
+
+            Future<T> done = completionService.poll(hedgeDelay, TimeUnit.MILLISECONDS);
+            if (done == null) {
+                if (budget.tryAcquire()) {
+                    log.info("GPT 요청 헤징: {}ms 동안 응답 없음", hedgeDelay);
+                    hedgedCounter.increment();
+                    futures.add(completionService.submit(() -> timed(call)));
+                } else {
+                    budgetExhaustedCounter.increment();
+                }
+                done = completionService.take();
+            }
+
+            try {
+                T result = done.get();
+                if (done != primary) {
+                    hedgeWonCounter.increment();
+                }
+                return result;
+            } catch (ExecutionException e) {
+                // 먼저 끝난 요청이 실패해도 남은 요청이 있으면 그 결과를 기다린다.
+                if (futures.size() < 2) {
+                    throw unwrap(e);
+                }
+                return getResult(completionService.take());
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GPTApiException("GPT 요청 대기 중 인터럽트 발생");
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    // 헤징을 하지 않으면 -1
+    private long hedgeDelayMillis() {
+        if (latencyWindow.size() < minSamples) {
+            return -1;
+        }
+        return Math.max(minDelay.toMillis(), latencyWindow.percentile(percentile));
+    }
+
+    private <T> T timed(Supplier<T> call) {
+        long start = System.nanoTime();
+        T result = call.get();
+
+        // 취소된 요청의 지연 시간은 기록하지 않는다.
+        if (!Thread.currentThread().isInterrupted()) {
+            long elapsedNanos = System.nanoTime() - start;
+            latencyWindow.record(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            latencyTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        return result;
+    }
+
+    private <T> T getResult(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new GPTApiException("GPT 요청 실패: " + e.getCause().getMessage());
+    }
+}
@@ -0,0 +1,60 @@
+package com.blooming.inpeak.answer.hedge;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 N개 요청의 지연 시간을 보관하고 백분위수를 계산한다.
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int next;
+    private int size;
+
+    public LatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public void record(long latencyMillis) {
+        lock.lock();
+        try {
+            samples[next] = latencyMillis;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param percentile 0 초과 1 이하의 백분위 (예: 0.95)
+     * @return 백분위 지연 시간, 표본이 없으면 -1
+     */
+    public long percentile(double percentile) {
+        long[] copy;
+        lock.lock();
+        try {
+            copy = Arrays.copyOf(samples, size);
+        } finally {
+            lock.unlock();
+        }
+
+        if (copy.length == 0) {
+            return -1;
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile * copy.length) - 1;
+        return copy[Math.max(0, Math.min(index, copy.length - 1))];
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.blooming.inpeak.answer.ratelimit;
+
+import com.blooming.inpeak.common.error.exception.GPTRateLimitException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * OpenAI API 하나에 대한 적응형 동시 요청 제한기
+ * <p>
+ * 동시 요청 한도는 AIMD 방식으로 조정한다.
+ * 한도를 거의 다 쓰는 동안 정상 응답이 오면 한도를 조금씩 올리고,
+ * 서버 오류 / 타임아웃이 나거나 응답 헤더의 남은 예산이 바닥나면 10%, 429를 받으면 절반으로 줄인다.
+ * 응답 지연은 음성 길이 / 답변 길이에 따라 크게 달라져 과부하 신호로 쓰지 않는다.
+ * <p>
+ * 응답 헤더의 남은 요청 수 / 토큰 수를 함께 추적하여, 예산이 바닥나면 초기화 시점까지 새 요청을 보내지 않는다.
+ * 429를 받으면 retry-after 동안 모든 요청을 멈춘다.
+ * <p>
+ * 가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock 을 사용한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final long MAX_WAIT_SLICE_MILLIS = 100;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+
+    // 429 이후 모든 요청을 멈추는 시점
+    private long pausedUntil;
+
+    // 응답 헤더 기준 남은 예산 (모르면 Long.MAX_VALUE)
+    private long remainingRequests = Long.MAX_VALUE;
+    private long remainingTokens = Long.MAX_VALUE;
+    private long requestsResetAt;
+    private long tokensResetAt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, System::currentTimeMillis);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, LongSupplier clock) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.clock = clock;
+    }
+
+    /**
+     * 요청을 보낼 수 있을 때까지 기다린다.
+     *
+     * @param estimatedTokens 이 요청이 소비할 것으로 예상되는 토큰 수
+     * @param maxWait         최대 대기 시간
+     * @throws GPTRateLimitException 최대 대기 시간 안에 요청을 보낼 수 없는 경우
+     */
+    public void acquire(long estimatedTokens, Duration maxWait) throws InterruptedException {
+        long deadline = clock.getAsLong() + maxWait.toMillis();
+
+        lock.lock();
+        try {
+            while (true) {
+                long now = clock.getAsLong();
+                refreshBudget(now);
+
+                long waitMillis = waitMillis(now, estimatedTokens);
+                if (waitMillis == 0) {
+                    inFlight++;
+                    remainingRequests = decrement(remainingRequests, 1);
+                    remainingTokens = decrement(remainingTokens, estimatedTokens);
+                    return;
+                }
+
+                if (now >= deadline) {
+                    throw new GPTRateLimitException("OpenAI 요청 한도 대기 시간 초과",
+                        Duration.ofMillis(Math.max(waitMillis, MAX_WAIT_SLICE_MILLIS)));
+                }
+
+                changed.await(Math.min(Math.min(waitMillis, deadline - now), MAX_WAIT_SLICE_MILLIS),
+                    TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정상 응답을 받았을 때 호출한다.
+     */
+    public void onSuccess(RateLimitHeaders headers) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= limit / 2;
+            release(headers);
+
+            if (budgetExhausted(headers)) {
+                // 지금의 동시 요청 수로는 초기화 전에 예산을 다 쓴다.
+                decrease(0.9);
+            } else if (saturated) {
+                // 한도를 거의 다 쓰고 있을 때만 늘린다. 한가할 때 한도가 무한정 커지는 것을 막는다.
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 429 응답을 받았을 때 호출한다.
+     */
+    public void onRateLimited(RateLimitHeaders headers) {
+        lock.lock();
+        try {
+            release(headers);
+            decrease(0.5);
+
+            Duration retryAfter = headers.retryAfter() != null
+                ? headers.retryAfter() : DEFAULT_RETRY_AFTER;
+            pausedUntil = Math.max(pausedUntil, clock.getAsLong() + retryAfter.toMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 429 이외의 실패 시 호출한다.
+     *
+     * @param overloaded 서버 오류 / 타임아웃처럼 과부하를 의심할 수 있는 실패인지 여부
+     */
+    public void onFailure(boolean overloaded) {
+        lock.lock();
+        try {
+            release(null);
+            if (overloaded) {
+                decrease(0.9);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    private long waitMillis(long now, long estimatedTokens) {
+        long wait = 0;
+        if (pausedUntil > now) {
+            wait = pausedUntil - now;
+        }
+        if (remainingRequests <= 0) {
+            wait = Math.max(wait, requestsResetAt - now);
+        }
+        if (estimatedTokens > remainingTokens) {
+            wait = Math.max(wait, tokensResetAt - now);
+        }
+        if (wait == 0 && inFlight >= Math.max(minLimit, (int) limit)) {
+            // 진행 중인 요청이 끝나면 깨어난다.
+            wait = MAX_WAIT_SLICE_MILLIS;
+        }
+        return Math.max(wait, 0);
+    }
+
+    // 초기화 시점이 지난 예산은 다음 응답 헤더를 받을 때까지 알 수 없는 것으로 본다.
+    private void refreshBudget(long now) {
+        if (remainingRequests != Long.MAX_VALUE && now >= requestsResetAt) {
+            remainingRequests = Long.MAX_VALUE;
+        }
+        if (remainingTokens != Long.MAX_VALUE && now >= tokensResetAt) {
+            remainingTokens = Long.MAX_VALUE;
+        }
+    }
+
+    private void release(RateLimitHeaders headers) {
+        inFlight = Math.max(0, inFlight - 1);
+
+        if (headers != null) {
+            long now = clock.getAsLong();
+            if (headers.remainingRequests() != null && headers.resetRequests() != null) {
+                remainingRequests = headers.remainingRequests();
+                requestsResetAt = now + headers.resetRequests().toMillis();
+            }
+            if (headers.remainingTokens() != null && headers.resetTokens() != null) {
+                remainingTokens = headers.remainingTokens();
+                tokensResetAt = now + headers.resetTokens().toMillis();
+            }
+        }
+        changed.signalAll();
+    }
+
+    private static boolean budgetExhausted(RateLimitHeaders headers) {
+        return headers != null
+            && ((headers.remainingRequests() != null && headers.remainingRequests() <= 0)
+            || (headers.remainingTokens() != null && headers.remainingTokens() <= 0));
+    }
+
+    private void decrease(double factor) {
+        limit = Math.max(minLimit, limit * factor);
+    }
+
+    private long decrement(long value, long amount) {
+        return value == Long.MAX_VALUE ? value : value - amount;
+    }
+}
@@ -0,0 +1,234 @@
+package com.blooming.inpeak.answer.ratelimit;
+
+import com.blooming.inpeak.common.error.exception.GPTRateLimitException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(회원)별 공정 분배 스케줄러
+ * <p>
+ * 동시 실행 자리를 도착 순서가 아니라 Deficit Round Robin 순서로 나눠 준다.
+ * 대기 중인 요청이 있는 키를 돌아가며, 차례가 온 키는 quantum 만큼 몫을 받고
+ * 맨 앞 요청의 비용만큼 몫이 쌓이면 자리를 얻는다. 한 키가 요청을 몰아 보내도 다른 키는 자기 차례에 자리를 얻는다.
+ * <p>
+ * 키마다 동시에 실행할 수 있는 요청 수도 perKeyMaxInFlight 로 제한한다.
+ * 전체 자리 수는 capacity 로 매번 다시 읽으므로 적응형 한도를 그대로 따라간다.
+ * <p>
+ * 가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock 을 사용한다.
+ */
+public class FairShareScheduler {
+
+    private static final long MAX_WAIT_SLICE_MILLIS = 100;
+
+    private final IntSupplier capacity;
+    private final int perKeyMaxInFlight;
+    private final long quantum;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Object, Flow> flows = new HashMap<>();
+    // 대기 중인 요청이 있는 키의 순환 순서
+    private final ArrayDeque<Flow> active = new ArrayDeque<>();
+    private int running;
+    private int queued;
+
+    public FairShareScheduler(IntSupplier capacity, int perKeyMaxInFlight, long quantum) {
+        this(capacity, perKeyMaxInFlight, quantum, System::currentTimeMillis);
+    }
+
+    FairShareScheduler(IntSupplier capacity, int perKeyMaxInFlight, long quantum,
+        LongSupplier clock) {
+        this.capacity = capacity;
+        this.perKeyMaxInFlight = perKeyMaxInFlight;
+        this.quantum = Math.max(quantum, 1);
+        this.clock = clock;
+    }
+
+    /**
+     * 키의 차례가 와서 자리를 얻을 때까지 기다린다. 실행이 끝나면 {@link #release(Object)} 를 호출해야 한다.
+     *
+     * @param key     공정 분배 단위 (회원 ID)
+     * @param cost    요청 비용 (1 이상)
+     * @param maxWait 최대 대기 시간
+     * @throws GPTRateLimitException 최대 대기 시간 안에 자리를 얻지 못한 경우
+     */
+    public void acquire(Object key, long cost, Duration maxWait) throws InterruptedException {
+        long deadline = clock.getAsLong() + maxWait.toMillis();
+
+        lock.lock();
+        try {
+            Flow flow = flows.computeIfAbsent(key, Flow::new);
+            Waiter waiter = new Waiter(Math.max(cost, 1), lock.newCondition());
+            if (flow.waiters.isEmpty()) {
+                active.addLast(flow);
+            }
+            flow.waiters.addLast(waiter);
+            queued++;
+
+            try {
+                while (true) {
+                    // 적응형 한도가 늘어난 경우에도 자리를 나눠 주도록 깰 때마다 다시 분배한다.
+                    schedule();
+                    if (waiter.granted) {
+                        return;
+                    }
+
+                    long now = clock.getAsLong();
+                    if (now >= deadline) {
+                        throw new GPTRateLimitException("공정 분배 대기 시간 초과",
+                            Duration.ofMillis(MAX_WAIT_SLICE_MILLIS));
+                    }
+                    waiter.condition.await(Math.min(deadline - now, MAX_WAIT_SLICE_MILLIS),
+                        TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException | RuntimeException e) {
+                abandon(flow, waiter);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행이 끝난 요청의 자리를 돌려준다.
+     *
+     * @param key 공정 분배 단위 (회원 ID)
+     */
+    public void release(Object key) {
+        lock.lock();
+        try {
+            Flow flow = flows.get(key);
+            if (flow == null || flow.inFlight == 0) {
+                return;
+            }
+            flow.inFlight--;
+            running--;
+            removeIfIdle(flow);
+            schedule();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getRunning() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getActiveKeys() {
+        lock.lock();
+        try {
+            return flows.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 빈자리를 Deficit Round Robin 순서로 대기 중인 요청에 나눠 준다.
+     * 키 한도에 걸린 키는 몫을 받지 않고 건너뛰며, 모든 키가 한도에 걸리면 멈춘다.
+     */
+    private void schedule() {
+        int limit = Math.max(capacity.getAsInt(), 1);
+        int blocked = 0;
+
+        while (running < limit && blocked < active.size()) {
+            Flow flow = active.pollFirst();
+            if (flow.inFlight >= perKeyMaxInFlight) {
+                active.addLast(flow);
+                blocked++;
+                continue;
+            }
+
+            Waiter head = flow.waiters.peekFirst();
+            blocked = 0;
+            if (flow.deficit < head.cost) {
+                flow.deficit += quantum;
+                active.addLast(flow);
+                continue;
+            }
+
+            flow.waiters.pollFirst();
+            flow.deficit -= head.cost;
+            flow.inFlight++;
+            running++;
+            queued--;
+            head.granted = true;
+            head.condition.signal();
+
+            if (flow.waiters.isEmpty()) {
+                // 대기 요청이 없는 키는 몫을 쌓아 두지 않는다.
+                flow.deficit = 0;
+            } else {
+                active.addLast(flow);
+            }
+        }
+    }
+
+    private void abandon(Flow flow, Waiter waiter) {
+        if (waiter.granted) {
+            flow.inFlight--;
+            running--;
+        } else {
+            flow.waiters.remove(waiter);
+            queued--;
+            if (flow.waiters.isEmpty()) {
+                active.remove(flow);
+                flow.deficit = 0;
+            }
+        }
+        removeIfIdle(flow);
+        schedule();
+    }
+
+    private void removeIfIdle(Flow flow) {
+        if (flow.inFlight == 0 && flow.waiters.isEmpty()) {
+            flows.remove(flow.key);
+        }
+    }
+
+    private static final class Flow {
+
+        private final Object key;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private long deficit;
+        private int inFlight;
+
+        private Flow(Object key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Waiter {
+
+        private final long cost;
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(long cost, Condition condition) {
+            this.cost = cost;
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.blooming.inpeak.answer.ratelimit;
+
+import com.blooming.inpeak.common.error.exception.GPTApiException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채점(GPT 호출)을 회원별로 공정하게 나눠 실행한다.
+ * 동시 실행 수는 CHAT 적응형 한도를 따르므로, 한도를 넘는 요청은 제한기의 FIFO 대기열 대신
+ * 이 스케줄러에서 회원별 차례를 기다린다. 한 회원이 몰아 보낸 채점이 다른 회원의 채점을 뒤로 밀지 않는다.
+ * <p>
+ * 요청 비용은 답변 글자 수로 어림하여, 긴 답변을 많이 보낸 회원은 그만큼 자리를 덜 받는다.
+ */
+@Component
+public class GradingScheduler {
+
+    private final FairShareScheduler scheduler;
+    private final Duration maxWait;
+    private final Timer waitTimer;
+
+    public GradingScheduler(
+        OpenAiRateLimiter openAiRateLimiter,
+        MeterRegistry meterRegistry,
+        @Value("${answer.pipeline.grading.fair-share.per-member-max-in-flight}") int perMemberMaxInFlight,
+        @Value("${answer.pipeline.grading.fair-share.quantum}") long quantum,
+        @Value("${answer.pipeline.grading.fair-share.max-wait}") Duration maxWait
+    ) {
+        this.scheduler = new FairShareScheduler(
+            () -> (int) Math.ceil(openAiRateLimiter.limit(OpenAiEndpoint.CHAT)),
+            perMemberMaxInFlight, quantum);
+        this.maxWait = maxWait;
+
+        Gauge.builder("answer.grading.fair.queued", scheduler, FairShareScheduler::getQueued)
+            .register(meterRegistry);
+        Gauge.builder("answer.grading.fair.running", scheduler, FairShareScheduler::getRunning)
+            .register(meterRegistry);
+        Gauge.builder("answer.grading.fair.members", scheduler, FairShareScheduler::getActiveKeys)
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("answer.grading.fair.wait")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 차례가 오면 채점을 실행한다.
+     *
+     * @param memberId   채점을 요청한 회원 ID
+     * @param transcript 채점할 답변 (비용 산정용)
+     * @param call       채점 호출
+     * @return 채점 결과
+     */
+    public <T> T execute(Long memberId, String transcript, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            scheduler.acquire(memberId, transcript == null ? 1 : transcript.length(), maxWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GPTApiException("채점 순서 대기 중 인터럽트 발생: memberId=" + memberId);
+        }
+        waitTimer.record(Duration.ofNanos(System.nanoTime() - start));
+
+        try {
+            return call.get();
+        } finally {
+            scheduler.release(memberId);
+        }
+    }
+}
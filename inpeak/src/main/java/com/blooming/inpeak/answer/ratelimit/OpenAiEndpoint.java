@@ -0,0 +1,11 @@
+package com.blooming.inpeak.answer.ratelimit;
+
+/**
+ * 요청 한도가 따로 관리되는 OpenAI API
+ */
+public enum OpenAiEndpoint {
+    // 음성 인식 (요청 수 한도)
+    WHISPER,
+    // 채점 (요청 수 + 토큰 수 한도)
+    CHAT
+}
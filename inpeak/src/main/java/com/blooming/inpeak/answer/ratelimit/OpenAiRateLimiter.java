@@ -0,0 +1,181 @@
+package com.blooming.inpeak.answer.ratelimit;
+
+import com.blooming.inpeak.answer.health.DependencyHealthMonitor;
+import com.blooming.inpeak.answer.health.PipelineDependency;
+import com.blooming.inpeak.common.error.exception.GPTApiException;
+import com.blooming.inpeak.common.error.exception.GPTRateLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * OpenAI 호출을 API별 적응형 제한기를 거쳐 실행한다.
+ * 429를 받으면 retry-after 만큼 기다린 뒤 정해진 횟수까지 다시 보내고,
+ * 그래도 실패하면 재시도 대기 시간을 담은 {@link GPTRateLimitException}을 던진다.
+ * 커넥션 풀 대기 시간 초과는 로컬 자원 부족이므로 한도를 줄이거나 OpenAI 장애로 기록하지 않는다.
+ */
+@Slf4j
+@Component
+public class OpenAiRateLimiter {
+
+    private final Map<OpenAiEndpoint, AdaptiveConcurrencyLimiter> limiters =
+        new EnumMap<>(OpenAiEndpoint.class);
+    private final Map<OpenAiEndpoint, Counter> throttledCounters =
+        new EnumMap<>(OpenAiEndpoint.class);
+    private final DependencyHealthMonitor dependencyHealthMonitor;
+    private final int maxRetries;
+    private final Duration maxWait;
+
+    public OpenAiRateLimiter(
+        MeterRegistry meterRegistry,
+        DependencyHealthMonitor dependencyHealthMonitor,
+        @Value("${openai.rate-limit.max-retries}") int maxRetries,
+        @Value("${openai.rate-limit.max-wait}") Duration maxWait,
+        @Value("${openai.rate-limit.whisper.initial-limit}") int whisperInitialLimit,
+        @Value("${openai.rate-limit.whisper.min-limit}") int whisperMinLimit,
+        @Value("${openai.rate-limit.whisper.max-limit}") int whisperMaxLimit,
+        @Value("${openai.rate-limit.chat.initial-limit}") int chatInitialLimit,
+        @Value("${openai.rate-limit.chat.min-limit}") int chatMinLimit,
+        @Value("${openai.rate-limit.chat.max-limit}") int chatMaxLimit
+    ) {
+        this.dependencyHealthMonitor = dependencyHealthMonitor;
+        this.maxRetries = maxRetries;
+        this.maxWait = maxWait;
+
+        register(OpenAiEndpoint.WHISPER, new AdaptiveConcurrencyLimiter(whisperInitialLimit,
+            whisperMinLimit, whisperMaxLimit), meterRegistry);
+        register(OpenAiEndpoint.CHAT, new AdaptiveConcurrencyLimiter(chatInitialLimit,
+            chatMinLimit, chatMaxLimit), meterRegistry);
+    }
+
+    /**
+     * 요청 한도 안에서 OpenAI 호출을 실행한다.
+     *
+     * @param endpoint        호출할 API
+     * @param estimatedTokens 예상 토큰 수 (토큰 한도가 없는 API는 0)
+     * @param call            실제 호출
+     * @return 호출 결과
+     */
+    public <T> ResponseEntity<T> execute(OpenAiEndpoint endpoint, long estimatedTokens,
+        Supplier<ResponseEntity<T>> call) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpoint);
+
+        for (int attempt = 0; ; attempt++) {
+            acquire(limiter, endpoint, estimatedTokens);
+
+            long start = System.nanoTime();
+            try {
+                ResponseEntity<T> response = call.get();
+                long latencyMillis = (System.nanoTime() - start) / 1_000_000;
+                limiter.onSuccess(RateLimitHeaders.from(response.getHeaders()));
+                dependencyHealthMonitor.recordSuccess(PipelineDependency.of(endpoint),
+                    latencyMillis);
+                return response;
+
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                RateLimitHeaders headers = RateLimitHeaders.from(e.getResponseHeaders());
+                limiter.onRateLimited(headers);
+                throttledCounters.get(endpoint).increment();
+
+                // 결제 한도 초과는 기다려도 풀리지 않는다.
+                if (e.getResponseBodyAsString().contains("insufficient_quota")) {
+                    dependencyHealthMonitor.recordFailure(PipelineDependency.of(endpoint),
+                        (System.nanoTime() - start) / 1_000_000);
+                    throw new GPTApiException("OpenAI 사용 한도 초과");
+                }
+
+                Duration retryAfter = headers.retryAfter() != null
+                    ? headers.retryAfter() : Duration.ofSeconds(1);
+                if (attempt >= maxRetries) {
+                    throw new GPTRateLimitException("OpenAI 요청 한도 초과: " + endpoint, retryAfter);
+                }
+                log.warn("OpenAI 요청 한도 초과, {}ms 후 재시도: endpoint={}, limit={}",
+                    retryAfter.toMillis(), endpoint, String.format("%.1f", limiter.getLimit()));
+
+            } catch (HttpServerErrorException | ResourceAccessException e) {
+                // 헤지 요청 취소로 인한 인터럽트와 커넥션 풀 대기 시간 초과는 과부하 신호가 아니다.
+                boolean overloaded = !Thread.currentThread().isInterrupted()
+                    && !isConnectionRequestTimeout(e);
+                limiter.onFailure(overloaded);
+                if (overloaded) {
+                    dependencyHealthMonitor.recordFailure(PipelineDependency.of(endpoint),
+                        (System.nanoTime() - start) / 1_000_000);
+                }
+                throw e;
+
+            } catch (RuntimeException e) {
+                limiter.onFailure(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 현재 동시 요청 한도 중 사용 중인 비율
+     * 실시간 요청이 한도를 쓰고 있을 때 배치 작업이 물러서도록 하는 데 사용한다.
+     *
+     * @param endpoint API
+     * @return 0 이상의 사용률 (1 이상이면 대기 중인 요청이 있다)
+     */
+    public double utilization(OpenAiEndpoint endpoint) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpoint);
+        return limiter.getInFlight() / Math.max(limiter.getLimit(), 1.0);
+    }
+
+    /**
+     * 현재 동시 요청 한도
+     *
+     * @param endpoint API
+     * @return 동시 요청 한도
+     */
+    public double limit(OpenAiEndpoint endpoint) {
+        return limiters.get(endpoint).getLimit();
+    }
+
+    private void acquire(AdaptiveConcurrencyLimiter limiter, OpenAiEndpoint endpoint,
+        long estimatedTokens) {
+        try {
+            limiter.acquire(estimatedTokens, maxWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GPTApiException("OpenAI 요청 대기 중 인터럽트 발생: " + endpoint);
+        }
+    }
+
+    private boolean isConnectionRequestTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectionRequestTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void register(OpenAiEndpoint endpoint, AdaptiveConcurrencyLimiter limiter,
+        MeterRegistry meterRegistry) {
+        limiters.put(endpoint, limiter);
+
+        String tag = endpoint.name().toLowerCase();
+        Gauge.builder("openai.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .tag("endpoint", tag)
+            .register(meterRegistry);
+        Gauge.builder("openai.limiter.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+            .tag("endpoint", tag)
+            .register(meterRegistry);
+        throttledCounters.put(endpoint, Counter.builder("openai.limiter.throttled")
+            .tag("endpoint", tag)
+            .register(meterRegistry));
+    }
+}
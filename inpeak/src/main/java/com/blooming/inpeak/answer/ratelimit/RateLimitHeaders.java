@@ -0,0 +1,95 @@
+package com.blooming.inpeak.answer.ratelimit;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * OpenAI 응답의 요청 한도 헤더
+ * 헤더가 없으면 해당 값은 null 이다.
+ *
+ * @param remainingRequests 남은 요청 수 (x-ratelimit-remaining-requests)
+ * @param remainingTokens   남은 토큰 수 (x-ratelimit-remaining-tokens)
+ * @param resetRequests     요청 수 한도가 초기화되기까지 남은 시간 (x-ratelimit-reset-requests)
+ * @param resetTokens       토큰 수 한도가 초기화되기까지 남은 시간 (x-ratelimit-reset-tokens)
+ * @param retryAfter        재시도 가능까지 남은 시간 (retry-after-ms, retry-after)
+ */
+public record RateLimitHeaders(
+    Long remainingRequests,
+    Long remainingTokens,
+    Duration resetRequests,
+    Duration resetTokens,
+    Duration retryAfter
+) {
+
+    // 예: "20ms", "1s", "6m0s", "1h2m3.5s"
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|s|m|h)");
+
+    public static RateLimitHeaders from(HttpHeaders headers) {
+        if (headers == null) {
+            return new RateLimitHeaders(null, null, null, null, null);
+        }
+
+        return new RateLimitHeaders(
+            parseLong(headers.getFirst("x-ratelimit-remaining-requests")),
+            parseLong(headers.getFirst("x-ratelimit-remaining-tokens")),
+            parseDuration(headers.getFirst("x-ratelimit-reset-requests")),
+            parseDuration(headers.getFirst("x-ratelimit-reset-tokens")),
+            parseRetryAfter(headers)
+        );
+    }
+
+    private static Duration parseRetryAfter(HttpHeaders headers) {
+        String millis = headers.getFirst("retry-after-ms");
+        if (millis != null) {
+            try {
+                return Duration.ofMillis((long) Double.parseDouble(millis.trim()));
+            } catch (NumberFormatException ignored) {
+                // retry-after 로 대체
+            }
+        }
+
+        String seconds = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (seconds != null) {
+            try {
+                return Duration.ofMillis((long) (Double.parseDouble(seconds.trim()) * 1000));
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 사용하지 않는다.
+            }
+        }
+        return null;
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static Duration parseDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        Matcher matcher = DURATION_PART.matcher(value.trim());
+        double millis = 0;
+        boolean matched = false;
+        while (matcher.find()) {
+            matched = true;
+            double amount = Double.parseDouble(matcher.group(1));
+            millis += switch (matcher.group(2)) {
+                case "ms" -> amount;
+                case "s" -> amount * 1_000;
+                case "m" -> amount * 60_000;
+                default -> amount * 3_600_000;
+            };
+        }
+        return matched ? Duration.ofMillis((long) Math.ceil(millis)) : null;
+    }
+}
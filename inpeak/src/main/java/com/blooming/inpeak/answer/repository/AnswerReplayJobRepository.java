@@ -0,0 +1,14 @@
+package com.blooming.inpeak.answer.repository;
+
+import com.blooming.inpeak.answer.domain.AnswerReplayJob;
+import com.blooming.inpeak.answer.domain.AnswerReplayJobStatus;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnswerReplayJobRepository extends JpaRepository<AnswerReplayJob, Long> {
+
+    // 진행 중인 작업은 먼저 요청된 것부터 하나씩 처리한다.
+    Optional<AnswerReplayJob> findFirstByStatusOrderByIdAsc(AnswerReplayJobStatus status);
+}
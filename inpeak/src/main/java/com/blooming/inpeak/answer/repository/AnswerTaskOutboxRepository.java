@@ -0,0 +1,18 @@
+package com.blooming.inpeak.answer.repository;
+
+import com.blooming.inpeak.answer.domain.AnswerTaskOutbox;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnswerTaskOutboxRepository extends JpaRepository<AnswerTaskOutbox, Long> {
+
+    /**
+     * 발행 대기 중인 메시지를 저장 순서대로 조회한다.
+     */
+    @Query("SELECT o FROM AnswerTaskOutbox o ORDER BY o.id ASC")
+    List<AnswerTaskOutbox> findPending(Pageable pageable);
+}
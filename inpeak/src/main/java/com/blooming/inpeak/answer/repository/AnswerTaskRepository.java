@@ -1,10 +1,178 @@
 package com.blooming.inpeak.answer.repository;
 
 import com.blooming.inpeak.answer.domain.AnswerTask;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface AnswerTaskRepository extends JpaRepository<AnswerTask, Long> {
 
+    Optional<AnswerTask> findByInterviewIdAndQuestionId(Long interviewId, Long questionId);
+
+    /**
+     * STT 체크포인트를 기록하고 채점 단계로 넘긴다.
+     * 조회 없이 한 번의 조건부 UPDATE 로 처리하며, 이미 기록되었거나 완료된 작업이면 0을 반환한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnswerTask t
+        SET t.transcript = :transcript,
+            t.measuredTime = :measuredTime,
+            t.transcribedAt = :now,
+            t.stage = com.blooming.inpeak.answer.domain.AnswerTaskStage.GRADING,
+            t.updatedAt = :now,
+            t.version = t.version + 1
+        WHERE t.id = :taskId
+          AND t.transcript IS NULL
+          AND t.status <> com.blooming.inpeak.answer.domain.AnswerTaskStatus.SUCCESS
+        """)
+    int completeTranscription(
+        @Param("taskId") Long taskId,
+        @Param("transcript") String transcript,
+        @Param("measuredTime") Long measuredTime,
+        @Param("now") ZonedDateTime now
+    );
+
+    /**
+     * 채점 체크포인트를 기록하고 저장 단계로 넘긴다.
+     * 이미 기록되었거나 완료된 작업이면 0을 반환한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnswerTask t
+        SET t.feedback = :feedback,
+            t.gradedAt = :now,
+            t.stage = com.blooming.inpeak.answer.domain.AnswerTaskStage.PERSIST,
+            t.updatedAt = :now,
+            t.version = t.version + 1
+        WHERE t.id = :taskId
+          AND t.feedback IS NULL
+          AND t.status <> com.blooming.inpeak.answer.domain.AnswerTaskStatus.SUCCESS
+        """)
+    int completeGrading(
+        @Param("taskId") Long taskId,
+        @Param("feedback") String feedback,
+        @Param("now") ZonedDateTime now
+    );
+
+    /**
+     * 작업을 완료 처리한다.
+     * 이미 완료된 작업이면 0을 반환한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnswerTask t
+        SET t.status = com.blooming.inpeak.answer.domain.AnswerTaskStatus.SUCCESS,
+            t.stage = com.blooming.inpeak.answer.domain.AnswerTaskStage.DONE,
+            t.answerId = :answerId,
+            t.failureReason = NULL,
+            t.completedAt = :now,
+            t.updatedAt = :now,
+            t.version = t.version + 1
+        WHERE t.id = :taskId
+          AND t.status <> com.blooming.inpeak.answer.domain.AnswerTaskStatus.SUCCESS
+        """)
+    int markSuccess(
+        @Param("taskId") Long taskId,
+        @Param("answerId") Long answerId,
+        @Param("now") ZonedDateTime now
+    );
+
+    /**
+     * 재발행 횟수가 같고 cutoff 이후로 갱신되지 않은 대기 작업을 오래된 순으로 조회한다.
+     * (status, reap_count, updated_at) 인덱스를 범위 조회하므로 테이블 전체를 읽지 않는다.
+     */
+    @Query("""
+        SELECT t FROM AnswerTask t
+        WHERE t.status = com.blooming.inpeak.answer.domain.AnswerTaskStatus.WAITING
+          AND t.reapCount = :reapCount
+          AND t.updatedAt < :cutoff
+        ORDER BY t.updatedAt ASC
+        """)
+    List<AnswerTask> findStale(
+        @Param("reapCount") int reapCount,
+        @Param("cutoff") ZonedDateTime cutoff,
+        Pageable pageable
+    );
+
+    /**
+     * 멈춘 작업의 재발행 횟수를 올린다.
+     * 조회 이후 작업이 진행되었거나 다른 인스턴스가 먼저 처리했으면 0을 반환한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnswerTask t
+        SET t.reapCount = t.reapCount + 1,
+            t.updatedAt = :now,
+            t.version = t.version + 1
+        WHERE t.id = :taskId
+          AND t.status = com.blooming.inpeak.answer.domain.AnswerTaskStatus.WAITING
+          AND t.reapCount = :reapCount
+          AND t.updatedAt < :cutoff
+        """)
+    int markReenqueued(
+        @Param("taskId") Long taskId,
+        @Param("reapCount") int reapCount,
+        @Param("cutoff") ZonedDateTime cutoff,
+        @Param("now") ZonedDateTime now
+    );
+
+    /**
+     * 재발행 한도를 넘긴 멈춘 작업을 실패 처리한다.
+     * 조회 이후 작업이 진행되었으면 0을 반환한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnswerTask t
+        SET t.status = com.blooming.inpeak.answer.domain.AnswerTaskStatus.FAILED,
+            t.failureReason = :reason,
+            t.updatedAt = :now,
+            t.version = t.version + 1
+        WHERE t.id = :taskId
+          AND t.status = com.blooming.inpeak.answer.domain.AnswerTaskStatus.WAITING
+          AND t.reapCount = :reapCount
+          AND t.updatedAt < :cutoff
+        """)
+    int markStaleFailed(
+        @Param("taskId") Long taskId,
+        @Param("reapCount") int reapCount,
+        @Param("cutoff") ZonedDateTime cutoff,
+        @Param("reason") String reason,
+        @Param("now") ZonedDateTime now
+    );
+
+    /**
+     * 재처리 범위 안의 실패 작업을 커서 다음부터 (updated_at, id) 순으로 조회한다.
+     * 재처리된 작업은 실패 상태에서 빠지므로 같은 작업을 다시 읽지 않는다.
+     */
+    @Query("""
+        SELECT t FROM AnswerTask t
+        WHERE t.status = com.blooming.inpeak.answer.domain.AnswerTaskStatus.FAILED
+          AND t.updatedAt >= :from
+          AND t.updatedAt < :to
+          AND (:errorClass IS NULL OR t.failureReason LIKE CONCAT('%', :errorClass, '%'))
+          AND (t.updatedAt > :cursorUpdatedAt
+            OR (t.updatedAt = :cursorUpdatedAt AND t.id > :cursorId))
+        ORDER BY t.updatedAt ASC, t.id ASC
+        """)
+    List<AnswerTask> findReplayable(
+        @Param("from") ZonedDateTime from,
+        @Param("to") ZonedDateTime to,
+        @Param("errorClass") String errorClass,
+        @Param("cursorUpdatedAt") ZonedDateTime cursorUpdatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
 }
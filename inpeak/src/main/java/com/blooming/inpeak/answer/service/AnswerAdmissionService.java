@@ -0,0 +1,134 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.common.error.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 답변 생성 요청 수락 여부 판단
+ * 파이프라인 단계별 적체(컨슈머 랙)와 처리 속도로 새 작업의 예상 대기 시간을 구하고,
+ * 예상 대기 시간이 wait-slo 를 넘으면 새 작업을 받지 않고 503 과 Retry-After 를 돌려준다.
+ * 이미 받은 작업의 대기 시간이 급증 구간에도 wait-slo 근처에 머문다.
+ * <p>
+ * 추정치는 {@link AnswerPipelineLagMonitor} 가 주기적으로 갱신한다.
+ * 추정치가 없거나 오래되었으면 (Kafka 조회 실패, 테스트 환경) 요청을 받는다.
+ */
+@Service
+public class AnswerAdmissionService {
+
+    private final Duration waitSlo;
+    private final long minLag;
+    private final Duration maxRetryAfter;
+    private final Duration staleAfter;
+    private final Counter rejectedCounter;
+
+    private volatile Estimate estimate;
+
+    public AnswerAdmissionService(
+        MeterRegistry meterRegistry,
+        @Value("${answer.admission.wait-slo}") Duration waitSlo,
+        @Value("${answer.admission.min-lag}") long minLag,
+        @Value("${answer.admission.max-retry-after}") Duration maxRetryAfter,
+        @Value("${answer.admission.stale-after}") Duration staleAfter
+    ) {
+        this.waitSlo = waitSlo;
+        this.minLag = minLag;
+        this.maxRetryAfter = maxRetryAfter;
+        this.staleAfter = staleAfter;
+
+        this.rejectedCounter = Counter.builder("answer.admission.rejected")
+            .register(meterRegistry);
+        Gauge.builder("answer.admission.expected.wait", this,
+                service -> service.expectedWait().toMillis())
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 파이프라인 단계의 적체와 처리 속도
+     *
+     * @param stage     단계 이름
+     * @param lag       아직 처리하지 않은 레코드 수
+     * @param drainRate 초당 처리 레코드 수
+     */
+    public record StageLoad(String stage, long lag, double drainRate) {
+
+    }
+
+    private record Estimate(long lag, Duration expectedWait, long sampledAt) {
+
+    }
+
+    /**
+     * 단계별 적체로 새 작업의 예상 대기 시간을 갱신한다.
+     * 새 작업은 모든 단계의 대기열을 차례로 거치므로 단계별 대기 시간을 더한다.
+     * 적체가 있는데 처리 속도가 0 이면 멈춘 것으로 보고 최대 대기 시간으로 둔다.
+     *
+     * @param loads 단계별 적체
+     */
+    public void update(List<StageLoad> loads) {
+        long lag = 0;
+        Duration expectedWait = Duration.ZERO;
+        for (StageLoad load : loads) {
+            if (load.lag() <= 0) {
+                continue;
+            }
+            lag += load.lag();
+            if (load.drainRate() <= 0) {
+                expectedWait = expectedWait.plus(waitSlo).plus(maxRetryAfter);
+                continue;
+            }
+            expectedWait = expectedWait.plusMillis((long) (load.lag() / load.drainRate() * 1000));
+        }
+
+        this.estimate = new Estimate(lag, expectedWait, System.currentTimeMillis());
+    }
+
+    /**
+     * 새 작업을 받을 수 있는지 확인한다.
+     *
+     * @throws ServiceUnavailableException 예상 대기 시간이 wait-slo 를 넘는 경우
+     */
+    public void checkAdmission() {
+        Estimate current = fresh();
+        if (current == null || current.lag() < minLag
+            || current.expectedWait().compareTo(waitSlo) <= 0) {
+            return;
+        }
+
+        // 적체가 wait-slo 수준까지 줄어드는 데 걸리는 시간 뒤에 다시 요청하도록 한다.
+        Duration retryAfter = current.expectedWait().minus(waitSlo);
+        if (retryAfter.compareTo(Duration.ofSeconds(1)) < 0) {
+            retryAfter = Duration.ofSeconds(1);
+        }
+        if (retryAfter.compareTo(maxRetryAfter) > 0) {
+            retryAfter = maxRetryAfter;
+        }
+
+        rejectedCounter.increment();
+        throw new ServiceUnavailableException("답변 처리 대기열 적체: lag=" + current.lag()
+            + ", expectedWait=" + current.expectedWait().toSeconds() + "s", retryAfter);
+    }
+
+    /**
+     * 현재 예상 대기 시간 (추정치가 없으면 0)
+     */
+    public Duration expectedWait() {
+        Estimate current = fresh();
+        return current == null ? Duration.ZERO : current.expectedWait();
+    }
+
+    private Estimate fresh() {
+        Estimate current = this.estimate;
+        if (current == null
+            || System.currentTimeMillis() - current.sampledAt() > staleAfter.toMillis()) {
+            return null;
+        }
+        return current;
+    }
+}
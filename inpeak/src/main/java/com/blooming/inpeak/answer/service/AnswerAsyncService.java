@@ -1,28 +1,34 @@
 package com.blooming.inpeak.answer.service;
 
 import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskOutbox;
+import com.blooming.inpeak.answer.domain.AnswerTaskStatus;
 import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
-import com.blooming.inpeak.answer.dto.command.AnswerTaskMessage;
 import com.blooming.inpeak.answer.dto.response.TaskIDResponse;
+import com.blooming.inpeak.answer.repository.AnswerTaskOutboxRepository;
 import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
-import com.blooming.inpeak.common.error.exception.NotFoundException;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
 import com.blooming.inpeak.question.domain.Question;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AnswerAsyncService {
     private final  AnswerManagerService answerManagerService;
     private final AnswerTaskRepository answerTaskRepository;
-    private final KafkaTemplate<String, AnswerTaskMessage> kafkaTemplate;
-
-    private static final String ANSWER_TASK_TOPIC = "answer-task-topic";
+    private final AnswerTaskOutboxRepository answerTaskOutboxRepository;
+    private final AnswerTaskStatusCache answerTaskStatusCache;
+    private final AnswerAdmissionService answerAdmissionService;
 
     /**
      * 비동기 답변 생성 요청 메서드
+     * 같은 질문에 대한 작업이 이미 진행 중이면 새 작업을 만들지 않고 기존 작업 ID를 반환한다.
+     * 파이프라인이 밀려 새 작업의 예상 대기 시간이 기준을 넘으면 새 작업을 받지 않는다.
      *
      * @param command 답변 생성 명령어
      * @return 생성된 답변 작업 ID
@@ -32,14 +38,32 @@ public class AnswerAsyncService {
         // 질문 유효성 검사 및 조회
         Question question = answerManagerService.validateAndGetQuestion(command);
 
+        Optional<AnswerTask> existing = answerTaskRepository.findByInterviewIdAndQuestionId(
+            command.interviewId(), command.questionId());
+        if (existing.isPresent()) {
+            AnswerTask task = existing.get();
+            if (task.getStatus() != AnswerTaskStatus.FAILED) {
+                log.info("진행 중인 답변 작업 재사용: taskId={}", task.getId());
+                return new TaskIDResponse(task.getId());
+            }
+
+            // 실패한 작업은 새 요청으로 대체한다. 삭제를 먼저 반영해야 유니크 제약에 걸리지 않는다.
+            answerTaskRepository.delete(task);
+            answerTaskRepository.flush();
+        }
+
+        // 새 작업을 만들 때만 파이프라인 적체를 확인한다. (거절되면 위의 삭제도 롤백된다)
+        answerAdmissionService.checkAdmission();
+
         // 작업 큐 생성
         AnswerTask newTask = AnswerTask.waiting(command, question.getContent());
 
         // 작업 저장
         AnswerTask savedTask = answerTaskRepository.save(newTask);
 
-        // 비동기 작업 요청
-        kafkaTemplate.send(ANSWER_TASK_TOPIC, new AnswerTaskMessage(savedTask.getId()));
+        // 비동기 작업 요청 (같은 트랜잭션에서 아웃박스에 기록하고, 발행은 릴레이가 커밋 후에 한다)
+        answerTaskOutboxRepository.save(AnswerTaskOutbox.of(savedTask, KafkaTopics.ANSWER_TASK));
+        answerTaskStatusCache.put(savedTask);
 
         return new TaskIDResponse( savedTask.getId());
     }
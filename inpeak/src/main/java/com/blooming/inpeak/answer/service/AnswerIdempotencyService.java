@@ -0,0 +1,133 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
+import com.blooming.inpeak.answer.dto.response.TaskIDResponse;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.common.error.exception.ConflictException;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 답변 생성 요청의 재전송을 흡수한다.
+ * 같은 Idempotency-Key 로 다시 요청하면 처음 만든 작업 ID를 그대로 돌려주고,
+ * 키가 없거나 Redis 에 접근할 수 없어도 (interview_id, question_id) 유니크 제약으로 작업은 하나만 만들어진다.
+ */
+@Slf4j
+@Service
+public class AnswerIdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:answer_create:";
+    private static final String PENDING = "PENDING";
+
+    private final AnswerAsyncService answerAsyncService;
+    private final AnswerTaskRepository answerTaskRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final Duration pendingTtl;
+
+    public AnswerIdempotencyService(
+        AnswerAsyncService answerAsyncService,
+        AnswerTaskRepository answerTaskRepository,
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${answer.idempotency.ttl}") Duration ttl,
+        @Value("${answer.idempotency.pending-ttl}") Duration pendingTtl
+    ) {
+        this.answerAsyncService = answerAsyncService;
+        this.answerTaskRepository = answerTaskRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+        this.pendingTtl = pendingTtl;
+    }
+
+    /**
+     * 답변 생성을 요청한다.
+     *
+     * @param command        답변 생성 명령어
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 null)
+     * @return 답변 작업 ID
+     */
+    public TaskIDResponse requestAnswerCreation(AnswerCreateCommand command,
+        String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return createOrFind(command);
+        }
+
+        String key = KEY_PREFIX + command.memberId() + ":" + idempotencyKey;
+        String fingerprint = command.interviewId() + ":" + command.questionId();
+
+        Boolean claimed;
+        try {
+            claimed = stringRedisTemplate.opsForValue().setIfAbsent(key, PENDING, pendingTtl);
+        } catch (DataAccessException e) {
+            log.warn("멱등키 조회 실패, 유니크 제약으로 진행: error={}", e.getMessage());
+            return createOrFind(command);
+        }
+
+        if (!Boolean.TRUE.equals(claimed)) {
+            return replay(key, fingerprint, command);
+        }
+
+        TaskIDResponse response;
+        try {
+            response = createOrFind(command);
+        } catch (RuntimeException e) {
+            // 실패한 요청은 같은 키로 다시 시도할 수 있어야 한다.
+            deleteQuietly(key);
+            throw e;
+        }
+
+        try {
+            stringRedisTemplate.opsForValue()
+                .set(key, fingerprint + ":" + response.taskId(), ttl);
+        } catch (DataAccessException e) {
+            // 기록하지 못해도 재전송은 유니크 제약으로 같은 작업을 돌려받는다.
+            log.warn("멱등키 기록 실패: key={}, error={}", key, e.getMessage());
+        }
+        return response;
+    }
+
+    private TaskIDResponse replay(String key, String fingerprint, AnswerCreateCommand command) {
+        String stored;
+        try {
+            stored = stringRedisTemplate.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            log.warn("멱등키 조회 실패, 유니크 제약으로 진행: error={}", e.getMessage());
+            return createOrFind(command);
+        }
+        if (stored == null || PENDING.equals(stored)) {
+            throw new ConflictException("같은 Idempotency-Key 의 요청을 처리 중입니다.");
+        }
+
+        int separator = stored.lastIndexOf(':');
+        if (!stored.substring(0, separator).equals(fingerprint)) {
+            throw new ConflictException("다른 요청에 사용된 Idempotency-Key 입니다.");
+        }
+
+        return new TaskIDResponse(Long.parseLong(stored.substring(separator + 1)));
+    }
+
+    // 동시에 들어온 같은 질문의 요청은 유니크 제약에 걸리므로, 먼저 만들어진 작업을 돌려준다.
+    private TaskIDResponse createOrFind(AnswerCreateCommand command) {
+        try {
+            return answerAsyncService.requestAsyncAnswerCreation(command);
+        } catch (DataIntegrityViolationException e) {
+            return answerTaskRepository.findByInterviewIdAndQuestionId(command.interviewId(),
+                    command.questionId())
+                .map(task -> new TaskIDResponse(task.getId()))
+                .orElseThrow(() -> e);
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("멱등키 삭제 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+}
@@ -1,64 +1,170 @@
 package com.blooming.inpeak.answer.service;
 
-import com.blooming.inpeak.answer.domain.Answer;
-import com.blooming.inpeak.answer.domain.AnswerTask;
-import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
+import com.blooming.inpeak.answer.dto.command.AnswerGradingMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerPersistMessage;
 import com.blooming.inpeak.answer.dto.command.AnswerTaskMessage;
-import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
-import com.blooming.inpeak.common.error.exception.NotFoundException;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import com.blooming.inpeak.common.kafka.KafkaRecordDispatcher;
+import com.blooming.inpeak.common.kafka.RetryHeaders;
+import com.blooming.inpeak.common.kafka.RetryTopicRelay;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @Profile("!test")
-@Slf4j
 @RequiredArgsConstructor
 public class AnswerKafkaConsumer {
 
-    private final AnswerTaskRepository answerTaskRepository;
-    private final AnswerManagerService answerManagerService;
-    private final GPTService gptService;
-    private final AnswerPresignedUrlService answerPresignedUrlService;
+    private final AnswerPipelineService answerPipelineService;
+    private final KafkaRecordDispatcher sttDispatcher;
+    private final KafkaRecordDispatcher gradingDispatcher;
+    private final KafkaRecordDispatcher persistDispatcher;
+    private final RetryTopicRelay retryTopicRelay;
+    private final ObjectMapper objectMapper;
 
     /**
-     * Kafka 메시지를 수신하여 답변 작업을 처리하는 메서드
+     * 답변 작업 메시지를 수신하여 오디오 다운로드 및 STT 단계를 처리하는 메서드
      *
-     * @param message AnswerTaskMessage 객체
+     * @param record AnswerTaskMessage 레코드
+     * @param ack    처리 완료 시 호출할 Acknowledgment
      */
     @KafkaListener(
-        topics = "answer-task-topic",
-        groupId = "answer-task-group"
+        id = KafkaTopics.ANSWER_TASK_LISTENER,
+        topics = KafkaTopics.ANSWER_TASK,
+        groupId = KafkaTopics.ANSWER_TASK_GROUP,
+        containerFactory = "kafkaListenerContainerFactory"
     )
-    public void listen(AnswerTaskMessage message) {
-        Long taskId = message.taskId();
+    public void listen(ConsumerRecord<String, AnswerTaskMessage> record, Acknowledgment ack) {
+        sttDispatcher.dispatch(record, ack, () -> answerPipelineService.transcribe(record.value()));
+    }
 
-        AnswerTask task = answerTaskRepository.findById(taskId)
-            .orElseThrow(() -> new NotFoundException("AnswerTask 없음. taskId=" + taskId));
+    /**
+     * 채점 메시지를 수신하여 GPT 채점 단계를 처리하는 메서드
+     *
+     * @param record AnswerGradingMessage 레코드
+     * @param ack    처리 완료 시 호출할 Acknowledgment
+     */
+    @KafkaListener(
+        id = KafkaTopics.ANSWER_GRADING_LISTENER,
+        topics = KafkaTopics.ANSWER_GRADING,
+        groupId = KafkaTopics.ANSWER_GRADING_GROUP,
+        containerFactory = "gradingListenerContainerFactory"
+    )
+    public void listenGrading(ConsumerRecord<String, AnswerGradingMessage> record,
+        Acknowledgment ack) {
+        gradingDispatcher.dispatch(record, ack, () -> answerPipelineService.grade(record.value()));
+    }
 
-        AnswerCreateCommand command = AnswerCreateCommand.from(task);
+    /**
+     * 저장 메시지를 수신하여 답변 저장 단계를 처리하는 메서드
+     *
+     * @param record AnswerPersistMessage 레코드
+     * @param ack    처리 완료 시 호출할 Acknowledgment
+     */
+    @KafkaListener(
+        topics = KafkaTopics.ANSWER_PERSIST,
+        groupId = KafkaTopics.ANSWER_PERSIST_GROUP,
+        containerFactory = "persistListenerContainerFactory"
+    )
+    public void listenPersist(ConsumerRecord<String, AnswerPersistMessage> record,
+        Acknowledgment ack) {
+        persistDispatcher.dispatch(record, ack, () -> answerPipelineService.persist(record.value()));
+    }
 
-        byte[] audioBytes = answerPresignedUrlService.downloadAudioFromS3(command.audioURL());
+    /**
+     * 재시도 토픽의 레코드를 지연 시간이 지난 뒤 원래 단계 토픽으로 되돌리는 메서드
+     * 지연 단계마다 리스너 컨테이너를 따로 두어, 긴 지연 단계에서 기다리는 레코드가
+     * 짧은 지연 단계의 컨슈머를 멈추지 않게 한다.
+     *
+     * @param record 재시도 레코드
+     * @param ack    처리 완료 시 호출할 Acknowledgment
+     */
+    @KafkaListener(
+        topics = KafkaTopics.ANSWER_RETRY_1,
+        groupId = KafkaTopics.ANSWER_RETRY_GROUP,
+        containerFactory = "retryListenerContainerFactory"
+    )
+    public void listenRetry1(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        retryTopicRelay.relay(record, ack);
+    }
 
-        try {
-            String feedback = gptService.makeGPTResponse(audioBytes, task.getQuestionContent());
-            Answer answer = answerManagerService.generateAnswer(command, feedback);
+    @KafkaListener(
+        topics = KafkaTopics.ANSWER_RETRY_2,
+        groupId = KafkaTopics.ANSWER_RETRY_GROUP,
+        containerFactory = "retryListenerContainerFactory"
+    )
+    public void listenRetry2(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        retryTopicRelay.relay(record, ack);
+    }
 
-            task.markSuccess(answer.getId());
-            log.info("답변 생성 성공: taskId={}, answerId={}", taskId, answer.getId());
+    @KafkaListener(
+        topics = KafkaTopics.ANSWER_RETRY_3,
+        groupId = KafkaTopics.ANSWER_RETRY_GROUP,
+        containerFactory = "retryListenerContainerFactory"
+    )
+    public void listenRetry3(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        retryTopicRelay.relay(record, ack);
+    }
 
-        } catch (Exception e) {
-            task.markFailed();
-            log.error("답변 생성 실패: taskId={}, error={}", taskId, e.getMessage());
+    /**
+     * 재시도를 모두 소진한 레코드를 받아 작업을 실패 처리하는 메서드
+     *
+     * @param record DLT 레코드
+     * @param ack    처리 완료 시 호출할 Acknowledgment
+     */
+    @KafkaListener(
+        topics = KafkaTopics.ANSWER_DLT,
+        groupId = KafkaTopics.ANSWER_DLT_GROUP,
+        containerFactory = "retryListenerContainerFactory"
+    )
+    public void listenDeadLetter(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        // 모든 단계 메시지는 taskId 를 가진다.
+        JsonNode taskId = readTaskId(record.value());
+        if (taskId == null || !taskId.canConvertToLong()) {
+            log.error("taskId 를 알 수 없는 DLT 레코드, 폐기: offset={}", record.offset());
+            ack.acknowledge();
+            return;
+        }
 
-            // 재시도 위해서 다시 오류 반환
-            throw e;
+        answerPipelineService.markDeadLettered(taskId.asLong(), failureReason(record));
+        ack.acknowledge();
+    }
 
-        } finally {
-            answerManagerService.saveAnswerTask(task);
+    // 실패 작업을 예외 종류별로 재처리할 수 있도록 원인 예외의 클래스 이름을 앞에 붙인다.
+    private String failureReason(ConsumerRecord<String, byte[]> record) {
+        String exception = RetryHeaders.getString(record.headers(),
+            KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN);
+        if (exception == null) {
+            exception = RetryHeaders.getString(record.headers(), KafkaHeaders.DLT_EXCEPTION_FQCN);
         }
+        String message = RetryHeaders.getString(record.headers(),
+            KafkaHeaders.DLT_EXCEPTION_MESSAGE);
+
+        if (exception == null) {
+            return message;
+        }
+        String simpleName = exception.substring(exception.lastIndexOf('.') + 1);
+        return message == null ? simpleName : simpleName + ": " + message;
     }
-}
 
+    private JsonNode readTaskId(byte[] value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(value).get("taskId");
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
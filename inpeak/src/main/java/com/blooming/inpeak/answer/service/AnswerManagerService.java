@@ -2,15 +2,21 @@ package com.blooming.inpeak.answer.service;
 
 import com.blooming.inpeak.answer.domain.Answer;
 import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskOutbox;
+import com.blooming.inpeak.answer.domain.AnswerTaskStatus;
 import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
 import com.blooming.inpeak.answer.repository.AnswerRepository;
+import com.blooming.inpeak.answer.repository.AnswerTaskOutboxRepository;
 import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
 import com.blooming.inpeak.common.error.exception.ConflictException;
 import com.blooming.inpeak.common.error.exception.NotFoundException;
 import com.blooming.inpeak.member.service.MemberStatisticsService;
 import com.blooming.inpeak.question.domain.Question;
 import com.blooming.inpeak.question.repository.QuestionRepository;
+import java.time.ZonedDateTime;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +27,7 @@ public class AnswerManagerService {
     private final QuestionRepository questionRepository;
     private final MemberStatisticsService memberStatisticsService;
     private final AnswerTaskRepository answerTaskRepository;
+    private final AnswerTaskOutboxRepository answerTaskOutboxRepository;
 
     @Transactional(readOnly = true)
     public Question validateAndGetQuestion(AnswerCreateCommand command) {
@@ -44,8 +51,65 @@ public class AnswerManagerService {
         return answer;
     }
 
+    /**
+     * 작업을 저장하고 갱신된 버전의 작업을 반환한다.
+     * 다른 워커가 먼저 갱신한 작업이면 OptimisticLockingFailureException 이 발생한다.
+     */
     @Transactional
-    public void saveAnswerTask(AnswerTask task) {
-        AnswerTask savedTask = answerTaskRepository.save(task);
+    public AnswerTask saveAnswerTask(AnswerTask task) {
+        return answerTaskRepository.save(task);
+    }
+
+    /**
+     * 답변을 생성하고 작업을 완료 처리한다.
+     * 이미 완료된 작업이면 답변 저장과 통계 갱신까지 함께 롤백된다.
+     *
+     * @return 생성된 답변 ID
+     */
+    @Transactional
+    public Long completeAnswerTask(Long taskId, AnswerCreateCommand command, String feedback) {
+        Answer answer = generateAnswer(command, feedback);
+        if (answerTaskRepository.markSuccess(taskId, answer.getId(), ZonedDateTime.now()) == 0) {
+            throw new OptimisticLockingFailureException("이미 완료된 작업입니다. taskId=" + taskId);
+        }
+        return answer.getId();
+    }
+
+    /**
+     * 멈춘 작업의 재발행 횟수를 올리고, 같은 트랜잭션에서 아웃박스에 다시 발행할 메시지를 기록한다.
+     *
+     * @param task   멈춘 작업
+     * @param topic  다시 시작할 단계의 토픽
+     * @param cutoff 이 시각 이후로 갱신된 작업은 진행 중이므로 건너뛴다.
+     * @return 재발행했으면 true, 그 사이 작업이 진행되었거나 다른 인스턴스가 처리했으면 false
+     */
+    @Transactional
+    public boolean reenqueueStaleTask(AnswerTask task, String topic, ZonedDateTime cutoff) {
+        if (answerTaskRepository.markReenqueued(task.getId(), task.getReapCount(), cutoff,
+            ZonedDateTime.now()) == 0) {
+            return false;
+        }
+        answerTaskOutboxRepository.save(AnswerTaskOutbox.of(task, topic));
+        return true;
+    }
+
+    /**
+     * 실패한 작업을 대기 상태로 되돌리고, 같은 트랜잭션에서 체크포인트 단계부터 다시 발행하도록 아웃박스에 기록한다.
+     *
+     * @param taskId 작업 ID
+     * @return 재처리했으면 true, 그 사이 삭제되었거나 이미 다시 처리 중이면 false
+     */
+    @Transactional
+    public boolean replayFailedTask(Long taskId) {
+        Optional<AnswerTask> found = answerTaskRepository.findById(taskId);
+        if (found.isEmpty() || found.get().getStatus() != AnswerTaskStatus.FAILED) {
+            return false;
+        }
+
+        AnswerTask task = found.get();
+        task.retry();
+        answerTaskOutboxRepository.save(
+            AnswerTaskOutbox.of(task, AnswerTaskOutbox.resumeTopic(task)));
+        return true;
     }
 }
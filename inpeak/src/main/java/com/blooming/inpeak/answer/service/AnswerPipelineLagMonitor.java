@@ -0,0 +1,153 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.service.AnswerAdmissionService.StageLoad;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 답변 파이프라인 단계별 적체 측정
+ * 단계 토픽의 끝 오프셋과 컨슈머 그룹의 커밋 오프셋 차이로 적체(랙)를 구하고,
+ * 주기 사이에 커밋 오프셋이 늘어난 양으로 처리 속도를 구해 {@link AnswerAdmissionService} 에 넘긴다.
+ * 컨슈머 그룹 단위 값이므로 인스턴스마다 같은 추정치를 얻는다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class AnswerPipelineLagMonitor {
+
+    private static final List<Stage> STAGES = List.of(
+        new Stage("stt", KafkaTopics.ANSWER_TASK, KafkaTopics.ANSWER_TASK_GROUP),
+        new Stage("grading", KafkaTopics.ANSWER_GRADING, KafkaTopics.ANSWER_GRADING_GROUP),
+        new Stage("persist", KafkaTopics.ANSWER_PERSIST, KafkaTopics.ANSWER_PERSIST_GROUP)
+    );
+
+    private final AdminClient pipelineAdminClient;
+    private final AnswerAdmissionService answerAdmissionService;
+    private final double smoothing;
+    private final Duration timeout;
+
+    // 단계별 직전 측정값
+    private final Map<String, Sample> samples = new HashMap<>();
+    private final Map<String, Long> lags = new ConcurrentHashMap<>();
+    private final Map<String, Double> drainRates = new ConcurrentHashMap<>();
+
+    public AnswerPipelineLagMonitor(
+        AdminClient pipelineAdminClient,
+        AnswerAdmissionService answerAdmissionService,
+        MeterRegistry meterRegistry,
+        @Value("${answer.admission.smoothing}") double smoothing,
+        @Value("${answer.admission.query-timeout}") Duration timeout
+    ) {
+        this.pipelineAdminClient = pipelineAdminClient;
+        this.answerAdmissionService = answerAdmissionService;
+        this.smoothing = smoothing;
+        this.timeout = timeout;
+
+        for (Stage stage : STAGES) {
+            Gauge.builder("answer.pipeline.lag", lags, map -> map.getOrDefault(stage.name(), 0L))
+                .tag("stage", stage.name())
+                .register(meterRegistry);
+            Gauge.builder("answer.pipeline.drain.rate", drainRates,
+                    map -> map.getOrDefault(stage.name(), 0.0))
+                .tag("stage", stage.name())
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${answer.admission.refresh-interval-millis}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        List<StageLoad> loads = new ArrayList<>();
+
+        for (Stage stage : STAGES) {
+            Sample sample;
+            try {
+                sample = sample(stage, now);
+            } catch (ExecutionException | TimeoutException e) {
+                // 추정치를 갱신하지 않으면 stale-after 이후 요청을 그대로 받는다.
+                log.warn("파이프라인 적체 조회 실패: stage={}, error={}", stage.name(),
+                    e.getMessage());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            Sample previous = samples.put(stage.name(), sample);
+            lags.put(stage.name(), sample.lag());
+            if (previous == null || sample.sampledAt() <= previous.sampledAt()) {
+                continue;
+            }
+
+            double seconds = (sample.sampledAt() - previous.sampledAt()) / 1000.0;
+            double rate = Math.max(sample.committed() - previous.committed(), 0) / seconds;
+            Double smoothed = drainRates.merge(stage.name(), rate,
+                (old, latest) -> smoothing * latest + (1 - smoothing) * old);
+            loads.add(new StageLoad(stage.name(), sample.lag(), smoothed));
+        }
+
+        if (loads.size() == STAGES.size()) {
+            answerAdmissionService.update(loads);
+        }
+    }
+
+    private Sample sample(Stage stage, long now)
+        throws ExecutionException, InterruptedException, TimeoutException {
+        Map<TopicPartition, OffsetAndMetadata> committed = pipelineAdminClient
+            .listConsumerGroupOffsets(stage.groupId())
+            .partitionsToOffsetAndMetadata()
+            .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+        committed.forEach((partition, offset) -> {
+            if (offset != null && partition.topic().equals(stage.topic())) {
+                request.put(partition, OffsetSpec.latest());
+            }
+        });
+        if (request.isEmpty()) {
+            return new Sample(0, 0, now);
+        }
+
+        Map<TopicPartition, ListOffsetsResultInfo> ends = pipelineAdminClient
+            .listOffsets(request)
+            .all()
+            .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        long lag = 0;
+        long committedTotal = 0;
+        for (TopicPartition partition : request.keySet()) {
+            long offset = committed.get(partition).offset();
+            committedTotal += offset;
+            lag += Math.max(ends.get(partition).offset() - offset, 0);
+        }
+        return new Sample(lag, committedTotal, now);
+    }
+
+    private record Stage(String name, String topic, String groupId) {
+
+    }
+
+    private record Sample(long lag, long committed, long sampledAt) {
+
+    }
+}
@@ -0,0 +1,326 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.audio.AudioFile;
+import com.blooming.inpeak.answer.audio.PreprocessedAudio;
+import com.blooming.inpeak.answer.audio.WavPreprocessor;
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskStage;
+import com.blooming.inpeak.answer.dto.command.AnswerGradingMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerPersistMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerTaskMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerTaskPayload;
+import com.blooming.inpeak.answer.dto.response.AnswerByTaskResponse;
+import com.blooming.inpeak.answer.ratelimit.GradingScheduler;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import com.blooming.inpeak.common.error.exception.NotFoundException;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 답변 생성 파이프라인의 단계별 처리 로직
+ * 다운로드/STT -> 채점 -> 저장 단계는 각자의 토픽으로 연결되어,
+ * 느린 채점 단계가 STT 처리량을 붙잡지 않는다.
+ * <p>
+ * 메시지가 작업 정보(payload)를 함께 실어 오므로 각 단계는 결과를 조건부 UPDATE 한 번으로 기록한다.
+ * payload 가 없는 이전 형식 메시지는 조회한 작업에서 정보를 얻는다.
+ * <p>
+ * 다운로드/STT 와 채점 단계는 결과를 저장한 뒤 다음 단계 발행에 실패하면 처리권에 체크포인트 표시를 남긴다.
+ * 표시가 있는 재전달 메시지와 이전 형식 메시지만 비용이 드는 호출 전에 작업의 체크포인트를 확인해,
+ * 저장된 결과로 이어가고 Whisper / GPT 를 다시 호출하지 않는다.
+ * 처음 전달된 메시지는 작업을 조회하지 않으며, 그 사이 다른 워커가 먼저 기록한 결과는
+ * 조건부 UPDATE 가 실패했을 때 조회해 이어간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerPipelineService {
+
+    private final AnswerTaskRepository answerTaskRepository;
+    private final AnswerManagerService answerManagerService;
+    private final GPTService gptService;
+    private final GradingScheduler gradingScheduler;
+    private final TranscriptionService transcriptionService;
+    private final AnswerPresignedUrlService answerPresignedUrlService;
+    private final WavPreprocessor wavPreprocessor;
+    private final AnswerTaskClaimService answerTaskClaimService;
+    private final AnswerTaskEventService answerTaskEventService;
+    private final AnswerTaskStatusCache answerTaskStatusCache;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${audio.preprocess.duration-tolerance-seconds}")
+    private long durationToleranceSeconds;
+
+    /**
+     * 1단계: 오디오를 내려받아 전처리하고 텍스트로 변환한 뒤 채점 단계로 넘긴다.
+     * 이미 STT 체크포인트가 있으면 다운로드와 STT를 건너뛴다.
+     *
+     * @param message 답변 작업 메시지
+     */
+    public void transcribe(AnswerTaskMessage message) {
+        Long taskId = message.taskId();
+        runClaimed(AnswerTaskStage.STT, taskId, run -> {
+            AnswerTaskPayload payload = message.payload();
+            if (payload == null || run.isCheckpointed()) {
+                AnswerTask task = getTask(taskId);
+                if (resumeTranscribed(task, run)) {
+                    return;
+                }
+                payload = payload != null ? payload : AnswerTaskPayload.from(task);
+            }
+
+            AudioFile audioFile = answerPresignedUrlService.downloadAudioFromS3(
+                payload.command().audioURL());
+
+            // 처리 후 임시 오디오 파일 삭제
+            try (audioFile; PreprocessedAudio preprocessed = wavPreprocessor.preprocess(audioFile)) {
+                Long measuredTime = measure(taskId, payload, preprocessed);
+                // 무음뿐인 답변은 Whisper 를 호출하지 않고 빈 답변으로 채점한다.
+                // (무음을 보내면 Whisper 가 없는 문장을 만들어 내기도 한다.)
+                String transcript = preprocessed.isSilent()
+                    ? "" : transcriptionService.transcribe(preprocessed.audio());
+
+                // 다음 단계로 넘기기 전에 STT 결과를 먼저 저장해야 재시도 시 다시 변환하지 않는다.
+                if (answerTaskRepository.completeTranscription(taskId, transcript, measuredTime,
+                    ZonedDateTime.now()) == 0) {
+                    // 다른 워커가 먼저 기록했거나 이전 시도가 다음 단계 발행 전에 실패한 경우
+                    resumeTranscribed(getTask(taskId), run);
+                    return;
+                }
+                run.checkpointed();
+                answerTaskStatusCache.waiting(taskId, payload.command().memberId(),
+                    AnswerTaskStage.GRADING);
+                sendToGrading(taskId, transcript, payload);
+            }
+        });
+    }
+
+    /**
+     * 2단계: 변환된 답변을 GPT로 채점한 뒤 저장 단계로 넘긴다.
+     * 이미 채점 체크포인트가 있으면 GPT 호출을 건너뛴다.
+     *
+     * @param message 채점 메시지
+     */
+    public void grade(AnswerGradingMessage message) {
+        Long taskId = message.taskId();
+        runClaimed(AnswerTaskStage.GRADING, taskId, run -> {
+            AnswerTaskPayload payload = message.payload();
+            if (payload == null || run.isCheckpointed()) {
+                AnswerTask task = getTask(taskId);
+                if (resumeGraded(task, run)) {
+                    return;
+                }
+                payload = payload != null ? payload : AnswerTaskPayload.from(task);
+            }
+
+            String questionContent = payload.questionContent();
+            String feedback = gradingScheduler.execute(payload.command().memberId(),
+                message.transcript(),
+                () -> gptService.makeGPTResponse(message.transcript(), questionContent));
+
+            if (answerTaskRepository.completeGrading(taskId, feedback, ZonedDateTime.now()) == 0) {
+                resumeGraded(getTask(taskId), run);
+                return;
+            }
+            run.checkpointed();
+            answerTaskStatusCache.waiting(taskId, payload.command().memberId(),
+                AnswerTaskStage.PERSIST);
+            sendToPersist(taskId, feedback, payload);
+        });
+    }
+
+    /**
+     * 3단계: 채점 결과로 답변을 저장하고 작업을 완료 처리한다.
+     * 답변 저장과 작업 완료는 한 트랜잭션에서 처리되어, 중복 전달되어도 답변과 통계가 두 번 반영되지 않는다.
+     *
+     * @param message 저장 메시지
+     */
+    public void persist(AnswerPersistMessage message) {
+        Long taskId = message.taskId();
+        runClaimed(AnswerTaskStage.PERSIST, taskId, run -> {
+            AnswerTaskPayload payload = message.payload();
+            if (payload == null) {
+                AnswerTask task = getTask(taskId);
+                if (task.isCompleted()) {
+                    log.info("이미 완료된 작업: taskId={}", taskId);
+                    return;
+                }
+                payload = AnswerTaskPayload.from(task);
+            }
+
+            Long answerId = answerManagerService.completeAnswerTask(taskId, payload.command(),
+                message.feedback());
+            log.info("답변 생성 성공: taskId={}, answerId={}", taskId, answerId);
+            answerTaskStatusCache.success(taskId, payload.command().memberId(), answerId);
+            answerTaskEventService.publish(AnswerByTaskResponse.success(taskId, answerId));
+        });
+    }
+
+    /**
+     * 재시도를 모두 소진해 DLT 로 넘어온 작업을 실패 처리한다.
+     *
+     * @param taskId 작업 ID
+     * @param reason 마지막 실패 원인
+     */
+    public void markDeadLettered(Long taskId, String reason) {
+        Optional<AnswerTask> found = answerTaskRepository.findById(taskId);
+        if (found.isEmpty()) {
+            // 실패한 작업이 새 요청으로 대체되어 삭제된 경우
+            log.warn("DLT 작업이 존재하지 않음: taskId={}", taskId);
+            return;
+        }
+
+        AnswerTask task = found.get();
+        if (task.isCompleted()) {
+            log.info("이미 완료된 작업, 실패 처리 생략: taskId={}", taskId);
+            return;
+        }
+
+        task.markFailed(reason);
+        answerManagerService.saveAnswerTask(task);
+        answerTaskStatusCache.failed(taskId, task.getMemberId(), task.getStage());
+        answerTaskEventService.publish(AnswerByTaskResponse.failed(taskId, task.getStage()));
+        log.error("답변 생성 최종 실패: taskId={}, stage={}, reason={}", taskId, task.getStage(),
+            reason);
+    }
+
+    private AnswerTask getTask(Long taskId) {
+        return answerTaskRepository.findById(taskId)
+            .orElseThrow(() -> new NotFoundException("AnswerTask 없음. taskId=" + taskId));
+    }
+
+    // STT 체크포인트가 있으면 저장된 결과로 채점 단계를 이어간다. 더 진행할 필요가 없으면 true
+    private boolean resumeTranscribed(AnswerTask task, StageRun run) {
+        if (task.isCompleted()) {
+            log.info("이미 완료된 작업: taskId={}", task.getId());
+            return true;
+        }
+        if (!task.isTranscribed()) {
+            return false;
+        }
+
+        log.info("STT 체크포인트에서 재개: taskId={}", task.getId());
+        run.checkpointed();
+        sendToGrading(task.getId(), task.getTranscript(), AnswerTaskPayload.from(task));
+        return true;
+    }
+
+    // 채점 체크포인트가 있으면 저장된 결과로 저장 단계를 이어간다. 더 진행할 필요가 없으면 true
+    private boolean resumeGraded(AnswerTask task, StageRun run) {
+        if (task.isCompleted()) {
+            log.info("이미 완료된 작업: taskId={}", task.getId());
+            return true;
+        }
+        if (!task.isGraded()) {
+            return false;
+        }
+
+        log.info("채점 체크포인트에서 재개: taskId={}", task.getId());
+        run.checkpointed();
+        sendToPersist(task.getId(), task.getFeedback(), AnswerTaskPayload.from(task));
+        return true;
+    }
+
+    // 클라이언트가 보낸 답변 시간과 실제 오디오 길이가 크게 다르면 기록해 둔다.
+    private Long measure(Long taskId, AnswerTaskPayload payload, PreprocessedAudio audio) {
+        if (audio.durationSeconds() == null) {
+            return null;
+        }
+
+        long measured = Math.round(audio.durationSeconds());
+        Long clientTime = payload.command().time();
+        if (clientTime != null) {
+            long clientSeconds = toSeconds(clientTime, audio.durationSeconds());
+            if (Math.abs(clientSeconds - measured) > durationToleranceSeconds) {
+                log.warn("답변 시간 불일치: taskId={}, clientTime={}s, measuredTime={}s", taskId,
+                    clientSeconds, measured);
+            }
+        }
+        return measured;
+    }
+
+    // 클라이언트 답변 시간은 초 또는 ms 로 오므로, 측정한 길이에 더 가까운 단위로 해석한다.
+    static long toSeconds(long clientTime, double measuredSeconds) {
+        double asMillis = clientTime / 1000.0;
+        if (Math.abs(asMillis - measuredSeconds) < Math.abs(clientTime - measuredSeconds)) {
+            return Math.round(asMillis);
+        }
+        return clientTime;
+    }
+
+    private void sendToGrading(Long taskId, String transcript, AnswerTaskPayload payload) {
+        kafkaTemplate.send(KafkaTopics.ANSWER_GRADING, messageKey(payload),
+            new AnswerGradingMessage(taskId, transcript, payload)).join();
+    }
+
+    private void sendToPersist(Long taskId, String feedback, AnswerTaskPayload payload) {
+        kafkaTemplate.send(KafkaTopics.ANSWER_PERSIST, messageKey(payload),
+            new AnswerPersistMessage(taskId, feedback, payload)).join();
+    }
+
+    // 모든 단계에서 회원 ID를 키로 사용해 같은 회원의 작업 순서를 유지한다.
+    private String messageKey(AnswerTaskPayload payload) {
+        return String.valueOf(payload.command().memberId());
+    }
+
+    /**
+     * 단계 처리권을 선점한 경우에만 처리 로직을 실행한다.
+     * 중복 전달된 메시지는 다운로드나 OpenAI 호출 전에 건너뛴다.
+     * 결과를 저장한 뒤 실패하면 처리권을 해제하는 대신 체크포인트 표시로 바꿔,
+     * 다시 전달된 메시지가 저장된 결과부터 확인하게 한다.
+     */
+    private void runClaimed(AnswerTaskStage stage, Long taskId, Consumer<StageRun> work) {
+        Optional<AnswerTaskClaimService.Claim> claim = answerTaskClaimService.tryClaim(stage, taskId);
+        if (claim.isEmpty()) {
+            log.info("다른 워커가 처리 중이거나 처리한 작업, 건너뜀: taskId={}, stage={}", taskId, stage);
+            return;
+        }
+
+        String token = claim.get().token();
+        StageRun run = new StageRun(claim.get().checkpointed());
+        try {
+            work.accept(run);
+            answerTaskClaimService.complete(stage, taskId, token);
+
+        } catch (OptimisticLockingFailureException e) {
+            log.info("다른 워커가 먼저 갱신한 작업, 건너뜀: taskId={}, stage={}", taskId, stage);
+            answerTaskClaimService.release(stage, taskId, token);
+
+        } catch (RuntimeException e) {
+            // 실패 상태는 재시도를 모두 소진해 DLT 에 도달했을 때만 기록한다.
+            log.warn("답변 생성 단계 실패, 재시도 예정: taskId={}, stage={}, error={}", taskId, stage,
+                e.getMessage());
+            if (run.isCheckpointed()) {
+                answerTaskClaimService.checkpoint(stage, taskId, token);
+            } else {
+                answerTaskClaimService.release(stage, taskId, token);
+            }
+            throw e;
+        }
+    }
+
+    // 단계 처리 중 작업에 체크포인트가 있는지(있을 수 있는지) 여부
+    private static final class StageRun {
+
+        private boolean checkpointed;
+
+        private StageRun(boolean checkpointed) {
+            this.checkpointed = checkpointed;
+        }
+
+        private boolean isCheckpointed() {
+            return checkpointed;
+        }
+
+        private void checkpointed() {
+            checkpointed = true;
+        }
+    }
+}
@@ -1,7 +1,16 @@
 package com.blooming.inpeak.answer.service;
 
+import com.blooming.inpeak.answer.audio.AudioFile;
+import com.blooming.inpeak.answer.audio.AudioFileStorage;
+import com.blooming.inpeak.answer.health.DependencyHealthMonitor;
+import com.blooming.inpeak.answer.health.PipelineDependency;
 import com.blooming.inpeak.common.error.exception.BadRequestException;
 import com.blooming.inpeak.common.error.exception.DownloadFailureException;
+import com.blooming.inpeak.common.error.exception.DownloadUnavailableException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -9,9 +18,11 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -28,6 +39,8 @@ public class AnswerPresignedUrlService {
 
     private final S3Presigner s3Presigner;
     private final RestTemplate simpleRestTemplate;
+    private final AudioFileStorage audioFileStorage;
+    private final DependencyHealthMonitor dependencyHealthMonitor;
 
     private static final Map<String, String> EXT_TO_CONTENT_TYPE = Map.of(
         "webm", "video/webm",
@@ -104,21 +117,46 @@ public class AnswerPresignedUrlService {
 
     /**
      * S3에서 Presigned URL을 통해 오디오 파일을 다운로드합니다.
+     * 응답 본문을 힙에 올리지 않고 임시 파일로 바로 스트리밍하며,
+     * 반환된 파일은 사용 후 close() 로 삭제해야 합니다.
      *
      * @param presignedUrl Presigned URL
-     * @return 오디오 파일의 바이트 배열
+     * @return 디스크에 저장된 오디오 파일
      */
-    public byte[] downloadAudioFromS3(String presignedUrl) {
-        try {
-            ResponseEntity<byte[]> response = simpleRestTemplate.getForEntity(presignedUrl,
-                byte[].class);
-
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new DownloadFailureException("S3 Presigned URL 다운로드 실패: " + presignedUrl);
-            }
+    public AudioFile downloadAudioFromS3(String presignedUrl) {
+        Path target = audioFileStorage.createTempFile("wav");
 
-            return response.getBody();
+        long start = System.nanoTime();
+        try {
+            simpleRestTemplate.execute(presignedUrl, HttpMethod.GET, null, response -> {
+                if (response.getStatusCode().is5xxServerError()) {
+                    throw new DownloadUnavailableException(
+                        "S3 Presigned URL 다운로드 실패: status=" + response.getStatusCode());
+                }
+                if (!response.getStatusCode().is2xxSuccessful()) {
+                    throw new DownloadFailureException("S3 Presigned URL 다운로드 실패: " + presignedUrl);
+                }
+
+                try (InputStream body = response.getBody()) {
+                    Files.copy(body, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return null;
+            });
+
+            dependencyHealthMonitor.recordSuccess(PipelineDependency.DOWNLOAD,
+                (System.nanoTime() - start) / 1_000_000);
+            return new AudioFile(target, Files.size(target));
+        } catch (HttpServerErrorException | ResourceAccessException
+                 | DownloadUnavailableException e) {
+            // S3 장애나 네트워크 오류는 잠시 뒤 다시 받으면 성공할 수 있으므로 재시도 대상으로 남긴다.
+            dependencyHealthMonitor.recordFailure(PipelineDependency.DOWNLOAD,
+                (System.nanoTime() - start) / 1_000_000);
+            audioFileStorage.deleteQuietly(target);
+            throw new DownloadUnavailableException(
+                "S3 Presigned URL 다운로드 일시 실패: " + e.getMessage());
         } catch (Exception e) {
+            // 만료된 URL 같은 4xx 는 S3 장애가 아니고, 다시 받아도 결과가 같다.
+            audioFileStorage.deleteQuietly(target);
             throw new DownloadFailureException("S3 Presigned URL 다운로드 중 오류 발생: ");
         }
     }
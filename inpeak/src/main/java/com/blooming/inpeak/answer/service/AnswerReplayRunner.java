@@ -0,0 +1,144 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerReplayJob;
+import com.blooming.inpeak.answer.domain.AnswerReplayJobStatus;
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.ratelimit.OpenAiEndpoint;
+import com.blooming.inpeak.answer.ratelimit.OpenAiRateLimiter;
+import com.blooming.inpeak.answer.repository.AnswerReplayJobRepository;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실패 작업 일괄 재처리 러너
+ * 주기마다 진행 중인 재처리 작업 하나에서 tasks-per-tick 건씩만 다시 발행해, 재처리가 실시간 요청의
+ * OpenAI 한도를 빼앗지 않도록 한다. 이 인스턴스의 OpenAI 사용률이 높으면 그 주기는 건너뛴다.
+ * 배치마다 커서를 저장하므로 재시작 후에도 이어서 진행하며, 여러 인스턴스 중 하나만 실행하도록 Redisson 락을 사용한다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class AnswerReplayRunner {
+
+    private static final String LOCK_KEY = "lock:answer_replay_runner";
+
+    private final AnswerReplayJobRepository answerReplayJobRepository;
+    private final AnswerTaskRepository answerTaskRepository;
+    private final AnswerManagerService answerManagerService;
+    private final AnswerTaskStatusCache answerTaskStatusCache;
+    private final OpenAiRateLimiter openAiRateLimiter;
+    private final RedissonClient redissonClient;
+    private final int tasksPerTick;
+    private final double maxOpenAiUtilization;
+
+    private final Counter replayedCounter;
+    private final Counter skippedCounter;
+    private final Counter throttledCounter;
+
+    public AnswerReplayRunner(
+        AnswerReplayJobRepository answerReplayJobRepository,
+        AnswerTaskRepository answerTaskRepository,
+        AnswerManagerService answerManagerService,
+        AnswerTaskStatusCache answerTaskStatusCache,
+        OpenAiRateLimiter openAiRateLimiter,
+        RedissonClient redissonClient,
+        MeterRegistry meterRegistry,
+        @Value("${answer.replay.tasks-per-tick}") int tasksPerTick,
+        @Value("${answer.replay.max-openai-utilization}") double maxOpenAiUtilization
+    ) {
+        this.answerReplayJobRepository = answerReplayJobRepository;
+        this.answerTaskRepository = answerTaskRepository;
+        this.answerManagerService = answerManagerService;
+        this.answerTaskStatusCache = answerTaskStatusCache;
+        this.openAiRateLimiter = openAiRateLimiter;
+        this.redissonClient = redissonClient;
+        this.tasksPerTick = tasksPerTick;
+        this.maxOpenAiUtilization = maxOpenAiUtilization;
+
+        this.replayedCounter = Counter.builder("answer.replay.tasks")
+            .tag("result", "replayed")
+            .register(meterRegistry);
+        this.skippedCounter = Counter.builder("answer.replay.tasks")
+            .tag("result", "skipped")
+            .register(meterRegistry);
+        this.throttledCounter = Counter.builder("answer.replay.throttled")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${answer.replay.tick-millis}")
+    public void run() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            answerReplayJobRepository.findFirstByStatusOrderByIdAsc(AnswerReplayJobStatus.RUNNING)
+                .ifPresent(this::replayBatch);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 재처리 작업에서 한 배치를 다시 발행하고 진행 상황을 저장한다.
+     *
+     * @param job 진행 중인 재처리 작업
+     */
+    void replayBatch(AnswerReplayJob job) {
+        if (isLiveTrafficBusy()) {
+            throttledCounter.increment();
+            log.debug("OpenAI 사용률이 높아 재처리 대기: jobId={}", job.getId());
+            return;
+        }
+
+        List<AnswerTask> tasks = answerTaskRepository.findReplayable(job.getFailedFrom(),
+            job.getFailedTo(), job.getErrorClass(), job.getCursorUpdatedAt(), job.getCursorId(),
+            PageRequest.of(0, tasksPerTick));
+
+        int replayed = 0;
+        for (AnswerTask task : tasks) {
+            if (answerManagerService.replayFailedTask(task.getId())) {
+                answerTaskStatusCache.evict(task.getId());
+                replayed++;
+            }
+        }
+        int skipped = tasks.size() - replayed;
+        replayedCounter.increment(replayed);
+        skippedCounter.increment(skipped);
+
+        if (!tasks.isEmpty()) {
+            job.advance(tasks.get(tasks.size() - 1), replayed, skipped);
+        }
+        if (tasks.size() < tasksPerTick) {
+            job.complete();
+            log.info("실패 작업 재처리 완료: jobId={}, replayed={}, skipped={}", job.getId(),
+                job.getReplayedCount(), job.getSkippedCount());
+        }
+
+        try {
+            answerReplayJobRepository.save(job);
+        } catch (OptimisticLockingFailureException e) {
+            // 관리자가 중단한 작업이다. 이번 배치에서 다시 발행한 작업은 그대로 처리된다.
+            log.info("중단된 재처리 작업: jobId={}", job.getId());
+        }
+    }
+
+    private boolean isLiveTrafficBusy() {
+        return openAiRateLimiter.utilization(OpenAiEndpoint.WHISPER) >= maxOpenAiUtilization
+            || openAiRateLimiter.utilization(OpenAiEndpoint.CHAT) >= maxOpenAiUtilization;
+    }
+}
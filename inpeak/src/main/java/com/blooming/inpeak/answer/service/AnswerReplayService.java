@@ -0,0 +1,98 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerReplayJob;
+import com.blooming.inpeak.answer.dto.request.AnswerReplayRequest;
+import com.blooming.inpeak.answer.dto.response.AnswerReplayJobResponse;
+import com.blooming.inpeak.answer.repository.AnswerReplayJobRepository;
+import com.blooming.inpeak.common.error.exception.ForbiddenException;
+import com.blooming.inpeak.common.error.exception.NotFoundException;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 실패한 답변 작업 일괄 재처리 작업을 관리한다.
+ * 실제 재처리는 {@link AnswerReplayRunner} 가 정해진 속도로 진행한다.
+ * 관리자 권한이 따로 없으므로 answer.replay.admin-member-ids 에 등록된 회원만 요청할 수 있다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AnswerReplayService {
+
+    private final AnswerReplayJobRepository answerReplayJobRepository;
+    private final Set<Long> adminMemberIds;
+
+    public AnswerReplayService(
+        AnswerReplayJobRepository answerReplayJobRepository,
+        @Value("${answer.replay.admin-member-ids}") String adminMemberIds
+    ) {
+        this.answerReplayJobRepository = answerReplayJobRepository;
+        this.adminMemberIds = Arrays.stream(adminMemberIds.split(","))
+            .map(String::trim)
+            .filter(id -> !id.isEmpty())
+            .map(Long::valueOf)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 재처리 작업을 등록한다.
+     * 범위 끝은 요청 시각을 넘지 않으므로, 재처리 도중 새로 실패한 작업은 대상에 들어가지 않는다.
+     *
+     * @param memberId 요청한 회원 ID
+     * @param request  재처리 범위
+     * @return 등록된 재처리 작업
+     */
+    @Transactional
+    public AnswerReplayJobResponse createJob(Long memberId, AnswerReplayRequest request) {
+        checkAdmin(memberId);
+
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime failedTo = request.failedTo() == null || request.failedTo().isAfter(now)
+            ? now : request.failedTo();
+        String errorClass = request.errorClass() == null || request.errorClass().isBlank()
+            ? null : request.errorClass().trim();
+
+        AnswerReplayJob job = answerReplayJobRepository.save(AnswerReplayJob.builder()
+            .requestedBy(memberId)
+            .failedFrom(request.failedFrom())
+            .failedTo(failedTo)
+            .errorClass(errorClass)
+            .build());
+        return AnswerReplayJobResponse.from(job);
+    }
+
+    /**
+     * 재처리 진행 상황을 조회한다.
+     */
+    public AnswerReplayJobResponse getJob(Long memberId, Long jobId) {
+        checkAdmin(memberId);
+        return AnswerReplayJobResponse.from(findJob(jobId));
+    }
+
+    /**
+     * 재처리를 중단한다. 이미 다시 발행된 작업은 그대로 처리된다.
+     */
+    @Transactional
+    public AnswerReplayJobResponse cancelJob(Long memberId, Long jobId) {
+        checkAdmin(memberId);
+
+        AnswerReplayJob job = findJob(jobId);
+        job.cancel();
+        return AnswerReplayJobResponse.from(job);
+    }
+
+    private AnswerReplayJob findJob(Long jobId) {
+        return answerReplayJobRepository.findById(jobId)
+            .orElseThrow(() -> new NotFoundException("해당 재처리 작업이 존재하지 않습니다."));
+    }
+
+    private void checkAdmin(Long memberId) {
+        if (!adminMemberIds.contains(memberId)) {
+            throw new ForbiddenException("재처리 작업에 대한 접근 권한이 없습니다.");
+        }
+    }
+}
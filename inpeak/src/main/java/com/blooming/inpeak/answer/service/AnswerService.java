@@ -17,6 +17,7 @@ import com.blooming.inpeak.answer.dto.response.RecentAnswerResponse;
 import com.blooming.inpeak.answer.repository.AnswerRepository;
 import com.blooming.inpeak.answer.repository.AnswerRepositoryCustom;
 import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.answer.service.AnswerTaskStatusCache.CachedStatus;
 import com.blooming.inpeak.common.error.exception.ConflictException;
 import com.blooming.inpeak.common.error.exception.ForbiddenException;
 import com.blooming.inpeak.common.error.exception.NotFoundException;
@@ -45,6 +46,7 @@ public class AnswerService {
     private final AnswerPresignedUrlService answerPresignedUrlService;
     private final AnswerTaskRepository answerTaskRepository;
     private final MemberStatisticsService memberStatisticsService;
+    private final AnswerTaskStatusCache answerTaskStatusCache;
 
     /**
      * 답변을 스킵하는 메서드
@@ -165,34 +167,42 @@ public class AnswerService {
 
     /**
      * 특정 질문에 대한 답변을 조회하는 메서드
+     * 작업 상태는 Redis 캐시에서 먼저 찾고, 없을 때만 DB 를 조회한다.
      *
      * @param taskId      작업 큐 ID
      * @param memberId    사용자 ID
      * @return 답변 상세 정보
      */
     public ResponseEntity<AnswerByTaskResponse> findAnswerByTaskId(Long taskId, Long memberId) {
-        AnswerTask task = answerTaskRepository.findById(taskId)
-            .orElseThrow(() -> new NotFoundException("해당 답변이 존재하지 않습니다."));
+        CachedStatus cached = answerTaskStatusCache.find(taskId)
+            .orElseGet(() -> loadTaskStatus(taskId));
 
-        if (!task.getMemberId().equals(memberId)) {
+        if (!cached.memberId().equals(memberId)) {
             throw new ForbiddenException("해당 답변에 대한 접근 권한이 없습니다.");
         }
 
-        if (task.getStatus() == AnswerTaskStatus.WAITING) {
+        AnswerByTaskResponse response = cached.response();
+        if (AnswerTaskStatus.WAITING.name().equals(response.status())) {
             return ResponseEntity
                 .status(HttpStatus.ACCEPTED)
-                .body(AnswerByTaskResponse.waiting(task.getId()));
+                .body(response);
         }
 
-        if (task.getStatus() == AnswerTaskStatus.FAILED) {
+        if (AnswerTaskStatus.FAILED.name().equals(response.status())) {
             return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(AnswerByTaskResponse.failed(task.getId()));
+                .body(response);
         }
 
-        return ResponseEntity.ok(
-            AnswerByTaskResponse.success(task.getId(), task.getAnswerId())
-        );
+        return ResponseEntity.ok(response);
+    }
+
+    private CachedStatus loadTaskStatus(Long taskId) {
+        AnswerTask task = answerTaskRepository.findById(taskId)
+            .orElseThrow(() -> new NotFoundException("해당 답변이 존재하지 않습니다."));
+
+        answerTaskStatusCache.put(task);
+        return CachedStatus.from(task);
     }
 
     /**
@@ -0,0 +1,161 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerTaskStage;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 답변 작업의 단계별 처리권을 Redis 로 선점한다.
+ * 리밸런스나 재시도로 같은 메시지가 중복 전달되어도 한 워커만 다운로드 / OpenAI 호출을 진행한다.
+ * 처리권은 lease 시간이 지나면 자동으로 풀리므로, 처리 중인 워커가 죽어도 작업이 영원히 묶이지 않는다.
+ * 처리를 마친 단계는 완료 표시로 바꿔 두어, 뒤늦게 다시 전달된 메시지도 작업 조회 없이 건너뛴다.
+ * 결과를 저장한 뒤 다음 단계 발행에 실패한 단계는 체크포인트 표시를 남겨,
+ * 다시 전달된 메시지만 작업의 체크포인트를 조회하도록 알려 준다.
+ */
+@Slf4j
+@Service
+public class AnswerTaskClaimService {
+
+    private static final String KEY_PREFIX = "claim:answer_task:";
+    private static final String DONE = "done";
+    private static final String CHECKPOINTED = "checkpointed";
+
+    // 비어 있으면 새로 선점(1), 체크포인트 표시가 있으면 이어받아 선점(2), 처리 중이거나 완료면 0
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+        "local current = redis.call('get', KEYS[1]) "
+            + "if current == false then "
+            + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[3]) return 1 end "
+            + "if current == ARGV[2] then "
+            + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[3]) return 2 end "
+            + "return 0",
+        Long.class
+    );
+
+    // 자신이 선점한 처리권만 해제한다. (lease 만료 후 다른 워커가 잡은 처리권은 건드리지 않는다)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    // 자신이 선점한 처리권만 완료(또는 체크포인트) 표시로 바꾼다.
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 else return 0 end",
+        Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration lease;
+    private final Duration doneTtl;
+
+    public AnswerTaskClaimService(
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${answer.claim.lease}") Duration lease,
+        @Value("${answer.claim.done-ttl}") Duration doneTtl
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.lease = lease;
+        this.doneTtl = doneTtl;
+    }
+
+    /**
+     * 처리권을 선점한다.
+     * Redis 에 접근할 수 없으면 처리를 막지 않고 진행시키며, 중복 처리는 AnswerTask 의 버전 검사로 막는다.
+     * 이때는 체크포인트 표시를 확인할 수 없으므로 체크포인트가 있을 수 있다고 본다.
+     *
+     * @param stage  처리 단계
+     * @param taskId 작업 ID
+     * @return 선점에 성공하면 처리권, 다른 워커가 처리 중이거나 이미 처리했으면 빈 값
+     */
+    public Optional<Claim> tryClaim(AnswerTaskStage stage, Long taskId) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(key(stage, taskId)),
+                token, CHECKPOINTED, String.valueOf(lease.toMillis()));
+            if (claimed == null || claimed == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new Claim(token, claimed == 2));
+
+        } catch (DataAccessException e) {
+            log.warn("처리권 선점 실패, 버전 검사로 진행: taskId={}, stage={}, error={}", taskId, stage,
+                e.getMessage());
+            return Optional.of(new Claim(token, true));
+        }
+    }
+
+    /**
+     * 선점한 처리권을 해제한다.
+     *
+     * @param stage  처리 단계
+     * @param taskId 작업 ID
+     * @param token  tryClaim 이 반환한 토큰
+     */
+    public void release(AnswerTaskStage stage, Long taskId, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key(stage, taskId)), token);
+        } catch (DataAccessException e) {
+            // 해제하지 못한 처리권은 lease 가 지나면 만료된다.
+            log.warn("처리권 해제 실패: taskId={}, stage={}, error={}", taskId, stage, e.getMessage());
+        }
+    }
+
+    /**
+     * 처리를 마친 처리권을 완료 표시로 바꾼다.
+     *
+     * @param stage  처리 단계
+     * @param taskId 작업 ID
+     * @param token  tryClaim 이 반환한 토큰
+     */
+    public void complete(AnswerTaskStage stage, Long taskId, String token) {
+        try {
+            stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(key(stage, taskId)), token, DONE,
+                String.valueOf(doneTtl.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("처리권 완료 표시 실패: taskId={}, stage={}, error={}", taskId, stage,
+                e.getMessage());
+        }
+    }
+
+    /**
+     * 결과를 저장했지만 다음 단계로 넘기지 못한 처리권을 체크포인트 표시로 바꾼다.
+     * 다시 전달된 메시지는 이 표시를 보고 저장된 결과부터 확인한다.
+     *
+     * @param stage  처리 단계
+     * @param taskId 작업 ID
+     * @param token  tryClaim 이 반환한 토큰
+     */
+    public void checkpoint(AnswerTaskStage stage, Long taskId, String token) {
+        try {
+            stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(key(stage, taskId)), token,
+                CHECKPOINTED, String.valueOf(doneTtl.toMillis()));
+        } catch (DataAccessException e) {
+            // 표시를 남기지 못하면 다시 전달될 때 조건부 UPDATE 가 실패한 뒤에야 저장된 결과로 이어간다.
+            log.warn("체크포인트 표시 실패: taskId={}, stage={}, error={}", taskId, stage,
+                e.getMessage());
+        }
+    }
+
+    private String key(AnswerTaskStage stage, Long taskId) {
+        return KEY_PREFIX + stage.name().toLowerCase() + ":" + taskId;
+    }
+
+    /**
+     * 선점한 처리권
+     *
+     * @param token        해제 / 완료 표시에 사용할 토큰
+     * @param checkpointed 이전 시도가 결과를 저장했을 수 있어 작업의 체크포인트를 확인해야 하는지 여부
+     */
+    public record Claim(String token, boolean checkpointed) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskStatus;
+import com.blooming.inpeak.answer.dto.response.AnswerByTaskResponse;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.common.error.exception.ForbiddenException;
+import com.blooming.inpeak.common.error.exception.NotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 답변 작업의 완료 / 실패를 SSE 로 알린다.
+ * 작업을 끝낸 컨슈머 노드는 Redis 채널에 결과를 발행하고, 모든 노드가 이를 구독해
+ * 자신이 연결을 들고 있는 클라이언트에게만 전달한다.
+ * 클라이언트는 작업이 끝날 때까지 /api/answer/tasks/{taskId} 를 반복 조회하지 않아도 된다.
+ */
+@Slf4j
+@Service
+public class AnswerTaskEventService implements MessageListener {
+
+    static final String CHANNEL = "answer-task-events";
+    private static final String EVENT_NAME = "answer-task";
+
+    private final AnswerTaskRepository answerTaskRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final long heartbeatIntervalMillis;
+
+    // 하트비트 전송이 느린 클라이언트에 막혀도 다른 @Scheduled 작업을 붙잡지 않도록 전용 스레드에서 보낸다.
+    private ScheduledExecutorService heartbeatScheduler;
+
+    // 이 노드에 연결된 작업별 구독자
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public AnswerTaskEventService(
+        AnswerTaskRepository answerTaskRepository,
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        ObjectMapper objectMapper,
+        @Value("${answer.sse.timeout}") Duration timeout,
+        @Value("${answer.sse.heartbeat-interval-millis}") long heartbeatIntervalMillis
+    ) {
+        this.answerTaskRepository = answerTaskRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sse-heartbeat").daemon().factory());
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMillis,
+            heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 작업 상태 구독을 시작한다.
+     * 현재 상태를 먼저 보내고, 이미 끝난 작업이면 바로 연결을 닫는다.
+     * 연결이 타임아웃으로 끊기면 클라이언트는 다시 구독한다.
+     *
+     * @param taskId   작업 ID
+     * @param memberId 사용자 ID
+     * @return 작업 상태를 전달할 SSE 연결
+     */
+    public SseEmitter subscribe(Long taskId, Long memberId) {
+        // 조회와 등록 사이에 완료된 작업을 놓치지 않도록 상태를 조회하기 전에 먼저 등록한다.
+        // 조회 이후에 도착한 완료 이벤트는 등록된 연결로 전달되고, 그 이전에 끝난 작업은 조회한 상태로 전달된다.
+        SseEmitter emitter = register(taskId);
+
+        AnswerTask task;
+        try {
+            task = answerTaskRepository.findById(taskId)
+                .orElseThrow(() -> new NotFoundException("해당 답변이 존재하지 않습니다."));
+
+            if (!task.getMemberId().equals(memberId)) {
+                throw new ForbiddenException("해당 답변에 대한 접근 권한이 없습니다.");
+            }
+        } catch (RuntimeException e) {
+            remove(taskId, emitter);
+            throw e;
+        }
+
+        send(taskId, emitter, AnswerByTaskResponse.from(task));
+        return emitter;
+    }
+
+    /**
+     * 작업 결과를 모든 노드에 알린다.
+     * 발행에 실패해도 클라이언트는 재구독하거나 상태 조회로 결과를 확인할 수 있으므로 처리를 막지 않는다.
+     *
+     * @param response 작업 결과
+     */
+    public void publish(AnswerByTaskResponse response) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("작업 결과 발행 실패: taskId={}, error={}", response.taskId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        AnswerByTaskResponse response;
+        try {
+            response = objectMapper.readValue(
+                new String(message.getBody(), StandardCharsets.UTF_8), AnswerByTaskResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("작업 결과 메시지 파싱 실패: error={}", e.getMessage());
+            return;
+        }
+
+        List<SseEmitter> subscribers = emitters.get(response.taskId());
+        if (subscribers == null) {
+            return;
+        }
+        subscribers.forEach(emitter -> send(response.taskId(), emitter, response));
+    }
+
+    /**
+     * 프록시가 유휴 연결을 끊지 않도록 주기적으로 빈 주석을 보낸다.
+     * 이미 끊긴 연결도 여기서 정리된다.
+     */
+    public void heartbeat() {
+        emitters.forEach((taskId, subscribers) -> subscribers.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | RuntimeException e) {
+                // 예외가 새어 나가면 이후 하트비트가 모두 멈춘다.
+                remove(taskId, emitter);
+            }
+        }));
+    }
+
+    private SseEmitter register(Long taskId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitters.compute(taskId, (id, subscribers) -> {
+            List<SseEmitter> list = subscribers != null ? subscribers : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+
+        emitter.onCompletion(() -> remove(taskId, emitter));
+        emitter.onTimeout(() -> remove(taskId, emitter));
+        emitter.onError(e -> remove(taskId, emitter));
+        return emitter;
+    }
+
+    private void send(Long taskId, SseEmitter emitter, AnswerByTaskResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(response));
+            if (isTerminal(response)) {
+                emitter.complete();
+                remove(taskId, emitter);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 결과를 받고 닫힌 연결
+            remove(taskId, emitter);
+        }
+    }
+
+    private static boolean isTerminal(AnswerByTaskResponse response) {
+        return !AnswerTaskStatus.WAITING.name().equals(response.status());
+    }
+
+    private void remove(Long taskId, SseEmitter emitter) {
+        emitters.computeIfPresent(taskId, (id, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskOutbox;
+import com.blooming.inpeak.answer.dto.command.AnswerGradingMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerPersistMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerTaskMessage;
+import com.blooming.inpeak.answer.repository.AnswerTaskOutboxRepository;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스에 쌓인 답변 작업을 Kafka 로 발행하는 릴레이
+ * 배치 단위로 비동기 전송한 뒤 브로커 ack 를 받은 메시지만 아웃박스에서 삭제한다.
+ * 삭제 전에 종료되면 다음 실행에서 다시 발행되므로, 중복은 멱등 프로듀서와 컨슈머의 체크포인트로 흡수한다.
+ * 여러 인스턴스 중 하나만 릴레이하도록 Redisson 락을 사용한다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class AnswerTaskOutboxRelay {
+
+    private static final String LOCK_KEY = "lock:answer_task_outbox_relay";
+
+    private final AnswerTaskOutboxRepository outboxRepository;
+    private final AnswerTaskRepository answerTaskRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+    private final long sendTimeoutMillis;
+
+    public AnswerTaskOutboxRelay(
+        AnswerTaskOutboxRepository outboxRepository,
+        AnswerTaskRepository answerTaskRepository,
+        KafkaTemplate<String, Object> kafkaTemplate,
+        RedissonClient redissonClient,
+        @Value("${answer.outbox.batch-size}") int batchSize,
+        @Value("${answer.outbox.send-timeout-millis}") long sendTimeoutMillis
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.answerTaskRepository = answerTaskRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${answer.outbox.poll-interval-millis}")
+    public void relay() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            // 배치가 가득 차 있으면 밀린 메시지가 있다는 뜻이므로 바로 이어서 처리한다.
+            while (publishBatch() == batchSize) {
+                log.debug("아웃박스 적체, 다음 배치 이어서 발행");
+            }
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 메시지를 한 배치 발행한다.
+     *
+     * @return 발행에 성공한 메시지 수
+     */
+    int publishBatch() {
+        List<AnswerTaskOutbox> pending = outboxRepository.findPending(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 컨슈머가 작업을 다시 조회하지 않도록 배치 단위로 한 번에 읽어 메시지에 싣는다.
+        Map<Long, AnswerTask> tasks = answerTaskRepository.findAllById(
+                pending.stream().map(AnswerTaskOutbox::getTaskId).toList())
+            .stream()
+            .collect(Collectors.toMap(AnswerTask::getId, Function.identity()));
+
+        // 먼저 모두 전송해 프로듀서가 한 번에 묶어 보내도록 한 뒤 ack 를 기다린다.
+        List<CompletableFuture<?>> futures = new ArrayList<>(pending.size());
+        for (AnswerTaskOutbox outbox : pending) {
+            AnswerTask task = tasks.get(outbox.getTaskId());
+            // 실패한 작업이 새 요청으로 대체되어 삭제된 경우에는 발행할 것이 없다.
+            futures.add(task == null ? CompletableFuture.completedFuture(null)
+                : kafkaTemplate.send(outbox.getTopic(), outbox.getMessageKey(),
+                    messageFor(outbox.getTopic(), task)));
+        }
+
+        List<Long> published = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+                published.add(pending.get(i).getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("아웃박스 발행 실패, 다음 주기에 재시도: outboxId={}, taskId={}, error={}",
+                    pending.get(i).getId(), pending.get(i).getTaskId(), e.getMessage());
+            }
+        }
+
+        if (!published.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(published);
+        }
+        return published.size();
+    }
+
+    // 멈춘 작업을 다시 발행할 때는 체크포인트가 있는 단계의 토픽으로 보낸다.
+    private Object messageFor(String topic, AnswerTask task) {
+        return switch (topic) {
+            case KafkaTopics.ANSWER_GRADING -> AnswerGradingMessage.of(task);
+            case KafkaTopics.ANSWER_PERSIST -> AnswerPersistMessage.of(task);
+            default -> AnswerTaskMessage.of(task);
+        };
+    }
+}
@@ -0,0 +1,161 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskOutbox;
+import com.blooming.inpeak.answer.dto.response.AnswerByTaskResponse;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 상태로 멈춘 답변 작업 정리
+ * Kafka 발행이 유실되었거나 컨슈머가 처리 도중 죽으면 작업이 WAITING 으로 남아 클라이언트가 끝없이 기다린다.
+ * stale-after 동안 갱신되지 않은 작업을 체크포인트 단계부터 다시 발행하고,
+ * 재발행할 때마다 기다리는 시간을 두 배로 늘리며, 한도를 넘기면 실패 처리한다.
+ * 여러 인스턴스 중 하나만 정리하도록 Redisson 락을 사용한다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class AnswerTaskReaper {
+
+    private static final String LOCK_KEY = "lock:answer_task_reaper";
+    // 실패 작업 재처리에서 예외 종류처럼 골라낼 수 있도록 DLT 실패 원인과 같은 형식을 쓴다.
+    static final String FAILURE_REASON =
+        "StaleTask: 처리가 멈춘 작업을 재발행 한도까지 다시 시도했지만 완료되지 않았습니다.";
+
+    private final AnswerTaskRepository answerTaskRepository;
+    private final AnswerManagerService answerManagerService;
+    private final AnswerTaskStatusCache answerTaskStatusCache;
+    private final AnswerTaskEventService answerTaskEventService;
+    private final RedissonClient redissonClient;
+    private final Duration staleAfter;
+    private final int maxReenqueues;
+    private final int batchSize;
+
+    private final Counter reenqueuedCounter;
+    private final Counter failedCounter;
+    private final Timer reenqueuedAge;
+    private final Timer failedAge;
+
+    public AnswerTaskReaper(
+        AnswerTaskRepository answerTaskRepository,
+        AnswerManagerService answerManagerService,
+        AnswerTaskStatusCache answerTaskStatusCache,
+        AnswerTaskEventService answerTaskEventService,
+        RedissonClient redissonClient,
+        MeterRegistry meterRegistry,
+        @Value("${answer.reaper.stale-after}") Duration staleAfter,
+        @Value("${answer.reaper.max-reenqueues}") int maxReenqueues,
+        @Value("${answer.reaper.batch-size}") int batchSize
+    ) {
+        this.answerTaskRepository = answerTaskRepository;
+        this.answerManagerService = answerManagerService;
+        this.answerTaskStatusCache = answerTaskStatusCache;
+        this.answerTaskEventService = answerTaskEventService;
+        this.redissonClient = redissonClient;
+        this.staleAfter = staleAfter;
+        this.maxReenqueues = maxReenqueues;
+        this.batchSize = batchSize;
+
+        this.reenqueuedCounter = Counter.builder("answer.task.reaped")
+            .tag("action", "reenqueued")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("answer.task.reaped")
+            .tag("action", "failed")
+            .register(meterRegistry);
+        // 정리 시점의 작업 나이 (생성 시각 기준)
+        this.reenqueuedAge = Timer.builder("answer.task.reaped.age")
+            .tag("action", "reenqueued")
+            .register(meterRegistry);
+        this.failedAge = Timer.builder("answer.task.reaped.age")
+            .tag("action", "failed")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${answer.reaper.poll-interval-millis}")
+    public void reap() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            ZonedDateTime now = ZonedDateTime.now();
+            for (int reapCount = 0; reapCount <= maxReenqueues; reapCount++) {
+                // 재발행 횟수마다 기다리는 시간을 두 배로 늘린다.
+                ZonedDateTime cutoff = now.minus(staleAfter.multipliedBy(1L << reapCount));
+                while (reapBatch(reapCount, cutoff) == batchSize) {
+                    log.debug("멈춘 작업 적체, 다음 배치 이어서 정리: reapCount={}", reapCount);
+                }
+            }
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 재발행 횟수가 reapCount 인 멈춘 작업을 한 배치 정리한다.
+     * 처리한 작업은 재발행 횟수나 상태가 바뀌어 다음 조회에서 빠지므로 배치를 반복해도 같은 작업을 다시 읽지 않는다.
+     *
+     * @return 조회한 작업 수
+     */
+    int reapBatch(int reapCount, ZonedDateTime cutoff) {
+        List<AnswerTask> stale = answerTaskRepository.findStale(reapCount, cutoff,
+            PageRequest.of(0, batchSize));
+
+        for (AnswerTask task : stale) {
+            if (reapCount < maxReenqueues) {
+                reenqueue(task, cutoff);
+            } else {
+                fail(task, cutoff);
+            }
+        }
+        return stale.size();
+    }
+
+    private void reenqueue(AnswerTask task, ZonedDateTime cutoff) {
+        String topic = AnswerTaskOutbox.resumeTopic(task);
+        if (!answerManagerService.reenqueueStaleTask(task, topic, cutoff)) {
+            return;
+        }
+
+        reenqueuedCounter.increment();
+        reenqueuedAge.record(ageOf(task));
+        log.warn("멈춘 작업 재발행: taskId={}, stage={}, topic={}, reapCount={}", task.getId(),
+            task.getStage(), topic, task.getReapCount() + 1);
+    }
+
+    private void fail(AnswerTask task, ZonedDateTime cutoff) {
+        if (answerTaskRepository.markStaleFailed(task.getId(), task.getReapCount(), cutoff,
+            FAILURE_REASON, ZonedDateTime.now()) == 0) {
+            return;
+        }
+
+        failedCounter.increment();
+        failedAge.record(ageOf(task));
+        answerTaskStatusCache.failed(task.getId(), task.getMemberId(), task.getStage());
+        answerTaskEventService.publish(AnswerByTaskResponse.failed(task.getId(), task.getStage()));
+        log.error("멈춘 작업 실패 처리: taskId={}, stage={}, reapCount={}", task.getId(),
+            task.getStage(), task.getReapCount());
+    }
+
+    private Duration ageOf(AnswerTask task) {
+        return task.getCreatedAt() == null ? Duration.ZERO
+            : Duration.between(task.getCreatedAt(), ZonedDateTime.now());
+    }
+}
@@ -0,0 +1,183 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskStage;
+import com.blooming.inpeak.answer.domain.AnswerTaskStatus;
+import com.blooming.inpeak.answer.dto.response.AnswerByTaskResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 답변 작업 상태 조회용 Redis 해시 (status, answerId, memberId, stage)
+ * 작업 상태가 바뀔 때마다 갱신되어, 상태 조회 API 가 MySQL 을 거치지 않고 응답한다.
+ * 진행 중인 작업은 waiting-ttl, 끝난 작업은 completed-ttl 이 지나면 만료되고 이후 조회는 DB 로 돌아간다.
+ * 트랜잭션 안에서 바뀐 상태는 커밋된 뒤에 기록해, 롤백된 작업이 캐시에 남지 않게 한다.
+ */
+@Slf4j
+@Service
+public class AnswerTaskStatusCache {
+
+    private static final String KEY_PREFIX = "answer_task:status:";
+    private static final String STATUS = "status";
+    private static final String ANSWER_ID = "answerId";
+    private static final String MEMBER_ID = "memberId";
+    private static final String STAGE = "stage";
+
+    // 이미 끝난 작업을 늦게 도착한 진행 중 상태로 덮어쓰지 않는다.
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+        "local current = redis.call('hget', KEYS[1], 'status') "
+            + "if current and current ~= 'WAITING' and ARGV[2] == 'WAITING' then return 0 end "
+            + "redis.call('hset', KEYS[1], 'status', ARGV[2], unpack(ARGV, 3)) "
+            + "redis.call('pexpire', KEYS[1], ARGV[1]) "
+            + "return 1",
+        Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration waitingTtl;
+    private final Duration completedTtl;
+
+    public AnswerTaskStatusCache(
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${answer.status-cache.waiting-ttl}") Duration waitingTtl,
+        @Value("${answer.status-cache.completed-ttl}") Duration completedTtl
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.waitingTtl = waitingTtl;
+        this.completedTtl = completedTtl;
+    }
+
+    /**
+     * 작업의 현재 상태
+     *
+     * @param memberId 작업을 요청한 사용자 ID (권한 확인용)
+     * @param response 상태 조회 응답
+     */
+    public record CachedStatus(Long memberId, AnswerByTaskResponse response) {
+
+        public static CachedStatus from(AnswerTask task) {
+            return new CachedStatus(task.getMemberId(), AnswerByTaskResponse.from(task));
+        }
+    }
+
+    /**
+     * 캐시된 작업 상태를 조회한다. Redis 에 접근할 수 없으면 캐시 미스로 처리한다.
+     *
+     * @param taskId 작업 ID
+     * @return 캐시된 상태, 없으면 빈 값
+     */
+    public Optional<CachedStatus> find(Long taskId) {
+        Map<Object, Object> entries;
+        try {
+            entries = stringRedisTemplate.opsForHash().entries(key(taskId));
+        } catch (DataAccessException e) {
+            log.warn("작업 상태 캐시 조회 실패: taskId={}, error={}", taskId, e.getMessage());
+            return Optional.empty();
+        }
+
+        if (entries.isEmpty() || entries.get(STATUS) == null || entries.get(MEMBER_ID) == null) {
+            return Optional.empty();
+        }
+
+        String answerId = (String) entries.get(ANSWER_ID);
+        return Optional.of(new CachedStatus(
+            Long.valueOf((String) entries.get(MEMBER_ID)),
+            new AnswerByTaskResponse(taskId, (String) entries.get(STATUS),
+                answerId != null ? Long.valueOf(answerId) : null, (String) entries.get(STAGE))
+        ));
+    }
+
+    public void put(AnswerTask task) {
+        put(task.getId(), task.getMemberId(), task.getStatus(), task.getAnswerId(),
+            task.getStage());
+    }
+
+    public void waiting(Long taskId, Long memberId, AnswerTaskStage stage) {
+        put(taskId, memberId, AnswerTaskStatus.WAITING, null, stage);
+    }
+
+    public void success(Long taskId, Long memberId, Long answerId) {
+        put(taskId, memberId, AnswerTaskStatus.SUCCESS, answerId, AnswerTaskStage.DONE);
+    }
+
+    public void failed(Long taskId, Long memberId, AnswerTaskStage stage) {
+        put(taskId, memberId, AnswerTaskStatus.FAILED, null, stage);
+    }
+
+    /**
+     * 캐시된 상태를 지운다. 실패한 작업을 다시 처리할 때처럼 끝난 상태를 되돌릴 때 사용한다.
+     *
+     * @param taskId 작업 ID
+     */
+    public void evict(Long taskId) {
+        afterCommit(() -> delete(taskId));
+    }
+
+    private void delete(Long taskId) {
+        try {
+            stringRedisTemplate.delete(key(taskId));
+        } catch (DataAccessException e) {
+            log.warn("작업 상태 캐시 삭제 실패: taskId={}, error={}", taskId, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 상태를 기록한다.
+     * 기록에 실패해도 조회는 DB 로 돌아가므로 파이프라인을 막지 않는다.
+     */
+    private void put(Long taskId, Long memberId, AnswerTaskStatus status, Long answerId,
+        AnswerTaskStage stage) {
+        afterCommit(() -> write(taskId, memberId, status, answerId, stage));
+    }
+
+    private void write(Long taskId, Long memberId, AnswerTaskStatus status, Long answerId,
+        AnswerTaskStage stage) {
+        Duration ttl = status == AnswerTaskStatus.WAITING ? waitingTtl : completedTtl;
+
+        List<String> args = new ArrayList<>(List.of(String.valueOf(ttl.toMillis()), status.name(),
+            MEMBER_ID, String.valueOf(memberId)));
+        if (answerId != null) {
+            args.addAll(List.of(ANSWER_ID, String.valueOf(answerId)));
+        }
+        if (stage != null) {
+            args.addAll(List.of(STAGE, stage.name()));
+        }
+
+        try {
+            stringRedisTemplate.execute(PUT_SCRIPT, List.of(key(taskId)), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("작업 상태 캐시 갱신 실패: taskId={}, status={}, error={}", taskId, status,
+                e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String key(Long taskId) {
+        return KEY_PREFIX + taskId;
+    }
+}
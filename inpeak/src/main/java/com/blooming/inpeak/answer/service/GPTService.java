@@ -1,19 +1,20 @@
 package com.blooming.inpeak.answer.service;
 
+import com.blooming.inpeak.answer.audio.AudioFile;
 import com.blooming.inpeak.answer.dto.command.GPTMessage;
 import com.blooming.inpeak.answer.dto.request.GPTRequest;
 import com.blooming.inpeak.answer.dto.response.GPTResponse;
-import com.blooming.inpeak.common.error.exception.EncodingException;
+import com.blooming.inpeak.answer.hedge.HedgedRequestExecutor;
+import com.blooming.inpeak.answer.ratelimit.OpenAiEndpoint;
+import com.blooming.inpeak.answer.ratelimit.OpenAiRateLimiter;
 import com.blooming.inpeak.common.error.exception.GPTApiException;
-import java.io.IOException;
+import com.blooming.inpeak.common.error.exception.GPTRateLimitException;
 import java.util.List;
 import java.util.Map;
-import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -23,7 +24,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
@@ -42,69 +42,86 @@ public class GPTService {
     @Value("${openai.models.format}")
     private String format;
 
-    @Value("${openai.api.key}")
-    private String openAiKey;
+    @Value("${openai.rate-limit.chat.estimated-completion-tokens}")
+    private long estimatedCompletionTokens;
 
     private final RestTemplate restTemplate;
-    private final RestTemplate simpleRestTemplate;
+    private final OpenAiRateLimiter openAiRateLimiter;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
 
-    public String transcribe(byte[] audioFile) {
+    /**
+     * Whisper API를 이용하여 음성 파일을 텍스트로 변환한다.
+     * 파일은 멀티파트 본문으로 디스크에서 바로 스트리밍된다.
+     *
+     * @param audioFile 디스크에 저장된 음성 파일
+     * @return 변환된 텍스트
+     */
+    public String transcribe(AudioFile audioFile) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-        headers.setBearerAuth(openAiKey);
 
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
         body.add("model", "whisper-1");
-        body.add("file", new ByteArrayResource(audioFile) {
-            @Override
-            @NonNull
-            public String getFilename() {
-                return "audio.wav";
-            }
-        });
+        body.add("file", audioFile.toResource());
 
         HttpEntity<MultiValueMap<String, Object>> request = new HttpEntity<>(body, headers);
 
         try {
-            ResponseEntity<Map<String, Object>> response = simpleRestTemplate.exchange(
-                "https://api.openai.com/v1/audio/transcriptions",
-                HttpMethod.POST,
-                request,
-                new ParameterizedTypeReference<>() {
-                }
+            ResponseEntity<Map<String, Object>> response = openAiRateLimiter.execute(
+                OpenAiEndpoint.WHISPER, 0,
+                () -> restTemplate.exchange(
+                    "https://api.openai.com/v1/audio/transcriptions",
+                    HttpMethod.POST,
+                    request,
+                    new ParameterizedTypeReference<Map<String, Object>>() {
+                    }
+                )
             );
 
             log.info("STT 응답처리 성공: {}", response.getBody());
             return (String) response.getBody().get("text");
+        } catch (GPTApiException e) {
+            throw e;
         } catch (Exception e) {
             throw new GPTApiException("STT 처리 실패");
         }
     }
 
     /**
-     * GPT API를 이용하여 지원자의 음성 데이터를 텍스트로 변환하고, 면접 질문에 대한 답변을 생성한다.
+     * GPT API를 이용하여 지원자의 답변 텍스트를 채점하고, 면접 질문에 대한 피드백을 생성한다.
      *
-     * @param audioFile       지원자의 음성 데이터
+     * @param transcribedText 음성 인식된 지원자의 답변
      * @param questionContent 면접 질문
      * @return 면접 질문에 대한 답변
      */
-    public String makeGPTResponse(byte[] audioFile, String questionContent) {
-        String transcribedText = transcribe(audioFile);
-
+    public String makeGPTResponse(String transcribedText, String questionContent) {
         GPTRequest request = GPTRequest.of(model,
             makePromptMessages(transcribedText, questionContent));
+        long estimatedTokens = estimateTokens(transcribedText, questionContent);
 
         try {
-            GPTResponse response = restTemplate.postForObject(apiUrl, request, GPTResponse.class);
+            // 채점 요청은 멱등하므로 응답이 늦으면 헤지 요청을 보낼 수 있다.
+            GPTResponse response = hedgedRequestExecutor.execute(
+                () -> openAiRateLimiter.execute(OpenAiEndpoint.CHAT, estimatedTokens,
+                    () -> restTemplate.postForEntity(apiUrl, request, GPTResponse.class)).getBody());
 
             log.info("GPT 응답 생성 성공: {}", response);
             return (String) response.choices().get(0).message().content();
+        } catch (GPTRateLimitException e) {
+            log.warn("GPT 요청 한도 초과: retryAfter={}ms", e.getRetryAfter().toMillis());
+            throw e;
         } catch (Exception e) {
             log.error("GPT 응답 생성 실패: {}", e.getMessage(), e);
             throw new GPTApiException("GPT 응답 생성 실패");
         }
     }
 
+    // 한국어는 대략 한 글자가 한 토큰이므로 글자 수를 입력 토큰 수로 보고, 응답 토큰 예상치를 더한다.
+    private long estimateTokens(String text, String questionContent) {
+        return (long) prompt.length() + questionContent.length() + text.length()
+            + estimatedCompletionTokens;
+    }
+
     private List<GPTMessage> makePromptMessages(String text, String questionContent) {
         return List.of(
             new GPTMessage("system", prompt),
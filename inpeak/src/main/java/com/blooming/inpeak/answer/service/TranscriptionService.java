@@ -0,0 +1,112 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.audio.AudioFile;
+import com.blooming.inpeak.answer.audio.WavChunker;
+import com.blooming.inpeak.common.error.exception.GPTApiException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 답변 음성 STT 처리
+ * 긴 답변은 무음 구간에서 여러 조각으로 나누어 병렬로 변환한 뒤 순서대로 이어 붙이므로,
+ * 변환 시간이 답변 전체 길이가 아니라 조각 하나의 길이에 비례한다.
+ */
+@Slf4j
+@Service
+public class TranscriptionService {
+
+    private final GPTService gptService;
+    private final WavChunker wavChunker;
+    private final ExecutorService openAiExecutor;
+    private final int parallelism;
+
+    public TranscriptionService(
+        GPTService gptService,
+        WavChunker wavChunker,
+        ExecutorService openAiExecutor,
+        @Value("${audio.chunk.parallelism}") int parallelism
+    ) {
+        this.gptService = gptService;
+        this.wavChunker = wavChunker;
+        this.openAiExecutor = openAiExecutor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 음성 파일을 텍스트로 변환한다.
+     *
+     * @param audioFile 디스크에 저장된 음성 파일
+     * @return 변환된 텍스트
+     */
+    public String transcribe(AudioFile audioFile) {
+        List<AudioFile> chunks = wavChunker.split(audioFile);
+        if (chunks.isEmpty()) {
+            return gptService.transcribe(audioFile);
+        }
+
+        // 한 답변이 Whisper 동시 요청을 독점하지 않도록 조각 동시 변환 수를 제한한다.
+        Semaphore permits = new Semaphore(parallelism);
+        CompletionService<String> completionService = new ExecutorCompletionService<>(openAiExecutor);
+        List<Future<String>> futures = new ArrayList<>(chunks.size());
+        try {
+            for (AudioFile chunk : chunks) {
+                futures.add(completionService.submit(() -> transcribe(chunk, permits)));
+            }
+
+            // 끝나는 순서대로 확인해, 한 조각이라도 실패하면 나머지를 기다리지 않고 바로 실패시킨다.
+            for (int i = 0; i < futures.size(); i++) {
+                getResult(completionService.take());
+            }
+
+            return futures.stream()
+                .map(Future::resultNow)
+                .map(String::strip)
+                .filter(text -> !text.isEmpty())
+                .collect(Collectors.joining(" "));
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GPTApiException("STT 대기 중 인터럽트 발생");
+        } finally {
+            // 실패한 답변은 어차피 다시 변환하므로, 남은 조각의 Whisper 호출을 취소한다.
+            futures.forEach(future -> future.cancel(true));
+            chunks.forEach(AudioFile::close);
+        }
+    }
+
+    private String transcribe(AudioFile chunk, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GPTApiException("STT 대기 중 인터럽트 발생");
+        }
+
+        try {
+            return gptService.transcribe(chunk);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private String getResult(Future<String> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new GPTApiException("STT 처리 실패");
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.blooming.inpeak.auth.filter;
 
-import com.blooming.inpeak.auth.domain.RefreshToken;
-import com.blooming.inpeak.auth.repository.RefreshTokenRepository;
+import com.blooming.inpeak.auth.service.MemberPrincipalCache;
+import com.blooming.inpeak.auth.service.MemberPrincipalCache.CachedPrincipal;
+import com.blooming.inpeak.auth.service.RefreshTokenRotator;
+import com.blooming.inpeak.auth.service.RefreshTokenRotator.RotatedTokens;
 import com.blooming.inpeak.auth.utils.JwtTokenProvider;
+import com.blooming.inpeak.auth.utils.JwtTokenProvider.VerifiedToken;
 import com.blooming.inpeak.auth.utils.TokenExtractor;
-import com.blooming.inpeak.member.domain.Member;
 import com.blooming.inpeak.member.dto.MemberPrincipal;
-import com.blooming.inpeak.member.repository.MemberRepository;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +16,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,9 +35,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final MemberRepository memberRepository;
     private final TokenExtractor tokenExtractor;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final RefreshTokenRotator refreshTokenRotator;
 
     @Value("${jwt.accessToken.expiration}")
     private long accessTokenExpiration;
@@ -60,16 +63,18 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         FilterChain filterChain
     ) throws IOException, ServletException {
         try {
-            String accessToken = extractAndValidateAccessToken(request, response);
-            if (accessToken == null) return;
+            String memberId = resolveMemberId(request, response);
+            if (memberId == null) return;
 
-            String memberId = jwtTokenProvider.getUserIdFromToken(accessToken);
-            if (!isMemberAllowedToAccess(request, memberId)) {
+            CachedPrincipal member = memberPrincipalCache.find(Long.valueOf(memberId))
+                .orElseThrow(() -> new IllegalArgumentException("사용자 정보가 존재하지 않습니다."));
+
+            if (!isMemberAllowedToAccess(request, member)) {
                 sendRegistrationErrorResponse(response);
                 return;
             }
 
-            authenticateMember(memberId);
+            authenticateMember(member.principal());
             filterChain.doFilter(request, response);
 
         } catch (IllegalArgumentException e) {
@@ -82,7 +87,13 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private String extractAndValidateAccessToken(
+    /**
+     * 액세스 토큰을 검증해 사용자 ID 를 얻는다. 만료되었으면 리프레시 토큰으로 재발급한다.
+     * 토큰은 한 요청에서 한 번만 검증한다.
+     *
+     * @return 사용자 ID, 인증에 실패해 응답을 보냈으면 null
+     */
+    private String resolveMemberId(
         HttpServletRequest request,
         HttpServletResponse response
     ) throws IOException {
@@ -95,8 +106,10 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // 액세스 토큰 유효한 경우 바로 반환
-        if (jwtTokenProvider.validateToken(accessToken)) {
-            return accessToken;
+        try {
+            return jwtTokenProvider.verify(accessToken).subject();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("액세스 토큰 검증 실패: {}", e.getMessage());
         }
 
         // 액세스 토큰 만료된 경우 리프레시 토큰으로 갱신 시도
@@ -112,34 +125,40 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         String refreshToken = tokenExtractor.extractRefreshToken(request);
 
         // 리프레시 토큰 유효성 검사
-        if (refreshToken == null || !jwtTokenProvider.validateToken(refreshToken)) {
+        VerifiedToken verifiedRefreshToken = refreshToken != null ? verifyOrNull(refreshToken) : null;
+        if (verifiedRefreshToken == null) {
             sendErrorResponse(response, "액세스 토큰이 만료되었고, 리프레시 토큰도 유효하지 않습니다");
             return null;
         }
 
-        String memberId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        String memberId = verifiedRefreshToken.subject();
 
-        // DB에 저장된 리프레시 토큰 검증
-        RefreshToken savedRefreshToken = refreshTokenRepository.findById(Long.valueOf(memberId))
-            .orElseThrow(() -> new IllegalArgumentException("저장된 리프레시 토큰이 존재하지 않습니다."));
+        // 리프레시 토큰 재발급 (유효 기간 절반 이하 남은 경우)
+        boolean renewRefreshToken = verifiedRefreshToken.expirationTime()
+            - System.currentTimeMillis() < refreshTokenExpiration / 2;
 
-        if (!savedRefreshToken.getRefreshToken().equals(refreshToken)) {
+        // 저장된 리프레시 토큰 검증과 새 토큰 저장을 한 번에 처리
+        Optional<RotatedTokens> rotated =
+            refreshTokenRotator.rotate(Long.valueOf(memberId), refreshToken, renewRefreshToken);
+        if (rotated.isEmpty()) {
             removeTokenCookies(response);
             sendErrorResponse(response, "유효하지 않은 리프레시 토큰입니다.");
             return null;
         }
 
-        // 새 토큰 발급
-        Member member = memberRepository.findById(Long.valueOf(memberId))
-            .orElseThrow(() -> new IllegalArgumentException("회원 정보가 존재하지 않습니다."));
-
-        return reissueAccessToken(member, savedRefreshToken, response);
+        addReissuedTokenCookies(response, refreshToken, rotated.get());
+        return memberId;
     }
 
-    private boolean isMemberAllowedToAccess(HttpServletRequest request, String memberId) {
-        Member member = memberRepository.findById(Long.valueOf(memberId))
-            .orElseThrow(() -> new IllegalArgumentException("사용자 정보가 존재하지 않습니다."));
+    private VerifiedToken verifyOrNull(String token) {
+        try {
+            return jwtTokenProvider.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
 
+    private boolean isMemberAllowedToAccess(HttpServletRequest request, CachedPrincipal member) {
         // 회원 등록 완료 상태라면 모든 경로 접근 가능
         if (member.registrationCompleted()) {
             return true;
@@ -151,11 +170,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             .anyMatch(path::startsWith);
     }
 
-    private void authenticateMember(String memberId) {
-        Member member = memberRepository.findById(Long.valueOf(memberId))
-            .orElseThrow(() -> new IllegalArgumentException("사용자 정보가 존재하지 않습니다."));
-
-        MemberPrincipal memberPrincipal = MemberPrincipal.create(member, null);
+    private void authenticateMember(MemberPrincipal memberPrincipal) {
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(
                 memberPrincipal, null, memberPrincipal.getAuthorities()
@@ -164,29 +179,17 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
-    private String reissueAccessToken(
-        Member member, RefreshToken refreshToken, HttpServletResponse response) {
-        // 새로운 액세스 토큰 발급
-        Duration accessTokenDuration = Duration.ofMillis(accessTokenExpiration);
-        String newAccessToken = jwtTokenProvider.makeToken(member, accessTokenDuration);
-
-        // 리프레시 토큰 재발급 (유효 기간 절반 이하 남은 경우)
-        var currentTimeMillis = System.currentTimeMillis();
-        var expirationTime = jwtTokenProvider.getExpirationTime(refreshToken.getRefreshToken());
-        if (expirationTime - currentTimeMillis < refreshTokenExpiration / 2) {
+    private void addReissuedTokenCookies(HttpServletResponse response, String refreshToken,
+        RotatedTokens rotated) {
+        // 쿠키에 새 리프레시 토큰 설정 (교체된 경우)
+        if (!rotated.refreshToken().equals(refreshToken)) {
             Duration refreshTokenDuration = Duration.ofMillis(refreshTokenExpiration);
-            String newRefreshToken = jwtTokenProvider.makeToken(member, refreshTokenDuration);
-            refreshToken.update(newRefreshToken);
-            refreshTokenRepository.save(refreshToken);
-
-            // 쿠키에 새 리프레시 토큰 설정
-            addTokenCookie(response, REFRESH_TOKEN_COOKIE_NAME, newRefreshToken, refreshTokenDuration.toSeconds());
+            addTokenCookie(response, REFRESH_TOKEN_COOKIE_NAME, rotated.refreshToken(), refreshTokenDuration.toSeconds());
         }
 
         // 쿠키에 새 accessToken 설정
-        addTokenCookie(response, ACCESS_TOKEN_COOKIE_NAME, newAccessToken, accessTokenDuration.toSeconds());
-
-        return newAccessToken;
+        Duration accessTokenDuration = Duration.ofMillis(accessTokenExpiration);
+        addTokenCookie(response, ACCESS_TOKEN_COOKIE_NAME, rotated.accessToken(), accessTokenDuration.toSeconds());
     }
 
     /**
@@ -3,6 +3,7 @@ package com.blooming.inpeak.auth.service;
 import com.blooming.inpeak.auth.domain.RefreshToken;
 import com.blooming.inpeak.auth.dto.TokenResponse;
 import com.blooming.inpeak.auth.repository.RefreshTokenRepository;
+import com.blooming.inpeak.auth.service.RefreshTokenRotator.RotatedTokens;
 import com.blooming.inpeak.auth.utils.JwtTokenProvider;
 import com.blooming.inpeak.auth.utils.TokenExtractor;
 import com.blooming.inpeak.member.domain.Member;
@@ -35,6 +36,7 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenExtractor tokenExtractor;
+    private final RefreshTokenRotator refreshTokenRotator;
 
     @Transactional
     public void logout(Long memberId, HttpServletResponse response) {
@@ -99,13 +101,25 @@ public class AuthService {
         // 리프레시 토큰으로부터 멤버 ID 추출
         String memberId = jwtTokenProvider.getUserIdFromToken(refreshTokenValue);
 
-        RefreshToken refreshToken = refreshTokenRepository.findById(Long.valueOf(memberId))
+        // 저장된 리프레시 토큰 검증과 새 토큰 저장을 한 번에 처리
+        RotatedTokens rotated = refreshTokenRotator.rotate(Long.valueOf(memberId), refreshTokenValue, true)
             .orElseThrow(() -> {
                 removeTokenCookies(response);
-                return new IllegalArgumentException("저장된 Refresh 토큰이 존재하지 않습니다.");
+                return new IllegalArgumentException("유효하지 않은 Refresh 토큰입니다.");
             });
 
-        return reissueToken(refreshToken.getMemberId(), response);
+        // 쿠키에 새로운 토큰 저장
+        addTokenCookie(response, ACCESS_TOKEN_COOKIE_NAME, rotated.accessToken(),
+            Duration.ofMillis(accessTokenExpiration).toSeconds());
+        addTokenCookie(response, REFRESH_TOKEN_COOKIE_NAME, rotated.refreshToken(),
+            Duration.ofMillis(refreshTokenExpiration).toSeconds());
+
+        return new TokenResponse(
+            rotated.accessToken(),
+            rotated.refreshToken(),
+            accessTokenExpiration,
+            refreshTokenExpiration
+        );
     }
 
     /**
@@ -0,0 +1,169 @@
+package com.blooming.inpeak.auth.service;
+
+import com.blooming.inpeak.member.domain.Member;
+import com.blooming.inpeak.member.dto.MemberPrincipal;
+import com.blooming.inpeak.member.repository.MemberRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인증 필터가 사용하는 회원 정보 캐시 (인스턴스별, 최대 max-size 개)
+ * 요청마다 회원 테이블을 조회하지 않도록 가입 완료 여부와 {@link MemberPrincipal} 을 메모리에 들고 있는다.
+ * 가입 완료, 닉네임 변경, 탈퇴처럼 인증 정보가 바뀌면 Redis 채널로 모든 노드에 무효화를 알리고,
+ * 메시지를 놓친 경우에도 ttl 이 지나면 DB 에서 다시 읽는다.
+ */
+@Slf4j
+@Service
+public class MemberPrincipalCache implements MessageListener {
+
+    static final String CHANNEL = "member-principal-invalidation";
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long ttlMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Entry> entries;
+    // 무효화 횟수. 조회 도중 무효화가 끼어들면 읽어 온 값을 캐시에 넣지 않는다.
+    private long generation;
+
+    public MemberPrincipalCache(
+        MemberRepository memberRepository,
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        @Value("${auth.principal-cache.max-size}") int maxSize,
+        @Value("${auth.principal-cache.ttl}") Duration ttl
+    ) {
+        this.memberRepository = memberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 인증된 회원 정보
+     *
+     * @param principal             인증 주체
+     * @param registrationCompleted 가입 완료 여부
+     */
+    public record CachedPrincipal(MemberPrincipal principal, boolean registrationCompleted) {
+
+        public static CachedPrincipal from(Member member) {
+            return new CachedPrincipal(MemberPrincipal.create(member, null),
+                member.registrationCompleted());
+        }
+    }
+
+    /**
+     * 회원 정보를 조회한다. 캐시에 없거나 만료되었으면 DB 에서 읽어 캐시에 넣는다.
+     *
+     * @param memberId 사용자 ID
+     * @return 회원 정보, 회원이 없으면 빈 값
+     */
+    public Optional<CachedPrincipal> find(Long memberId) {
+        long now = System.currentTimeMillis();
+        long observed;
+
+        lock.lock();
+        try {
+            Entry entry = entries.get(memberId);
+            if (entry != null && now < entry.expiresAt()) {
+                return Optional.of(entry.value());
+            }
+            observed = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        Optional<CachedPrincipal> loaded = memberRepository.findById(memberId)
+            .map(CachedPrincipal::from);
+        loaded.ifPresent(value -> {
+            lock.lock();
+            try {
+                if (generation == observed) {
+                    entries.put(memberId, new Entry(value, now + ttlMillis));
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 회원 정보가 바뀌었음을 모든 노드에 알린다.
+     * 다른 노드가 커밋 전의 값을 다시 읽어 가지 않도록 트랜잭션 안이면 커밋 후에 알린다.
+     *
+     * @param memberId 사용자 ID
+     */
+    public void invalidate(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(memberId);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evict(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("회원 정보 무효화 메시지 파싱 실패: body={}", body);
+        }
+    }
+
+    /**
+     * 발행에 실패해도 다른 노드는 ttl 이 지나면 새 값을 읽으므로 요청을 막지 않는다.
+     */
+    private void publish(Long memberId) {
+        evict(memberId);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(memberId));
+        } catch (DataAccessException e) {
+            log.warn("회원 정보 무효화 발행 실패: memberId={}, error={}", memberId, e.getMessage());
+        }
+    }
+
+    private void evict(Long memberId) {
+        lock.lock();
+        try {
+            entries.remove(memberId);
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(CachedPrincipal value, long expiresAt) {
+
+    }
+}
@@ -0,0 +1,207 @@
+package com.blooming.inpeak.auth.service;
+
+import com.blooming.inpeak.auth.utils.JwtTokenProvider;
+import com.blooming.inpeak.member.domain.Member;
+import com.blooming.inpeak.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리프레시 토큰으로 토큰을 재발급한다.
+ * 제시된 토큰 비교와 새 토큰 저장을 하나의 Redis 스크립트로 처리하고, 교체 직후 grace-period 동안은
+ * 직전 토큰을 제시한 요청에도 이미 발급한 토큰을 그대로 돌려준다.
+ * 액세스 토큰이 만료된 순간 여러 탭이 동시에 재발급을 요청해도 서로의 교체 때문에 로그아웃되지 않는다.
+ * <p>
+ * 같은 인스턴스에 동시에 들어온 같은 토큰의 재발급은 하나로 합쳐 토큰을 한 번만 만들고,
+ * 거절되거나 이미 교체된 토큰은 회원 조회와 토큰 생성 전에 걸러낸다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenRotator {
+
+    // RefreshToken(@RedisHash("refreshToken")) 이 저장되는 키
+    private static final String KEY_PREFIX = "refreshToken:";
+    private static final String GRACE_SUFFIX = ":grace";
+
+    // 로그아웃 / 탈퇴로 저장된 토큰이 지워졌으면 직전 토큰도 받지 않는다.
+    private static final String COMPARE =
+        "local current = redis.call('hget', KEYS[1], 'refreshToken') "
+        + "if not current then return false end "
+        + "if redis.call('hget', KEYS[2], 'previous') == ARGV[1] then "
+        + "  local issued = redis.call('hmget', KEYS[2], 'refreshToken', 'accessToken') "
+        + "  return {issued[1], issued[2], 'replayed'} "
+        + "end "
+        + "if current ~= ARGV[1] then return false end ";
+
+    // 회원 조회와 토큰 생성 전에 제시된 토큰을 먼저 비교한다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> COMPARE_SCRIPT = new DefaultRedisScript<>(
+        COMPARE + "return {'matched'}",
+        List.class
+    );
+
+    // 비교 이후 다른 요청이 먼저 교체했을 수 있으므로 저장할 때 다시 비교한다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>(
+        COMPARE
+            + "if ARGV[2] ~= ARGV[1] then "
+            + "  redis.call('hset', KEYS[1], 'refreshToken', ARGV[2], 'expiration', ARGV[4]) "
+            + "  redis.call('pexpire', KEYS[1], ARGV[4]) "
+            + "end "
+            + "redis.call('hset', KEYS[2], 'previous', ARGV[1], 'refreshToken', ARGV[2], "
+            + "  'accessToken', ARGV[3]) "
+            + "redis.call('pexpire', KEYS[2], ARGV[5]) "
+            + "return {ARGV[2], ARGV[3], 'rotated'}",
+        List.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MemberRepository memberRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Duration accessTokenDuration;
+    private final Duration refreshTokenDuration;
+    private final Duration gracePeriod;
+
+    private final Map<Flight, CompletableFuture<Optional<RotatedTokens>>> flights =
+        new ConcurrentHashMap<>();
+    private final Counter rotatedCounter;
+    private final Counter replayedCounter;
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+
+    public RefreshTokenRotator(
+        StringRedisTemplate stringRedisTemplate,
+        MemberRepository memberRepository,
+        JwtTokenProvider jwtTokenProvider,
+        MeterRegistry meterRegistry,
+        @Value("${jwt.accessToken.expiration}") long accessTokenExpiration,
+        @Value("${jwt.refreshToken.expiration}") long refreshTokenExpiration,
+        @Value("${jwt.refreshToken.grace-period}") Duration gracePeriod
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.memberRepository = memberRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.accessTokenDuration = Duration.ofMillis(accessTokenExpiration);
+        this.refreshTokenDuration = Duration.ofMillis(refreshTokenExpiration);
+        this.gracePeriod = gracePeriod;
+
+        this.rotatedCounter = counter(meterRegistry, "rotated");
+        this.replayedCounter = counter(meterRegistry, "replayed");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+        this.rejectedCounter = counter(meterRegistry, "rejected");
+    }
+
+    /**
+     * 재발급된 토큰
+     *
+     * @param accessToken  새 액세스 토큰
+     * @param refreshToken 리프레시 토큰 (교체하지 않았으면 제시한 토큰 그대로)
+     */
+    public record RotatedTokens(String accessToken, String refreshToken) {
+
+    }
+
+    /**
+     * 제시된 리프레시 토큰이 저장된 토큰(또는 grace-period 안의 직전 토큰)과 같으면 토큰을 재발급한다.
+     *
+     * @param memberId          사용자 ID
+     * @param refreshToken      서명 검증을 마친 리프레시 토큰
+     * @param renewRefreshToken 리프레시 토큰도 새로 발급할지 여부
+     * @return 재발급된 토큰, 제시된 토큰이 유효하지 않으면 빈 값
+     */
+    public Optional<RotatedTokens> rotate(Long memberId, String refreshToken,
+        boolean renewRefreshToken) {
+        Flight flight = new Flight(memberId, refreshToken);
+        CompletableFuture<Optional<RotatedTokens>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<RotatedTokens>> running = flights.putIfAbsent(flight, created);
+        if (running != null) {
+            coalescedCounter.increment();
+            return join(running);
+        }
+
+        try {
+            Optional<RotatedTokens> result = execute(memberId, refreshToken, renewRefreshToken);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(flight, created);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<RotatedTokens> execute(Long memberId, String refreshToken,
+        boolean renewRefreshToken) {
+        List<String> keys = List.of(KEY_PREFIX + memberId, KEY_PREFIX + memberId + GRACE_SUFFIX);
+
+        // 거절되거나 이미 발급한 토큰을 돌려줄 요청은 회원 조회와 서명 없이 끝낸다.
+        List<String> compared = stringRedisTemplate.execute(COMPARE_SCRIPT, keys, refreshToken);
+        if (compared == null || compared.size() != 1) {
+            return result(memberId, compared);
+        }
+
+        Member member = memberRepository.findById(memberId)
+            .orElseThrow(() -> new IllegalArgumentException("회원 정보가 존재하지 않습니다."));
+
+        String newAccessToken = jwtTokenProvider.makeToken(member, accessTokenDuration);
+        String newRefreshToken = renewRefreshToken
+            ? jwtTokenProvider.makeToken(member, refreshTokenDuration) : refreshToken;
+
+        List<String> issued = stringRedisTemplate.execute(ROTATE_SCRIPT, keys,
+            refreshToken, newRefreshToken, newAccessToken,
+            String.valueOf(refreshTokenDuration.toMillis()),
+            String.valueOf(gracePeriod.toMillis()));
+        return result(memberId, issued);
+    }
+
+    private Optional<RotatedTokens> result(Long memberId, List<String> issued) {
+        if (issued == null || issued.size() < 3) {
+            rejectedCounter.increment();
+            log.warn("저장된 토큰과 다른 리프레시 토큰으로 재발급 요청: memberId={}", memberId);
+            return Optional.empty();
+        }
+
+        if ("replayed".equals(issued.get(2))) {
+            replayedCounter.increment();
+        } else {
+            rotatedCounter.increment();
+        }
+        return Optional.of(new RotatedTokens(issued.get(1), issued.get(0)));
+    }
+
+    private Optional<RotatedTokens> join(CompletableFuture<Optional<RotatedTokens>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.refresh.rotation")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private record Flight(Long memberId, String refreshToken) {
+
+    }
+}
@@ -1,12 +1,20 @@
 package com.blooming.inpeak.auth.utils;
 
 import com.blooming.inpeak.member.domain.Member;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,11 +30,39 @@ public class JwtTokenProvider {
     @Value("${jwt.issuer:inpeak}")
     private String issuer;
 
+    @Value("${jwt.verify-cache.max-size:10000}")
+    private int verifyCacheMaxSize;
+
     private SecretKey secretKey;
+    // 스레드 간에 공유해도 안전하다.
+    private JwtParser parser;
+
+    // 검증을 마친 토큰 (토큰 SHA-256 -> 검증 결과), 토큰이 만료될 때까지 다시 검증하지 않는다.
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+            .verifyWith(secretKey)
+            .build();
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifyCacheMaxSize;
+            }
+        };
+    }
+
+    /**
+     * 검증을 마친 토큰의 내용
+     *
+     * @param subject        사용자 ID
+     * @param expirationTime 만료 시각 (epoch millis)
+     */
+    public record VerifiedToken(String subject, long expirationTime) {
+
     }
 
     public String makeToken(Member member, Duration expiredAt) {
@@ -45,6 +81,45 @@ public class JwtTokenProvider {
             .compact();
     }
 
+    /**
+     * 토큰의 서명과 만료 시각을 검증하고 내용을 반환한다.
+     * 검증한 토큰은 만료될 때까지 캐시해, 같은 토큰은 다시 파싱하지 않는다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 내용
+     * @throws io.jsonwebtoken.JwtException 서명이 맞지 않거나 만료된 토큰인 경우
+     */
+    public VerifiedToken verify(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        lock.lock();
+        try {
+            VerifiedToken cached = verifiedTokens.get(key);
+            if (cached != null) {
+                if (now < cached.expirationTime()) {
+                    return cached;
+                }
+                verifiedTokens.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // 만료된 토큰은 여기서 ExpiredJwtException 으로 거절된다.
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(),
+            claims.getExpiration().getTime());
+
+        lock.lock();
+        try {
+            verifiedTokens.put(key, verified);
+        } finally {
+            lock.unlock();
+        }
+        return verified;
+    }
+
     /**
      * 토큰에서 사용자 ID 추출
      *
@@ -52,12 +127,7 @@ public class JwtTokenProvider {
      * @return 사용자 ID
      */
     public String getUserIdFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getSubject();
+        return verify(token).subject();
     }
 
     /**
@@ -68,10 +138,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+            verify(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -79,12 +146,16 @@ public class JwtTokenProvider {
     }
 
     public long getExpirationTime(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getExpiration()
-            .getTime();
+        return verify(token).expirationTime();
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 }
@@ -1,8 +1,14 @@
 package com.blooming.inpeak.common.config.AI;
 
+import com.blooming.inpeak.common.config.http.PooledRestTemplateBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -11,22 +17,42 @@ public class GPTConfig {
     @Value("${openai.api.key}")
     private String apiKey;
 
+    /**
+     * OpenAI(Whisper, Chat) 호출용 커넥션 풀 RestTemplate
+     * 두 API 모두 같은 호스트로 가므로, 호스트별 최대 커넥션 수를 적응형 한도의 최대값 합으로 잡는다.
+     * 풀이 한도보다 작으면 한도 안에 든 요청이 커넥션을 기다리며 줄을 서게 된다.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate template = new RestTemplate();
-        template.getInterceptors().add((request, body, execution) -> {
-            request.getHeaders().add(
-                "Authorization"
-                , "Bearer " + apiKey);
-            return execution.execute(request, body);
-        });
-
-        return template;
-
+    public RestTemplate restTemplate(
+        MeterRegistry meterRegistry,
+        @Value("${openai.rate-limit.whisper.max-limit}") int whisperMaxLimit,
+        @Value("${openai.rate-limit.chat.max-limit}") int chatMaxLimit,
+        @Value("${http.client.openai.connect-timeout}") Duration connectTimeout,
+        @Value("${http.client.openai.response-timeout}") Duration responseTimeout,
+        @Value("${http.client.openai.connection-request-timeout}") Duration connectionRequestTimeout,
+        @Value("${http.client.openai.idle-timeout}") Duration idleTimeout
+    ) {
+        int maxConnections = whisperMaxLimit + chatMaxLimit;
+        return PooledRestTemplateBuilder.named("openai")
+            .maxConnections(maxConnections)
+            .maxConnectionsPerRoute(maxConnections)
+            .connectTimeout(connectTimeout)
+            .responseTimeout(responseTimeout)
+            .connectionRequestTimeout(connectionRequestTimeout)
+            .idleTimeout(idleTimeout)
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+            .meterRegistry(meterRegistry)
+            .build();
     }
 
-    @Bean("simpleRestTemplate")
-    public RestTemplate simpleRestTemplate() {
-        return new RestTemplate(); // 헤더 인터셉터 없는 깨끗한 RestTemplate
+    /**
+     * OpenAI 비동기 호출용 실행기
+     * 호출 하나당 가상 스레드 하나를 사용하므로, 컨슈머 스레드 하나가 여러 요청을 동시에 기다릴 수 있다.
+     * 실제 동시 요청 수는 OpenAiRateLimiter 의 적응형 한도로 제한된다.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService openAiExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("openai-", 0).factory());
     }
 }
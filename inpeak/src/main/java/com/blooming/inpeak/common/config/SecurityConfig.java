@@ -3,6 +3,7 @@ package com.blooming.inpeak.common.config;
 import com.blooming.inpeak.auth.filter.TokenAuthenticationFilter;
 import com.blooming.inpeak.auth.handler.OAuth2AuthenticationSuccessHandler;
 import com.blooming.inpeak.auth.service.CustomOAuth2UserService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,6 +37,8 @@ public class SecurityConfig {
             .sessionManagement(session ->
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // SSE 응답의 비동기 디스패치는 최초 요청에서 이미 인증되었다.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(
                     "/api/public/**", "/oauth2/**", "/login/**", "/error"
                 )
@@ -63,6 +66,7 @@ public class SecurityConfig {
         configuration.addAllowedHeader("*");
         configuration.setAllowCredentials(true);
         configuration.addExposedHeader(HttpHeaders.LOCATION);
+        configuration.addExposedHeader(HttpHeaders.RETRY_AFTER);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
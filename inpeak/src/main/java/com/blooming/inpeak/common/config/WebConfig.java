@@ -27,7 +27,7 @@ public class WebConfig implements WebMvcConfigurer {
                         "https://inpeak.kr",
                         "https://www.inpeak.kr"
                 )
-                .exposedHeaders(HttpHeaders.LOCATION)
+                .exposedHeaders(HttpHeaders.LOCATION, HttpHeaders.RETRY_AFTER)
                 .allowCredentials(true);
     }
 }
@@ -0,0 +1,123 @@
+package com.blooming.inpeak.common.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 커넥션 풀 기반 RestTemplate 생성 도우미
+ * keep-alive 커넥션을 재사용하여 요청마다 TLS 핸드셰이크가 발생하지 않도록 하고,
+ * 호스트별 최대 커넥션 수와 타임아웃을 제한한다.
+ * 풀 상태는 httpcomponents.httpclient.pool.* 메트릭으로 노출된다.
+ */
+public final class PooledRestTemplateBuilder {
+
+    private final String name;
+    private int maxConnections = 50;
+    private int maxConnectionsPerRoute = 20;
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private Duration responseTimeout = Duration.ofSeconds(30);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    private final List<Header> defaultHeaders = new ArrayList<>();
+    private MeterRegistry meterRegistry;
+
+    private PooledRestTemplateBuilder(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param name 메트릭 태그로 사용할 풀 이름
+     */
+    public static PooledRestTemplateBuilder named(String name) {
+        return new PooledRestTemplateBuilder(name);
+    }
+
+    public PooledRestTemplateBuilder maxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    public PooledRestTemplateBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    public PooledRestTemplateBuilder connectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    public PooledRestTemplateBuilder responseTimeout(Duration responseTimeout) {
+        this.responseTimeout = responseTimeout;
+        return this;
+    }
+
+    public PooledRestTemplateBuilder connectionRequestTimeout(Duration connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+        return this;
+    }
+
+    public PooledRestTemplateBuilder idleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    /**
+     * 모든 요청에 기본으로 붙일 헤더
+     * 인터셉터와 달리 요청 본문을 버퍼링하지 않으므로 대용량 업로드도 스트리밍된다.
+     */
+    public PooledRestTemplateBuilder defaultHeader(String headerName, String value) {
+        this.defaultHeaders.add(new BasicHeader(headerName, value));
+        return this;
+    }
+
+    public PooledRestTemplateBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        return this;
+    }
+
+    public RestTemplate build() {
+        PoolingHttpClientConnectionManager connectionManager =
+            PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(connectTimeout))
+                    .setSocketTimeout(Timeout.of(responseTimeout))
+                    .build())
+                .build();
+
+        if (meterRegistry != null) {
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name)
+                .bindTo(meterRegistry);
+        }
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.of(responseTimeout))
+                .build())
+            .setDefaultHeaders(defaultHeaders)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(idleTimeout))
+            .build();
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+}
@@ -1,10 +1,26 @@
 package com.blooming.inpeak.common.config.kafka;
 
+import com.blooming.inpeak.answer.dto.command.AnswerGradingMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerPersistMessage;
 import com.blooming.inpeak.answer.dto.command.AnswerTaskMessage;
 import com.blooming.inpeak.common.error.exception.DownloadFailureException;
+import com.blooming.inpeak.common.error.exception.InvalidAudioException;
 import com.blooming.inpeak.common.error.exception.NotFoundException;
+import com.blooming.inpeak.common.kafka.ConsumerMode;
+import com.blooming.inpeak.common.kafka.KafkaRecordDispatcher;
+import com.blooming.inpeak.common.kafka.RetryTopicRelay;
+import com.blooming.inpeak.common.kafka.RetryTopicResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +28,10 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
@@ -22,16 +42,219 @@ import org.springframework.util.backoff.FixedBackOff;
 @Configuration
 @Profile("!test")
 public class KafkaConfig {
+
+    // 재시도해도 결과가 같은 예외
+    private static final List<Class<? extends Exception>> NOT_RETRYABLE_EXCEPTIONS = List.of(
+        DownloadFailureException.class,
+        InvalidAudioException.class,
+        NotFoundException.class
+    );
+
+    private static final List<String> RETRY_TOPICS = List.of(
+        KafkaTopics.ANSWER_RETRY_1,
+        KafkaTopics.ANSWER_RETRY_2,
+        KafkaTopics.ANSWER_RETRY_3
+    );
+
+    // 재시도 / DLT 토픽으로의 발행이 실패했을 때 다시 시도하기까지의 간격
+    private static final long REPUBLISH_RETRY_INTERVAL_MILLIS = 1_000;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${answer.consumer.mode}")
+    private ConsumerMode consumerMode;
+
+    /**
+     * 실패한 레코드를 재시도 단계 토픽 또는 DLT 로 보내는 recoverer
+     * 플랫폼 모드에서는 에러 핸들러가, 가상 스레드 모드에서는 디스패처가 사용한다.
+     */
     @Bean
-    public ConsumerFactory<String, AnswerTaskMessage> consumerFactory() {
+    public DeadLetterPublishingRecoverer retryTopicRecoverer(
+        KafkaTemplate<String, Object> kafkaTemplate,
+        @Value("${answer.retry.delays}") List<Duration> delays
+    ) {
+        RetryTopicResolver resolver = new RetryTopicResolver(RETRY_TOPICS, delays,
+            KafkaTopics.ANSWER_DLT, NOT_RETRYABLE_EXCEPTIONS);
+
+        DeadLetterPublishingRecoverer recoverer =
+            new DeadLetterPublishingRecoverer(kafkaTemplate, resolver::resolve);
+        recoverer.setHeadersFunction(resolver::headers);
+        recoverer.setFailIfSendResultIsError(true);
+        return recoverer;
+    }
+
+    /**
+     * 재시도 토픽의 레코드를 원래 토픽으로 되돌리는 relay
+     * 메시지 타입과 무관하게 바이트 그대로 옮기므로 별도의 프로듀서를 사용한다.
+     */
+    @Bean
+    public RetryTopicRelay retryTopicRelay() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+
+        // KafkaTemplate 빈으로 등록하면 스프링 부트의 기본 KafkaTemplate 이 만들어지지 않으므로 내부에서만 사용한다.
+        KafkaTemplate<String, byte[]> template = new KafkaTemplate<>(
+            new DefaultKafkaProducerFactory<>(props, new StringSerializer(),
+                new ByteArraySerializer()));
+        return new RetryTopicRelay(template);
+    }
+
+    /**
+     * 컨슈머 그룹 오프셋 조회용 AdminClient (파이프라인 적체 확인에 사용)
+     */
+    @Bean(destroyMethod = "close")
+    public AdminClient pipelineAdminClient() {
+        return AdminClient.create(Map.of(
+            AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+            AdminClientConfig.CLIENT_ID_CONFIG, "answer-pipeline-monitor"));
+    }
+
+    /**
+     * 1단계(다운로드 + STT) 리스너 컨테이너
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, AnswerTaskMessage> kafkaListenerContainerFactory(
+        DeadLetterPublishingRecoverer retryTopicRecoverer,
+        @Value("${answer.pipeline.stt.concurrency}") int concurrency
+    ) {
+        return containerFactory(AnswerTaskMessage.class, KafkaTopics.ANSWER_TASK_GROUP,
+            concurrency, errorHandler(retryTopicRecoverer));
+    }
+
+    /**
+     * 2단계(GPT 채점) 리스너 컨테이너
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, AnswerGradingMessage> gradingListenerContainerFactory(
+        DeadLetterPublishingRecoverer retryTopicRecoverer,
+        @Value("${answer.pipeline.grading.concurrency}") int concurrency
+    ) {
+        return containerFactory(AnswerGradingMessage.class, KafkaTopics.ANSWER_GRADING_GROUP,
+            concurrency, errorHandler(retryTopicRecoverer));
+    }
+
+    /**
+     * 3단계(답변 저장) 리스너 컨테이너
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, AnswerPersistMessage> persistListenerContainerFactory(
+        DeadLetterPublishingRecoverer retryTopicRecoverer,
+        @Value("${answer.pipeline.persist.concurrency}") int concurrency
+    ) {
+        return containerFactory(AnswerPersistMessage.class, KafkaTopics.ANSWER_PERSIST_GROUP,
+            concurrency, errorHandler(retryTopicRecoverer));
+    }
+
+    /**
+     * 재시도 토픽 / DLT 리스너 컨테이너
+     * 레코드를 역직렬화하지 않고 바이트 그대로 받는다.
+     * nack 이 컨슈머 전체를 멈추므로 지연 단계 토픽마다 리스너(컨테이너)를 따로 만든다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> retryListenerContainerFactory(
+        @Value("${answer.retry.concurrency}") int concurrency
+    ) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, false);
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props,
+            new StringDeserializer(), new ByteArrayDeserializer()));
+        factory.setConcurrency(concurrency);
+
+        // 원래 토픽으로 되돌리지 못한 레코드는 버리지 않고 성공할 때까지 다시 시도한다.
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+            new FixedBackOff(REPUBLISH_RETRY_INTERVAL_MILLIS, FixedBackOff.UNLIMITED_ATTEMPTS)));
+
+        // 아직 지연 시간이 남은 레코드는 nack 으로 파티션을 멈춰야 하므로 순서대로 직접 ack 한다.
+        factory.getContainerProperties().setAckMode(AckMode.MANUAL);
+
+        return factory;
+    }
+
+    /**
+     * 1단계(다운로드 + STT) 레코드 디스패처
+     */
+    @Bean(destroyMethod = "close")
+    public KafkaRecordDispatcher sttDispatcher(
+        MeterRegistry meterRegistry,
+        DeadLetterPublishingRecoverer retryTopicRecoverer,
+        @Value("${answer.pipeline.stt.max-in-flight}") int maxInFlight,
+        @Value("${answer.pipeline.stt.max-in-flight-per-key}") int maxInFlightPerKey
+    ) {
+        return dispatcher("stt", maxInFlight, maxInFlightPerKey, retryTopicRecoverer,
+            meterRegistry);
+    }
+
+    /**
+     * 2단계(GPT 채점) 레코드 디스패처
+     */
+    @Bean(destroyMethod = "close")
+    public KafkaRecordDispatcher gradingDispatcher(
+        MeterRegistry meterRegistry,
+        DeadLetterPublishingRecoverer retryTopicRecoverer,
+        @Value("${answer.pipeline.grading.max-in-flight}") int maxInFlight,
+        @Value("${answer.pipeline.grading.max-in-flight-per-key}") int maxInFlightPerKey
+    ) {
+        return dispatcher("grading", maxInFlight, maxInFlightPerKey, retryTopicRecoverer,
+            meterRegistry);
+    }
+
+    /**
+     * 3단계(답변 저장) 레코드 디스패처
+     */
+    @Bean(destroyMethod = "close")
+    public KafkaRecordDispatcher persistDispatcher(
+        MeterRegistry meterRegistry,
+        DeadLetterPublishingRecoverer retryTopicRecoverer,
+        @Value("${answer.pipeline.persist.max-in-flight}") int maxInFlight,
+        @Value("${answer.pipeline.persist.max-in-flight-per-key}") int maxInFlightPerKey
+    ) {
+        return dispatcher("persist", maxInFlight, maxInFlightPerKey, retryTopicRecoverer,
+            meterRegistry);
+    }
+
+    private KafkaRecordDispatcher dispatcher(String name, int maxInFlight, int maxInFlightPerKey,
+        DeadLetterPublishingRecoverer recoverer, MeterRegistry meterRegistry) {
+        return new KafkaRecordDispatcher(name, consumerMode, maxInFlight, maxInFlightPerKey,
+            recoverer, meterRegistry);
+    }
+
+    private <T> ConcurrentKafkaListenerContainerFactory<String, T> containerFactory(
+        Class<T> messageType, String groupId, int concurrency, DefaultErrorHandler errorHandler
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, T> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory(messageType, groupId));
+        factory.setConcurrency(concurrency);
+        factory.setCommonErrorHandler(errorHandler);
+
+        // 리스너가 처리 완료 시점에 직접 ack 한다.
+        // 가상 스레드 모드에서는 ack 순서가 뒤섞여도 오프셋이 순서대로 커밋되도록 asyncAcks를 켠다.
+        factory.getContainerProperties().setAckMode(AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(consumerMode.isAsync());
+
+        return factory;
+    }
+
+    private <T> ConsumerFactory<String, T> consumerFactory(Class<T> messageType, String groupId) {
         Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "kafka:9092");
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, "answer-task-group");
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        // 토픽은 KafkaTopicConfig 가 설정한 파티션 수로 만든다.
+        props.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, false);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
 
         // JsonDeserializer 구성
-        JsonDeserializer<AnswerTaskMessage> jsonDeserializer = new JsonDeserializer<>(AnswerTaskMessage.class);
+        JsonDeserializer<T> jsonDeserializer = new JsonDeserializer<>(messageType);
         jsonDeserializer.addTrustedPackages("com.blooming.inpeak.answer.dto.command");
 
         return new DefaultKafkaConsumerFactory<>(
@@ -41,29 +264,13 @@ public class KafkaConfig {
         );
     }
 
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, AnswerTaskMessage> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, AnswerTaskMessage> factory =
-            new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
-        factory.setConcurrency(5);
-        factory.setCommonErrorHandler(errorHandler());
-
-        return factory;
-    }
-
-    @Bean
-    public DefaultErrorHandler errorHandler() {
-        // 재시도 간격: 1초, 최대 1회 추가 재시도 (즉 총 2회)
-        FixedBackOff backOff = new FixedBackOff(1000L, 1L); // 1초, 1회
-
-        DefaultErrorHandler handler = new DefaultErrorHandler(backOff);
+    private DefaultErrorHandler errorHandler(DeadLetterPublishingRecoverer recoverer) {
+        // 같은 자리에서 재시도하며 파티션을 막지 않도록, 실패하면 바로 재시도 토픽으로 보낸다.
+        // 재시도 간격과 횟수는 재시도 토픽 단계(answer.retry.delays)가 정한다.
+        DefaultErrorHandler handler = new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L));
 
-        // 재시도 제외 예외 등록
-        handler.addNotRetryableExceptions(
-            DownloadFailureException.class,
-            NotFoundException.class
-        );
+        // 재시도 토픽으로 넘긴 레코드는 ack 없이도 오프셋을 커밋한다. 발행이 실패하면 같은 레코드를 다시 처리한다.
+        handler.setCommitRecovered(true);
 
         return handler;
     }
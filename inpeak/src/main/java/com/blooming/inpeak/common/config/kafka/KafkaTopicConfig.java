@@ -0,0 +1,43 @@
+package com.blooming.inpeak.common.config.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin.NewTopics;
+
+/**
+ * 답변 파이프라인 토픽을 애플리케이션 시작 시 생성한다.
+ * 브로커 자동 생성에 맡기면 파티션 수가 브로커 기본값(1)이 되어 컨슈머 concurrency 를 늘려도 병렬 처리되지 않는다.
+ * 이미 존재하는 토픽은 파티션 수가 설정보다 적을 때만 늘린다.
+ */
+@Configuration
+@Profile("!test")
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopics answerPipelineTopics(
+        @Value("${answer.topics.partitions}") int partitions,
+        @Value("${answer.topics.retry-partitions}") int retryPartitions,
+        @Value("${answer.topics.replicas}") short replicas
+    ) {
+        return new NewTopics(
+            topic(KafkaTopics.ANSWER_TASK, partitions, replicas),
+            topic(KafkaTopics.ANSWER_GRADING, partitions, replicas),
+            topic(KafkaTopics.ANSWER_PERSIST, partitions, replicas),
+            topic(KafkaTopics.ANSWER_RETRY_1, retryPartitions, replicas),
+            topic(KafkaTopics.ANSWER_RETRY_2, retryPartitions, replicas),
+            topic(KafkaTopics.ANSWER_RETRY_3, retryPartitions, replicas),
+            topic(KafkaTopics.ANSWER_DLT, retryPartitions, replicas)
+        );
+    }
+
+    private NewTopic topic(String name, int partitions, short replicas) {
+        return TopicBuilder.name(name)
+            .partitions(partitions)
+            .replicas(replicas)
+            .build();
+    }
+}
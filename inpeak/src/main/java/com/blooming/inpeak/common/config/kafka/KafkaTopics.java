@@ -0,0 +1,35 @@
+package com.blooming.inpeak.common.config.kafka;
+
+/**
+ * 답변 파이프라인에서 사용하는 Kafka 토픽 / 컨슈머 그룹 이름
+ * 각 단계는 자신의 토픽과 컨슈머 그룹을 가지므로 독립적으로 확장할 수 있다.
+ */
+public final class KafkaTopics {
+
+    // 1단계: 오디오 다운로드 + STT
+    public static final String ANSWER_TASK = "answer-task-topic";
+    public static final String ANSWER_TASK_GROUP = "answer-task-group";
+    public static final String ANSWER_TASK_LISTENER = "answer-task-listener";
+
+    // 2단계: GPT 채점
+    public static final String ANSWER_GRADING = "answer-grading-topic";
+    public static final String ANSWER_GRADING_GROUP = "answer-grading-group";
+    public static final String ANSWER_GRADING_LISTENER = "answer-grading-listener";
+
+    // 3단계: 답변 저장
+    public static final String ANSWER_PERSIST = "answer-persist-topic";
+    public static final String ANSWER_PERSIST_GROUP = "answer-persist-group";
+
+    // 재시도 단계별 지연 토픽 (모든 단계가 공유하며, 지연 시간은 answer.retry.delays 순서를 따른다)
+    public static final String ANSWER_RETRY_1 = "answer-retry-1-topic";
+    public static final String ANSWER_RETRY_2 = "answer-retry-2-topic";
+    public static final String ANSWER_RETRY_3 = "answer-retry-3-topic";
+    public static final String ANSWER_RETRY_GROUP = "answer-retry-group";
+
+    // 재시도를 모두 소진했거나 재시도할 수 없는 작업
+    public static final String ANSWER_DLT = "answer-dlt-topic";
+    public static final String ANSWER_DLT_GROUP = "answer-dlt-group";
+
+    private KafkaTopics() {
+    }
+}
@@ -1,8 +1,12 @@
 package com.blooming.inpeak.common.config.s3;
 
+import com.blooming.inpeak.common.config.http.PooledRestTemplateBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
@@ -42,4 +46,28 @@ public class S3Config {
                 StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
             .build();
     }
+
+    /**
+     * Presigned URL 다운로드용 커넥션 풀 RestTemplate (인증 헤더 없음)
+     */
+    @Bean("simpleRestTemplate")
+    public RestTemplate simpleRestTemplate(
+        MeterRegistry meterRegistry,
+        @Value("${http.client.s3.max-connections}") int maxConnections,
+        @Value("${http.client.s3.max-connections-per-route}") int maxConnectionsPerRoute,
+        @Value("${http.client.s3.connect-timeout}") Duration connectTimeout,
+        @Value("${http.client.s3.response-timeout}") Duration responseTimeout,
+        @Value("${http.client.s3.connection-request-timeout}") Duration connectionRequestTimeout,
+        @Value("${http.client.s3.idle-timeout}") Duration idleTimeout
+    ) {
+        return PooledRestTemplateBuilder.named("s3")
+            .maxConnections(maxConnections)
+            .maxConnectionsPerRoute(maxConnectionsPerRoute)
+            .connectTimeout(connectTimeout)
+            .responseTimeout(responseTimeout)
+            .connectionRequestTimeout(connectionRequestTimeout)
+            .idleTimeout(idleTimeout)
+            .meterRegistry(meterRegistry)
+            .build();
+    }
 }
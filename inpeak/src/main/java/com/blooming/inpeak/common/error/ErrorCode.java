@@ -21,7 +21,10 @@ public enum ErrorCode {
     CONFLICT("CONFLICT", "요청이 서버 상태와 충돌했습니다.", 409),
 
     // 500 Internal Server Error
-    ENCODING_FAILED("ENCODING_FAILED", "인코딩에 실패했습니다.", 500);
+    ENCODING_FAILED("ENCODING_FAILED", "인코딩에 실패했습니다.", 500),
+
+    // 503 Service Unavailable
+    SERVICE_UNAVAILABLE("SERVICE_UNAVAILABLE", "요청이 많아 잠시 후 다시 시도해 주세요.", 503);
 
     private final String code;
     private final String message;
@@ -5,7 +5,9 @@ import static com.blooming.inpeak.common.error.ErrorBuildFactory.*;
 import com.blooming.inpeak.common.error.exception.*;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -79,4 +81,13 @@ public class ErrorHandlingController {
         log.error("오디오 파일 인코딩 중 오류 발생: {}", e.getMessage());
         return buildError(ErrorCode.ENCODING_FAILED); // 혹은 적절한 에러 코드
     }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    protected ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+        ServiceUnavailableException e) {
+        log.warn("요청 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+            .body(buildError(ErrorCode.SERVICE_UNAVAILABLE));
+    }
 }
@@ -0,0 +1,12 @@
+package com.blooming.inpeak.common.error.exception;
+
+/**
+ * S3 5xx / 네트워크 오류처럼 일시적인 원인으로 오디오를 내려받지 못한 경우의 예외
+ * 만료된 URL 같은 영구적인 실패(DownloadFailureException)와 달리 재시도 대상이다.
+ */
+public class DownloadUnavailableException extends RuntimeException {
+
+    public DownloadUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.blooming.inpeak.common.error.exception;
+
+import java.time.Duration;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * OpenAI 요청 한도 초과 예외
+ * 재시도는 retryAfter 이후에 해야 의미가 있다.
+ */
+@Getter
+public class GPTRateLimitException extends GPTApiException {
+
+    private final Duration retryAfter;
+
+    public GPTRateLimitException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 예외 원인 체인에서 요청 한도 초과 예외를 찾아 재시도 대기 시간을 반환한다.
+     */
+    public static Optional<Duration> retryAfterOf(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof GPTRateLimitException rateLimitException) {
+                return Optional.of(rateLimitException.getRetryAfter());
+            }
+        }
+        return Optional.empty();
+    }
+}
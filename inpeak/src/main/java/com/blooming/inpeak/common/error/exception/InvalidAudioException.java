@@ -0,0 +1,7 @@
+package com.blooming.inpeak.common.error.exception;
+
+public class InvalidAudioException extends RuntimeException {
+    public InvalidAudioException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.blooming.inpeak.common.error.exception;
+
+/**
+ * 한 키(회원)가 디스패처의 키별 처리 몫을 모두 쓰고 있어 레코드를 받지 않은 경우의 예외
+ * 처리 실패가 아니므로 재시도 횟수를 늘리지 않고 첫 재시도 토픽에서 잠시 기다렸다가 돌아온다.
+ */
+public class KeyShareExceededException extends RuntimeException {
+
+    public KeyShareExceededException(String message) {
+        super(message);
+    }
+}
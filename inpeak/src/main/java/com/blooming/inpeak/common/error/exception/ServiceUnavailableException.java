@@ -0,0 +1,19 @@
+package com.blooming.inpeak.common.error.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * 서버가 일시적으로 요청을 받을 수 없는 경우의 예외
+ * 클라이언트는 retryAfter 이후에 다시 요청해야 한다.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,18 @@
+package com.blooming.inpeak.common.kafka;
+
+/**
+ * Kafka 레코드 처리 방식
+ */
+public enum ConsumerMode {
+    // 컨슈머 스레드에서 레코드를 직접 처리 (동시 처리 수 = 컨테이너 concurrency)
+    PLATFORM,
+    // 레코드마다 가상 스레드로 넘겨 처리 (동시 처리 수 = max-in-flight)
+    VIRTUAL,
+    // 키가 다른 레코드는 가상 스레드에서 병렬로, 키가 같은 레코드는 도착 순서대로 처리
+    KEY_ORDERED;
+
+    // 레코드가 도착 순서와 다르게 끝날 수 있어, 오프셋을 컨테이너가 순서대로 모아 커밋해야 하는지
+    public boolean isAsync() {
+        return this != PLATFORM;
+    }
+}
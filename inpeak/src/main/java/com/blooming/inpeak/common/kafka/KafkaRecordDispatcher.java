@@ -0,0 +1,288 @@
+package com.blooming.inpeak.common.kafka;
+
+import com.blooming.inpeak.common.error.exception.KeyShareExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * 리스너가 받은 레코드를 처리 방식에 맞게 실행한다.
+ * <p>
+ * PLATFORM: 컨슈머 스레드에서 바로 실행하고, 실패는 컨테이너의 에러 핸들러가 재시도 토픽으로 보낸다.
+ * <p>
+ * VIRTUAL: 레코드마다 가상 스레드에서 실행하고 즉시 다음 레코드를 받는다.
+ * 동시 처리 수가 max-in-flight에 도달하면 컨슈머 스레드가 빈자리가 날 때까지 대기한다.
+ * 한 키가 max-in-flight-per-key 만큼 처리 중이면 그 키의 레코드는 한도 자리를 잡지 않고
+ * 재시도 횟수를 늘리지 않은 채 첫 재시도 토픽으로 미룬다.
+ * 그래서 한 회원의 폭주가 한도를 모두 차지해 다른 회원의 레코드를 받지 못하는 일이 없다.
+ * 실패한 레코드는 에러 핸들러와 같은 recoverer 로 재시도 토픽에 넘긴 뒤 ack 한다.
+ * 컨테이너의 asyncAcks 설정에 의해 오프셋은 앞선 레코드가 모두 ack 된 뒤에만 순서대로 커밋된다.
+ * <p>
+ * KEY_ORDERED: VIRTUAL 과 같지만 키가 같은 레코드는 앞선 레코드가 끝난 뒤에 실행한다.
+ * 한 파티션 안에서도 키가 다르면 병렬로 처리되므로, 처리량이 파티션 수에 묶이지 않는다.
+ * 키별 몫을 넘겨 미뤄진 레코드는 재시도 토픽을 거쳐 돌아오므로, 그 레코드에 한해서는 순서가 바뀔 수 있다.
+ */
+@Slf4j
+public class KafkaRecordDispatcher implements AutoCloseable {
+
+    // 재시도 토픽 발행마저 실패한 경우 다시 시도하기까지의 간격
+    private static final long RECOVER_RETRY_INTERVAL_MILLIS = 1_000;
+
+    private final String name;
+    private final ConsumerMode mode;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final int maxInFlightPerKey;
+    private final ConsumerRecordRecoverer recoverer;
+    private final ExecutorService executor;
+    private final Counter deferredCounter;
+
+    // 키별 처리 중(대기열 포함) 레코드 수
+    private final Map<Object, Integer> keyInFlight = new HashMap<>();
+
+    // 키별 대기열: 키가 있으면 해당 키의 레코드가 실행 중이며, 뒤이은 레코드는 대기열에서 차례를 기다린다.
+    private final Map<Object, ArrayDeque<Runnable>> keyQueues = new HashMap<>();
+    private final ReentrantLock keyLock = new ReentrantLock();
+
+    public KafkaRecordDispatcher(
+        String name,
+        ConsumerMode mode,
+        int maxInFlight,
+        int maxInFlightPerKey,
+        ConsumerRecordRecoverer recoverer,
+        MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.mode = mode;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxInFlightPerKey = maxInFlightPerKey;
+        this.recoverer = recoverer;
+        this.executor = mode.isAsync()
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory())
+            : null;
+
+        Gauge.builder("kafka.consumer.in.flight", this, KafkaRecordDispatcher::getInFlightCount)
+            .tag("stage", name)
+            .tag("mode", mode.name().toLowerCase())
+            .register(meterRegistry);
+        this.deferredCounter = Counter.builder("kafka.consumer.deferred")
+            .description("키별 처리 몫을 넘겨 재시도 토픽으로 미룬 레코드 수")
+            .tag("stage", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 레코드 처리 로직을 실행한다.
+     *
+     * @param record  처리할 레코드 (실패 시 재시도 토픽으로 보낼 원본)
+     * @param ack     처리 완료 후 호출할 Acknowledgment
+     * @param handler 레코드 처리 로직
+     */
+    public void dispatch(ConsumerRecord<?, ?> record, Acknowledgment ack, Runnable handler) {
+        if (mode == ConsumerMode.PLATFORM) {
+            handler.run();
+            ack.acknowledge();
+            return;
+        }
+
+        // 몫을 넘긴 키의 레코드가 한도 자리를 기다리며 컨슈머를 막지 않도록, 한도보다 먼저 확인한다.
+        Object key = record.key();
+        if (key != null && !tryAdmitKey(key)) {
+            defer(record, ack);
+            return;
+        }
+
+        // 대기열에서 기다리는 레코드도 한도에 포함해 메모리에 쌓이는 레코드 수를 제한한다.
+        try {
+            acquire();
+        } catch (IllegalStateException e) {
+            releaseKey(key);
+            throw e;
+        }
+        Runnable task = () -> runAndAcknowledge(record, ack, handler);
+        try {
+            if (mode == ConsumerMode.KEY_ORDERED && key != null) {
+                submitOrdered(key, task);
+            } else {
+                executor.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            releaseKey(key);
+            throw e;
+        }
+    }
+
+    public int getInFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * 진행 중인 레코드 처리가 끝날 때까지 기다린 뒤 종료한다.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    private void acquire() {
+        if (inFlight.tryAcquire()) {
+            return;
+        }
+
+        log.debug("동시 처리 한도 도달, 대기: stage={}, maxInFlight={}", name, maxInFlight);
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("레코드 처리 대기 중 인터럽트 발생: stage=" + name, e);
+        }
+    }
+
+    private boolean tryAdmitKey(Object key) {
+        keyLock.lock();
+        try {
+            int count = keyInFlight.getOrDefault(key, 0);
+            if (count >= maxInFlightPerKey) {
+                return false;
+            }
+            keyInFlight.put(key, count + 1);
+            return true;
+        } finally {
+            keyLock.unlock();
+        }
+    }
+
+    private void releaseKey(Object key) {
+        if (key == null) {
+            return;
+        }
+        keyLock.lock();
+        try {
+            keyInFlight.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+        } finally {
+            keyLock.unlock();
+        }
+    }
+
+    // 컨슈머 스레드에서 바로 재시도 토픽으로 넘기고 ack 한다.
+    private void defer(ConsumerRecord<?, ?> record, Acknowledgment ack) {
+        log.debug("키별 처리 몫 초과, 재시도 토픽으로 미룸: stage={}, key={}, maxInFlightPerKey={}",
+            name, record.key(), maxInFlightPerKey);
+        try {
+            recover(record, new KeyShareExceededException(
+                "키별 처리 몫 초과: stage=" + name + ", key=" + record.key()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("레코드를 미루는 중 인터럽트 발생: stage=" + name, e);
+        }
+        deferredCounter.increment();
+        ack.acknowledge();
+    }
+
+    private void submitOrdered(Object key, Runnable task) {
+        keyLock.lock();
+        try {
+            ArrayDeque<Runnable> queue = keyQueues.get(key);
+            if (queue != null) {
+                queue.add(task);
+                return;
+            }
+            keyQueues.put(key, new ArrayDeque<>());
+        } finally {
+            keyLock.unlock();
+        }
+
+        try {
+            executor.execute(() -> drain(key, task));
+        } catch (RejectedExecutionException e) {
+            removeKey(key);
+            throw e;
+        }
+    }
+
+    // 키의 대기열이 빌 때까지 한 가상 스레드에서 순서대로 실행한다.
+    private void drain(Object key, Runnable first) {
+        Runnable next = first;
+        while (next != null) {
+            try {
+                next.run();
+            } catch (RuntimeException | Error e) {
+                log.error("레코드 처리 중 예상치 못한 오류: stage={}, key={}", name, key, e);
+            }
+            next = pollNext(key);
+        }
+    }
+
+    private Runnable pollNext(Object key) {
+        keyLock.lock();
+        try {
+            ArrayDeque<Runnable> queue = keyQueues.get(key);
+            Runnable next = queue.poll();
+            if (next == null) {
+                keyQueues.remove(key);
+            }
+            return next;
+        } finally {
+            keyLock.unlock();
+        }
+    }
+
+    private void removeKey(Object key) {
+        keyLock.lock();
+        try {
+            keyQueues.remove(key);
+        } finally {
+            keyLock.unlock();
+        }
+    }
+
+    private void runAndAcknowledge(ConsumerRecord<?, ?> record, Acknowledgment ack,
+        Runnable handler) {
+        try {
+            try {
+                handler.run();
+            } catch (Exception e) {
+                recover(record, e);
+            }
+            ack.acknowledge();
+
+        } catch (InterruptedException e) {
+            // 종료 중에는 ack 하지 않아 재시작 후 다시 전달받는다.
+            Thread.currentThread().interrupt();
+            log.warn("레코드 처리 중단: stage={}", name);
+        } finally {
+            inFlight.release();
+            releaseKey(record.key());
+        }
+    }
+
+    // 재시도 토픽으로 넘기지 못한 레코드를 ack 하면 유실되므로 성공할 때까지 다시 시도한다.
+    private void recover(ConsumerRecord<?, ?> record, Exception e) throws InterruptedException {
+        while (true) {
+            try {
+                recoverer.accept(record, e);
+                return;
+            } catch (Exception recoverFailure) {
+                log.error("재시도 토픽 발행 실패, {}ms 후 다시 시도: stage={}, error={}",
+                    RECOVER_RETRY_INTERVAL_MILLIS, name, recoverFailure.getMessage());
+                Thread.sleep(RECOVER_RETRY_INTERVAL_MILLIS);
+            }
+        }
+    }
+}
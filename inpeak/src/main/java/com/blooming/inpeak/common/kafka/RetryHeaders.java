@@ -0,0 +1,38 @@
+package com.blooming.inpeak.common.kafka;
+
+import java.nio.ByteBuffer;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 재시도 토픽으로 보낸 레코드에 붙이는 헤더
+ */
+public final class RetryHeaders {
+
+    // 실패한 레코드가 원래 처리되던 토픽 (재시도 시점에 이 토픽으로 다시 발행한다)
+    public static final String ORIGIN_TOPIC = "x-retry-origin-topic";
+    // 지금까지 실패한 횟수
+    public static final String ATTEMPT = "x-retry-attempt";
+    // 다시 발행해도 되는 시각 (epoch millis)
+    public static final String DUE_AT = "x-retry-due-at";
+
+    private RetryHeaders() {
+    }
+
+    public static long getLong(Headers headers, String key, long defaultValue) {
+        Header header = headers.lastHeader(key);
+        if (header == null || header.value() == null || header.value().length != Long.BYTES) {
+            return defaultValue;
+        }
+        return ByteBuffer.wrap(header.value()).getLong();
+    }
+
+    public static String getString(Headers headers, String key) {
+        Header header = headers.lastHeader(key);
+        return header == null || header.value() == null ? null : new String(header.value());
+    }
+
+    public static byte[] toBytes(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+}
@@ -0,0 +1,47 @@
+package com.blooming.inpeak.common.kafka;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * 재시도 토픽의 레코드를 지연 시간이 지난 뒤 원래 토픽으로 다시 발행한다.
+ * 아직 때가 되지 않은 레코드는 nack 으로 남은 시간만큼 컨슈머를 멈춘다.
+ * 같은 토픽의 레코드는 모두 같은 지연 시간을 가지므로, 맨 앞 레코드가 가장 먼저 발행 시점에 도달한다.
+ * nack 은 컨슈머가 맡은 모든 파티션을 멈추므로, 지연 단계 토픽마다 별도의 리스너 컨테이너로 소비해야 한다.
+ * 레코드 본문은 역직렬화하지 않고 바이트 그대로 옮긴다.
+ */
+@Slf4j
+public class RetryTopicRelay {
+
+    private final KafkaTemplate<String, byte[]> bytesKafkaTemplate;
+
+    public RetryTopicRelay(KafkaTemplate<String, byte[]> bytesKafkaTemplate) {
+        this.bytesKafkaTemplate = bytesKafkaTemplate;
+    }
+
+    public void relay(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        long wait = RetryHeaders.getLong(record.headers(), RetryHeaders.DUE_AT, 0)
+            - System.currentTimeMillis();
+        if (wait > 0) {
+            ack.nack(Duration.ofMillis(wait));
+            return;
+        }
+
+        String originTopic = RetryHeaders.getString(record.headers(), RetryHeaders.ORIGIN_TOPIC);
+        if (originTopic == null) {
+            log.error("원래 토픽 정보가 없는 재시도 레코드, 폐기: topic={}, offset={}", record.topic(),
+                record.offset());
+            ack.acknowledge();
+            return;
+        }
+
+        // 시도 횟수 헤더를 유지해야 다음 실패 시 다음 단계로 넘어간다.
+        bytesKafkaTemplate.send(new ProducerRecord<>(originTopic, null, record.key(),
+            record.value(), record.headers())).join();
+        ack.acknowledge();
+    }
+}
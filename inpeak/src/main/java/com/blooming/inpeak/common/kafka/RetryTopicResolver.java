@@ -0,0 +1,104 @@
+package com.blooming.inpeak.common.kafka;
+
+import com.blooming.inpeak.common.error.exception.GPTRateLimitException;
+import com.blooming.inpeak.common.error.exception.KeyShareExceededException;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+/**
+ * 실패한 레코드를 보낼 재시도 단계 토픽을 결정한다.
+ * n번째 실패는 n번째 지연 토픽으로, 재시도를 모두 소진했거나 재시도할 수 없는 예외는 DLT 로 보낸다.
+ * 재시도 토픽에서는 지연 시간이 지난 뒤 원래 토픽으로 다시 발행되므로, 실패한 작업이 파티션을 막지 않는다.
+ * 키별 처리 몫을 넘겨 미뤄진 레코드는 실패가 아니므로 재시도 횟수를 늘리지 않고 첫 재시도 토픽으로 보낸다.
+ */
+@Slf4j
+public class RetryTopicResolver {
+
+    private final List<String> retryTopics;
+    private final List<Duration> delays;
+    private final String deadLetterTopic;
+    private final List<Class<? extends Exception>> notRetryableExceptions;
+
+    /**
+     * @param retryTopics            지연 단계별 토픽
+     * @param delays                 지연 단계별 대기 시간 (retryTopics 와 같은 길이)
+     * @param deadLetterTopic        DLT
+     * @param notRetryableExceptions 바로 DLT 로 보낼 예외
+     */
+    public RetryTopicResolver(List<String> retryTopics, List<Duration> delays,
+        String deadLetterTopic, List<Class<? extends Exception>> notRetryableExceptions) {
+        if (retryTopics.size() != delays.size()) {
+            throw new IllegalArgumentException(
+                "재시도 토픽 수와 지연 시간 수가 다릅니다: " + retryTopics.size() + " != " + delays.size());
+        }
+        this.retryTopics = retryTopics;
+        this.delays = delays;
+        this.deadLetterTopic = deadLetterTopic;
+        this.notRetryableExceptions = notRetryableExceptions;
+    }
+
+    public TopicPartition resolve(ConsumerRecord<?, ?> record, Exception e) {
+        int attempt = attemptOf(record);
+        if (e instanceof KeyShareExceededException) {
+            return new TopicPartition(retryTopics.get(0), -1);
+        }
+        String destination = !isRetryable(e) || attempt >= retryTopics.size()
+            ? deadLetterTopic : retryTopics.get(attempt);
+
+        log.warn("레코드 처리 실패: topic={}, key={}, attempt={}, destination={}, error={}",
+            record.topic(), record.key(), attempt + 1, destination, rootMessage(e));
+
+        // 음수 파티션은 키 기준으로 파티션을 정한다.
+        return new TopicPartition(destination, -1);
+    }
+
+    public Headers headers(ConsumerRecord<?, ?> record, Exception e) {
+        int attempt = attemptOf(record);
+        if (e instanceof KeyShareExceededException) {
+            return retryHeaders(record, attempt, delays.get(0).toMillis());
+        }
+        long delay = attempt < delays.size() ? delays.get(attempt).toMillis() : 0;
+
+        // 요청 한도 초과는 retry-after 보다 먼저 다시 시도하지 않는다.
+        long retryAfter = GPTRateLimitException.retryAfterOf(e).map(Duration::toMillis).orElse(0L);
+
+        return retryHeaders(record, attempt + 1, Math.max(delay, retryAfter));
+    }
+
+    private Headers retryHeaders(ConsumerRecord<?, ?> record, int attempt, long delay) {
+        RecordHeaders headers = new RecordHeaders();
+        // 실패는 항상 원래 처리 토픽에서 일어나므로 현재 토픽이 복귀할 토픽이다.
+        headers.add(RetryHeaders.ORIGIN_TOPIC, record.topic().getBytes());
+        headers.add(RetryHeaders.ATTEMPT, RetryHeaders.toBytes(attempt));
+        headers.add(RetryHeaders.DUE_AT, RetryHeaders.toBytes(System.currentTimeMillis() + delay));
+        return headers;
+    }
+
+    private int attemptOf(ConsumerRecord<?, ?> record) {
+        return (int) RetryHeaders.getLong(record.headers(), RetryHeaders.ATTEMPT, 0);
+    }
+
+    private boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            for (Class<? extends Exception> type : notRetryableExceptions) {
+                if (type.isInstance(cause)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
@@ -0,0 +1,76 @@
+package com.blooming.inpeak.common.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 피닝 감지기
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되어 가상 스레드가 캐리어 스레드를 붙잡는 경우
+ * (예: Redisson 락 대기, synchronized 내부의 I/O) JFR 이벤트로 감지하여 로그와 메트릭으로 남긴다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@ConditionalOnExpression("!'${answer.consumer.mode}'.equalsIgnoreCase('platform')")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+        @Value("${answer.consumer.pinning-threshold}") Duration threshold,
+        MeterRegistry meterRegistry
+    ) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("jvm.virtual.thread.pinned")
+            .description("임계값 이상 캐리어 스레드를 붙잡은 가상 스레드 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCounter.increment();
+
+        String stackTrace = event.getStackTrace() == null ? "(스택 없음)"
+            : event.getStackTrace().getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n\tat "));
+
+        log.warn("가상 스레드 피닝 감지: duration={}ms, thread={}\n\tat {}",
+            event.getDuration().toMillis(),
+            event.getThread() == null ? "unknown" : event.getThread().getJavaName(),
+            stackTrace);
+    }
+}
@@ -1,5 +1,6 @@
 package com.blooming.inpeak.member.service;
 
+import com.blooming.inpeak.auth.service.MemberPrincipalCache;
 import com.blooming.inpeak.member.domain.InterestType;
 import com.blooming.inpeak.member.domain.Member;
 import com.blooming.inpeak.member.domain.MemberInterest;
@@ -21,6 +22,7 @@ public class MemberInterestService {
 
     private final MemberInterestRepository memberInterestRepository;
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     /**
      * 회원의 관심사를 가져오는 메서드
@@ -55,6 +57,7 @@ public class MemberInterestService {
         updateMemberInterests(memberId, request.interestTypes());
         member.completeRegistration();
         memberRepository.save(member);
+        memberPrincipalCache.invalidate(memberId);
     }
 
     @Transactional
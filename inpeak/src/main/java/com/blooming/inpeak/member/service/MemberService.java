@@ -3,6 +3,7 @@ package com.blooming.inpeak.member.service;
 import com.blooming.inpeak.answer.repository.AnswerRepository;
 import com.blooming.inpeak.answer.service.AnswerVideoCleanupService;
 import com.blooming.inpeak.auth.repository.RefreshTokenRepository;
+import com.blooming.inpeak.auth.service.MemberPrincipalCache;
 import com.blooming.inpeak.common.error.exception.NotFoundException;
 import com.blooming.inpeak.interview.repository.InterviewRepository;
 import com.blooming.inpeak.member.domain.Member;
@@ -23,6 +24,7 @@ public class MemberService {
     private final MemberInterestRepository memberInterestRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final AnswerVideoCleanupService answerVideoCleanupService;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Transactional
     public String updateNickName(Long memberId, String nickName) {
@@ -34,6 +36,7 @@ public class MemberService {
         Member member = memberRepository.findById(memberId)
             .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다: " + memberId));
         member.updateNickname(nickName);
+        memberPrincipalCache.invalidate(memberId);
 
         return nickName;
     }
@@ -48,6 +51,7 @@ public class MemberService {
         memberInterestRepository.deleteByMemberId(id);
         refreshTokenRepository.deleteById(id);
         memberRepository.delete(member);
+        memberPrincipalCache.invalidate(id);
         answerVideoCleanupService.deleteAllS3Objects(id);
     }
 
@@ -0,0 +1,101 @@
+package com.blooming.inpeak.answer.audio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WavChunkerTest {
+
+    private static final int SAMPLE_RATE = 8_000;
+
+    @TempDir
+    Path tempDir;
+
+    private WavChunker wavChunker;
+
+    @BeforeEach
+    void setUp() {
+        AudioFileStorage storage = new AudioFileStorage(tempDir.toString());
+        wavChunker = new WavChunker(storage, Duration.ofSeconds(1), Duration.ofMillis(300));
+    }
+
+    @Test
+    void 긴_WAV는_무음_구간에서_나뉨() throws IOException {
+        // given: 2.5초 음성, 1.0~1.1초 / 1.5~1.6초 무음
+        AudioFile source = writeWav(2.5, new double[][]{{1.0, 1.1}, {1.5, 1.6}});
+
+        // when
+        List<AudioFile> chunks = wavChunker.split(source);
+
+        // then
+        assertThat(chunks).hasSize(3);
+
+        long firstFrames = frames(chunks.get(0));
+        assertThat(firstFrames).isBetween(8_000L, 8_800L);
+
+        long secondEnd = firstFrames + frames(chunks.get(1));
+        assertThat(secondEnd).isBetween(12_000L, 12_800L);
+
+        long totalFrames = chunks.stream().mapToLong(this::frames).sum();
+        assertThat(totalFrames).isEqualTo((long) (2.5 * SAMPLE_RATE));
+
+        chunks.forEach(AudioFile::close);
+        assertThat(Files.exists(chunks.get(0).path())).isFalse();
+    }
+
+    @Test
+    void 조각_길이보다_짧은_WAV는_나누지_않음() throws IOException {
+        // given
+        AudioFile source = writeWav(0.8, new double[0][]);
+
+        // when & then
+        assertThat(wavChunker.split(source)).isEmpty();
+    }
+
+    @Test
+    void WAV가_아니면_나누지_않음() throws IOException {
+        // given
+        Path path = tempDir.resolve("answer.webm");
+        Files.write(path, new byte[1024]);
+
+        // when & then
+        assertThat(wavChunker.split(new AudioFile(path, 1024))).isEmpty();
+    }
+
+    private long frames(AudioFile chunk) {
+        try {
+            return WavHeader.read(chunk.path()).orElseThrow().frameCount();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private AudioFile writeWav(double seconds, double[][] silences) throws IOException {
+        int frames = (int) (seconds * SAMPLE_RATE);
+        ByteBuffer data = ByteBuffer.allocate(frames * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < frames; i++) {
+            double time = (double) i / SAMPLE_RATE;
+            boolean silent = false;
+            for (double[] silence : silences) {
+                silent |= time >= silence[0] && time < silence[1];
+            }
+            data.putShort(silent ? 0 : (short) (8_000 * Math.sin(2 * Math.PI * 440 * time)));
+        }
+
+        WavHeader header = new WavHeader(1, 1, SAMPLE_RATE, 16, 2, 44, frames * 2L);
+        Path path = tempDir.resolve("source.wav");
+        ByteBuffer file = ByteBuffer.allocate(44 + frames * 2);
+        file.put(header.canonicalHeader(frames * 2L)).put(data.array());
+        Files.write(path, file.array());
+        return new AudioFile(path, file.capacity());
+    }
+}
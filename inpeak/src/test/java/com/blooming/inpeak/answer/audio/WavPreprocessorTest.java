@@ -0,0 +1,198 @@
+package com.blooming.inpeak.answer.audio;
+
+import com.blooming.inpeak.common.error.exception.InvalidAudioException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WavPreprocessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private WavPreprocessor preprocessor;
+
+    @BeforeEach
+    void setUp() {
+        preprocessor = new WavPreprocessor(new AudioFileStorage(tempDir.toString()), 16_000,
+            Duration.ofSeconds(10), Duration.ofMillis(30), 0.003, 3.0, Duration.ofMillis(100));
+    }
+
+    @Test
+    void 스테레오_48kHz를_앞뒤_무음을_잘라_16kHz_모노로_변환() throws IOException {
+        // given: 1초 무음 + 2초 음성 + 1초 무음
+        AudioFile source = writeWav(48_000, 2, 4.0, 1.0, 3.0);
+
+        // when
+        try (PreprocessedAudio result = preprocessor.preprocess(source)) {
+            // then
+            WavHeader output = WavHeader.read(result.audio().path()).orElseThrow();
+            assertThat(output.sampleRate()).isEqualTo(16_000);
+            assertThat(output.channels()).isEqualTo(1);
+            assertThat(output.bitsPerSample()).isEqualTo(16);
+
+            assertThat(result.converted()).isTrue();
+            assertThat(result.durationSeconds()).isCloseTo(4.0, within(0.01));
+            assertThat(result.speechSeconds()).isCloseTo(2.2, within(0.1));
+            assertThat(output.durationSeconds()).isCloseTo(2.2, within(0.1));
+
+            // 원본 대비 업로드 크기가 크게 줄어든다.
+            assertThat(result.audio().size()).isLessThan(source.size() / 10);
+        }
+    }
+
+    @Test
+    void 음성이_없는_오디오는_거절하지_않고_무음으로_표시() throws IOException {
+        // given
+        AudioFile source = writeWav(16_000, 1, 2.0, 0, 0);
+
+        // when
+        try (PreprocessedAudio result = preprocessor.preprocess(source)) {
+            // then
+            assertThat(result.isSilent()).isTrue();
+            assertThat(result.converted()).isFalse();
+            assertThat(result.durationSeconds()).isCloseTo(2.0, within(0.01));
+        }
+    }
+
+    @Test
+    void 최대_길이를_넘는_오디오는_거절() throws IOException {
+        // given
+        AudioFile source = writeWav(8_000, 1, 11.0, 0, 11.0);
+
+        // when & then
+        assertThrows(InvalidAudioException.class, () -> preprocessor.preprocess(source));
+    }
+
+    @Test
+    void 손상된_WAV는_거절() throws IOException {
+        // given
+        Path path = tempDir.resolve("broken.wav");
+        Files.write(path, "RIFF\0\0\0\0WAVEjunk".getBytes());
+
+        // when & then
+        assertThrows(InvalidAudioException.class,
+            () -> preprocessor.preprocess(new AudioFile(path, Files.size(path))));
+    }
+
+    @Test
+    void WAV가_아니면_그대로_통과() throws IOException {
+        // given
+        Path path = tempDir.resolve("answer.webm");
+        Files.write(path, new byte[]{0x1A, 0x45, (byte) 0xDF, (byte) 0xA3, 0, 0, 0, 0, 0, 0, 0, 0});
+        AudioFile source = new AudioFile(path, 12);
+
+        // when
+        PreprocessedAudio result = preprocessor.preprocess(source);
+
+        // then
+        assertThat(result.converted()).isFalse();
+        assertThat(result.audio()).isSameAs(source);
+        result.close();
+        assertThat(Files.exists(path)).isTrue();
+    }
+
+    @Test
+    void EXTENSIBLE_float_WAV를_float_샘플로_읽어_변환() throws IOException {
+        // given: 0.5초 무음 + 1초 음성(진폭 0.3) + 0.5초 무음
+        AudioFile source = writeExtensibleWav(3, 32, 2.0, 0.5, 1.5);
+
+        // when
+        try (PreprocessedAudio result = preprocessor.preprocess(source)) {
+            // then
+            assertThat(result.converted()).isTrue();
+            assertThat(result.speechSeconds()).isCloseTo(1.2, within(0.1));
+            assertThat(peak(result.audio().path())).isCloseTo(0.3, within(0.02));
+        }
+    }
+
+    @Test
+    void 알_수_없는_EXTENSIBLE_SubFormat은_그대로_통과() throws IOException {
+        // given: SubFormat 이 ADPCM(2)
+        AudioFile source = writeExtensibleWav(2, 32, 1.0, 0, 1.0);
+
+        // when
+        PreprocessedAudio result = preprocessor.preprocess(source);
+
+        // then
+        assertThat(result.converted()).isFalse();
+        assertThat(result.audio()).isSameAs(source);
+    }
+
+    // [speechStart, speechEnd) 구간에만 440Hz 음을 넣은 16bit PCM WAV
+    private AudioFile writeWav(int sampleRate, int channels, double seconds, double speechStart,
+        double speechEnd) throws IOException {
+        int frames = (int) (seconds * sampleRate);
+        int blockAlign = channels * 2;
+        WavHeader header = new WavHeader(1, channels, sampleRate, 16, blockAlign, 44,
+            (long) frames * blockAlign);
+
+        ByteBuffer file = ByteBuffer.allocate(44 + frames * blockAlign).order(ByteOrder.LITTLE_ENDIAN);
+        file.put(header.canonicalHeader((long) frames * blockAlign));
+        for (int i = 0; i < frames; i++) {
+            double time = (double) i / sampleRate;
+            short sample = time >= speechStart && time < speechEnd
+                ? (short) (10_000 * Math.sin(2 * Math.PI * 440 * time)) : 0;
+            for (int c = 0; c < channels; c++) {
+                file.putShort(sample);
+            }
+        }
+
+        Path path = tempDir.resolve("source-" + sampleRate + "-" + channels + ".wav");
+        Files.write(path, file.array());
+        return new AudioFile(path, file.capacity());
+    }
+
+    // fmt 청크가 WAVE_FORMAT_EXTENSIBLE(40byte)이고 SubFormat 이 subFormat 인 16kHz 모노 WAV
+    // 샘플은 진폭 0.3 의 440Hz 음을 32bit float 로 기록한다.
+    private AudioFile writeExtensibleWav(int subFormat, int bitsPerSample, double seconds,
+        double speechStart, double speechEnd) throws IOException {
+        int sampleRate = 16_000;
+        int frames = (int) (seconds * sampleRate);
+        int blockAlign = bitsPerSample / 8;
+        int dataLength = frames * blockAlign;
+
+        ByteBuffer file = ByteBuffer.allocate(68 + dataLength).order(ByteOrder.LITTLE_ENDIAN);
+        file.putInt(0x46464952).putInt(60 + dataLength).putInt(0x45564157);    // "RIFF" ... "WAVE"
+        file.putInt(0x20746d66).putInt(40);                                    // "fmt "
+        file.putShort((short) 0xFFFE).putShort((short) 1).putInt(sampleRate)
+            .putInt(sampleRate * blockAlign).putShort((short) blockAlign)
+            .putShort((short) bitsPerSample);
+        file.putShort((short) 22).putShort((short) bitsPerSample).putInt(0x4);  // cbSize, 유효 비트, 채널 마스크
+        file.putShort((short) subFormat).put(new byte[]{
+            0x00, 0x00, 0x00, 0x00, 0x10, 0x00, (byte) 0x80, 0x00, 0x00, (byte) 0xAA, 0x00, 0x38,
+            (byte) 0x9B, 0x71});
+        file.putInt(0x61746164).putInt(dataLength);                            // "data"
+        for (int i = 0; i < frames; i++) {
+            double time = (double) i / sampleRate;
+            file.putFloat(time >= speechStart && time < speechEnd
+                ? (float) (0.3 * Math.sin(2 * Math.PI * 440 * time)) : 0f);
+        }
+
+        Path path = tempDir.resolve("extensible-" + subFormat + ".wav");
+        Files.write(path, file.array());
+        return new AudioFile(path, file.capacity());
+    }
+
+    // 16bit PCM WAV 의 최대 진폭 (0~1)
+    private double peak(Path path) throws IOException {
+        WavHeader header = WavHeader.read(path).orElseThrow();
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        data.position((int) header.dataOffset());
+        int peak = 0;
+        while (data.remaining() >= 2) {
+            peak = Math.max(peak, Math.abs(data.getShort()));
+        }
+        return peak / 32768.0;
+    }
+}
@@ -37,6 +37,28 @@ class AnswerTaskTest {
         assertThat(task.getAnswerId()).isEqualTo(100L);
     }
 
+    @Test
+    void completeTranscription_체크포인트_기록() {
+        AnswerTask task = createWaitingTask();
+        task.completeTranscription("음성 인식 결과");
+
+        assertThat(task.isTranscribed()).isTrue();
+        assertThat(task.getTranscript()).isEqualTo("음성 인식 결과");
+        assertThat(task.getTranscribedAt()).isNotNull();
+        assertThat(task.getStage()).isEqualTo(AnswerTaskStage.GRADING);
+    }
+
+    @Test
+    void completeGrading_체크포인트_기록() {
+        AnswerTask task = createWaitingTask();
+        task.completeTranscription("음성 인식 결과");
+        task.completeGrading("답변@CORRECT@피드백");
+
+        assertThat(task.isGraded()).isTrue();
+        assertThat(task.getGradedAt()).isNotNull();
+        assertThat(task.getStage()).isEqualTo(AnswerTaskStage.PERSIST);
+    }
+
     @Test
     void markFailed_정상작동() {
         AnswerTask task = createWaitingTask();
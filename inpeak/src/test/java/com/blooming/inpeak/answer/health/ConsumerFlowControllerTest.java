@@ -0,0 +1,89 @@
+package com.blooming.inpeak.answer.health;
+
+import com.blooming.inpeak.answer.health.ConsumerFlowController.FlowState;
+import com.blooming.inpeak.answer.health.ConsumerFlowController.Stage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ConsumerFlowControllerTest {
+
+    private static final Stage GRADING = new Stage("grading", "listener",
+        List.of(PipelineDependency.CHAT));
+
+    private DependencyHealthMonitor dependencyHealthMonitor;
+    private ConsumerFlowController controller;
+    private List<MessageListenerContainer> children;
+    private FlowState state;
+
+    @BeforeEach
+    void setUp() {
+        dependencyHealthMonitor = mock(DependencyHealthMonitor.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        controller = new ConsumerFlowController(mock(KafkaListenerEndpointRegistry.class),
+            dependencyHealthMonitor, meterRegistry, Duration.ofSeconds(30),
+            Duration.ofSeconds(10));
+
+        children = List.of(mock(MessageListenerContainer.class),
+            mock(MessageListenerContainer.class));
+        state = new FlowState(Counter.builder("test.paused").register(meterRegistry));
+    }
+
+    @Test
+    void 의존_서비스가_비정상이면_모든_컨슈머를_멈추고_기록을_비움() {
+        // given
+        when(dependencyHealthMonitor.isHealthy(PipelineDependency.CHAT)).thenReturn(false);
+
+        // when
+        controller.control(GRADING, children, state, 0);
+
+        // then
+        children.forEach(child -> verify(child).pause());
+        verify(dependencyHealthMonitor).reset(PipelineDependency.CHAT);
+        assertThat(state.getRunning()).isZero();
+    }
+
+    @Test
+    void cooldown_이후_컨슈머를_하나씩_재개() {
+        // given
+        when(dependencyHealthMonitor.isHealthy(PipelineDependency.CHAT)).thenReturn(false, true);
+        controller.control(GRADING, children, state, 0);
+
+        // when: cooldown 중에는 재개하지 않는다.
+        controller.control(GRADING, children, state, 10_000);
+        verify(children.get(0), never()).resume();
+
+        controller.control(GRADING, children, state, 30_000);
+        controller.control(GRADING, children, state, 35_000);
+
+        // then: ramp-step 이 지나기 전에는 다음 컨슈머를 재개하지 않는다.
+        verify(children.get(0)).resume();
+        verify(children.get(1), never()).resume();
+        assertThat(state.getRunning()).isEqualTo(1);
+
+        controller.control(GRADING, children, state, 40_000);
+        verify(children.get(1)).resume();
+        assertThat(state.getRunning()).isEqualTo(2);
+    }
+
+    @Test
+    void 정상이면_컨슈머를_건드리지_않음() {
+        // given
+        when(dependencyHealthMonitor.isHealthy(PipelineDependency.CHAT)).thenReturn(true);
+
+        // when
+        controller.control(GRADING, children, state, 0);
+
+        // then
+        children.forEach(child -> verifyNoInteractions(child));
+        assertThat(state.getRunning()).isEqualTo(2);
+    }
+}
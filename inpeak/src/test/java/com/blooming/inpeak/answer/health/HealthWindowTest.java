@@ -0,0 +1,65 @@
+package com.blooming.inpeak.answer.health;
+
+import com.blooming.inpeak.answer.health.HealthWindow.Snapshot;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HealthWindowTest {
+
+    private AtomicLong now;
+    private HealthWindow window;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000);
+        window = new HealthWindow(Duration.ofSeconds(10), 10, now::get);
+    }
+
+    @Test
+    void 구간_안의_호출로_실패율과_평균_지연을_계산() {
+        // given
+        window.record(true, 100);
+        window.record(false, 300);
+        now.addAndGet(5_000);
+        window.record(false, 200);
+
+        // when
+        Snapshot snapshot = window.snapshot();
+
+        // then
+        assertThat(snapshot.total()).isEqualTo(3);
+        assertThat(snapshot.failureRate()).isEqualTo(2.0 / 3);
+        assertThat(snapshot.averageLatencyMillis()).isEqualTo(200);
+    }
+
+    @Test
+    void window_가_지난_호출은_세지_않음() {
+        // given
+        window.record(false, 100);
+        now.addAndGet(10_000);
+        window.record(true, 100);
+
+        // when
+        Snapshot snapshot = window.snapshot();
+
+        // then
+        assertThat(snapshot.successes()).isEqualTo(1);
+        assertThat(snapshot.failures()).isZero();
+    }
+
+    @Test
+    void reset_하면_기록이_사라짐() {
+        // given
+        window.record(false, 100);
+
+        // when
+        window.reset();
+
+        // then
+        assertThat(window.snapshot().total()).isZero();
+    }
+}
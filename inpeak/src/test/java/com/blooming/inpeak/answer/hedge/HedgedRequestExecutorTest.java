@@ -0,0 +1,125 @@
+package com.blooming.inpeak.answer.hedge;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgedRequestExecutorTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 첫_요청이_느리면_헤지_요청의_결과를_사용하고_첫_요청은_취소() {
+        // given
+        HedgedRequestExecutor hedged = hedgedExecutor(10);
+        warmUp(hedged);
+
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+
+        // when
+        String result = hedged.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    primaryCancelled.set(true);
+                    Thread.currentThread().interrupt();
+                }
+                return "느린 응답";
+            }
+            return "빠른 응답";
+        });
+
+        // then
+        assertThat(result).isEqualTo("빠른 응답");
+        assertThat(calls.get()).isEqualTo(2);
+        await(primaryCancelled);
+    }
+
+    @Test
+    void 예산이_없으면_헤지하지_않고_첫_요청을_기다림() {
+        // given
+        HedgedRequestExecutor hedged = hedgedExecutor(0);
+        warmUp(hedged);
+
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = hedged.execute(() -> {
+            calls.incrementAndGet();
+            sleep(100);
+            return "응답";
+        });
+
+        // then
+        assertThat(result).isEqualTo("응답");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 표본이_부족하면_헤지하지_않음() {
+        // given
+        HedgedRequestExecutor hedged = hedgedExecutor(10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        hedged.execute(() -> {
+            calls.incrementAndGet();
+            sleep(50);
+            return "응답";
+        });
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private HedgedRequestExecutor hedgedExecutor(double budgetBurst) {
+        return new HedgedRequestExecutor(executor, new SimpleMeterRegistry(), true, 0.9, 5, 20,
+            Duration.ofMillis(10), budgetBurst == 0 ? 0 : 1.0, budgetBurst);
+    }
+
+    // 지연 시간 표본을 채운다. (약 1ms)
+    private void warmUp(HedgedRequestExecutor hedged) {
+        for (int i = 0; i < 5; i++) {
+            hedged.execute(() -> {
+                sleep(1);
+                return "warm-up";
+            });
+        }
+    }
+
+    private void await(AtomicBoolean flag) {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (!flag.get() && System.currentTimeMillis() < deadline) {
+            sleep(10);
+        }
+        assertThat(flag.get()).isTrue();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
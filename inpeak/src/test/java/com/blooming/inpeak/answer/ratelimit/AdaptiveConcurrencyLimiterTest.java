@@ -0,0 +1,149 @@
+package com.blooming.inpeak.answer.ratelimit;
+
+import com.blooming.inpeak.common.error.exception.GPTRateLimitException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final RateLimitHeaders NO_HEADERS = new RateLimitHeaders(null, null, null, null,
+        null);
+
+    private AtomicLong now;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000);
+        limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, now::get);
+    }
+
+    @Test
+    void 한도를_다_쓰면_추가_요청은_대기후_예외() throws Exception {
+        // given
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire(0, Duration.ZERO);
+        }
+
+        // when & then
+        assertThrows(GPTRateLimitException.class, () -> limiter.acquire(0, Duration.ZERO));
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void 한도를_채워_쓰는_중_빠른_응답이면_한도_증가() throws Exception {
+        // given
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire(0, Duration.ZERO);
+        }
+
+        // when
+        limiter.onSuccess(NO_HEADERS);
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+    }
+
+    @Test
+    void 응답이_느려도_한도를_줄이지_않음() throws Exception {
+        // given: 긴 답변은 짧은 답변보다 느리게 응답한다.
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire(0, Duration.ZERO);
+        }
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            limiter.onSuccess(NO_HEADERS);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void 남은_예산이_바닥났다는_응답_헤더를_받으면_한도_감소() throws Exception {
+        // given
+        limiter.acquire(0, Duration.ZERO);
+
+        // when
+        limiter.onSuccess(new RateLimitHeaders(0L, 500L, Duration.ofSeconds(1),
+            Duration.ofSeconds(5), null));
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(4);
+    }
+
+    @Test
+    void 서버_오류가_나면_한도_감소() throws Exception {
+        // given
+        limiter.acquire(0, Duration.ZERO);
+
+        // when
+        limiter.onFailure(true);
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(4);
+    }
+
+    @Test
+    void 요청_한도_초과시_한도를_절반으로_줄이고_retry_after_동안_멈춤() throws Exception {
+        // given
+        limiter.acquire(0, Duration.ZERO);
+
+        // when
+        limiter.onRateLimited(new RateLimitHeaders(null, null, null, null, Duration.ofSeconds(2)));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        GPTRateLimitException e = assertThrows(GPTRateLimitException.class,
+            () -> limiter.acquire(0, Duration.ZERO));
+        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+
+        now.addAndGet(2_000);
+        limiter.acquire(0, Duration.ZERO);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void 토큰_예산이_부족하면_초기화_시점까지_대기() throws Exception {
+        // given
+        limiter.acquire(100, Duration.ZERO);
+        limiter.onSuccess(new RateLimitHeaders(10L, 500L, Duration.ofSeconds(1),
+            Duration.ofSeconds(5), null));
+
+        // when & then
+        assertThrows(GPTRateLimitException.class, () -> limiter.acquire(1_000, Duration.ZERO));
+        limiter.acquire(400, Duration.ZERO);
+
+        now.addAndGet(5_000);
+        limiter.acquire(1_000, Duration.ZERO);
+    }
+
+    @Test
+    void 응답_헤더의_한도_정보를_파싱() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-remaining-requests", "59");
+        headers.add("x-ratelimit-remaining-tokens", "149984");
+        headers.add("x-ratelimit-reset-requests", "1s");
+        headers.add("x-ratelimit-reset-tokens", "6m0.5s");
+        headers.add("retry-after", "2");
+
+        // when
+        RateLimitHeaders result = RateLimitHeaders.from(headers);
+
+        // then
+        assertThat(result.remainingRequests()).isEqualTo(59L);
+        assertThat(result.remainingTokens()).isEqualTo(149984L);
+        assertThat(result.resetRequests()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(result.resetTokens()).isEqualTo(Duration.ofMillis(360_500));
+        assertThat(result.retryAfter()).isEqualTo(Duration.ofSeconds(2));
+    }
+}
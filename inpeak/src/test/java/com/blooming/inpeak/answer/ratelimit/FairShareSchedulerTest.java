@@ -0,0 +1,110 @@
+package com.blooming.inpeak.answer.ratelimit;
+
+import com.blooming.inpeak.common.error.exception.GPTRateLimitException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FairShareSchedulerTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    @Test
+    void 전체_자리를_다_쓰면_추가_요청은_대기후_예외() throws Exception {
+        // given
+        FairShareScheduler scheduler = new FairShareScheduler(() -> 2, 10, 1);
+        scheduler.acquire("A", 1, Duration.ZERO);
+        scheduler.acquire("B", 1, Duration.ZERO);
+
+        // when & then
+        assertThrows(GPTRateLimitException.class, () -> scheduler.acquire("C", 1, Duration.ZERO));
+        assertThat(scheduler.getRunning()).isEqualTo(2);
+        assertThat(scheduler.getQueued()).isZero();
+    }
+
+    @Test
+    void 회원별_한도에_걸려도_다른_회원은_자리를_얻음() throws Exception {
+        // given
+        FairShareScheduler scheduler = new FairShareScheduler(() -> 10, 1, 1);
+        scheduler.acquire("A", 1, Duration.ZERO);
+
+        // when & then
+        assertThrows(GPTRateLimitException.class, () -> scheduler.acquire("A", 1, Duration.ZERO));
+        scheduler.acquire("B", 1, Duration.ZERO);
+        assertThat(scheduler.getRunning()).isEqualTo(2);
+    }
+
+    @Test
+    void 자리를_돌려주면_다음_요청이_자리를_얻음() throws Exception {
+        // given
+        FairShareScheduler scheduler = new FairShareScheduler(() -> 1, 10, 1);
+        scheduler.acquire("A", 1, Duration.ZERO);
+
+        // when
+        scheduler.release("A");
+
+        // then
+        scheduler.acquire("B", 1, Duration.ZERO);
+        assertThat(scheduler.getRunning()).isEqualTo(1);
+        assertThat(scheduler.getActiveKeys()).isEqualTo(1);
+    }
+
+    @Test
+    void 한_회원이_몰아_보내도_다른_회원과_번갈아_자리를_얻음() throws Exception {
+        // given
+        FairShareScheduler scheduler = new FairShareScheduler(() -> 1, 10, 1);
+        List<String> granted = new CopyOnWriteArrayList<>();
+        scheduler.acquire("heavy", 1, Duration.ZERO);
+
+        // heavy 의 요청 3건이 먼저 도착한 뒤 light 의 요청 1건이 도착한다.
+        for (int i = 0; i < 3; i++) {
+            startWaiter(scheduler, "heavy", granted);
+        }
+        awaitQueued(scheduler, 3);
+        startWaiter(scheduler, "light", granted);
+        awaitQueued(scheduler, 4);
+
+        // when
+        scheduler.release("heavy");
+        awaitGranted(granted, 1);
+        scheduler.release(granted.get(0));
+        awaitGranted(granted, 2);
+
+        // then
+        assertThat(granted).containsExactly("heavy", "light");
+    }
+
+    private void startWaiter(FairShareScheduler scheduler, String key, List<String> granted) {
+        Thread.ofVirtual().start(() -> {
+            try {
+                scheduler.acquire(key, 1, WAIT);
+                granted.add(key);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (GPTRateLimitException e) {
+                // 끝까지 자리를 얻지 못한 요청은 대기 시간이 지나면 포기한다.
+            }
+        });
+    }
+
+    private void awaitQueued(FairShareScheduler scheduler, int expected) throws Exception {
+        AtomicInteger spins = new AtomicInteger();
+        while (scheduler.getQueued() < expected && spins.incrementAndGet() < 500) {
+            Thread.sleep(10);
+        }
+        assertThat(scheduler.getQueued()).isEqualTo(expected);
+    }
+
+    private void awaitGranted(List<String> granted, int expected) throws Exception {
+        AtomicInteger spins = new AtomicInteger();
+        while (granted.size() < expected && spins.incrementAndGet() < 500) {
+            Thread.sleep(10);
+        }
+        assertThat(granted).hasSize(expected);
+    }
+}
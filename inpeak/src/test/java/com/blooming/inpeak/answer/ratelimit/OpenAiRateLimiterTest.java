@@ -0,0 +1,58 @@
+package com.blooming.inpeak.answer.ratelimit;
+
+import com.blooming.inpeak.answer.health.DependencyHealthMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OpenAiRateLimiterTest {
+
+    private final DependencyHealthMonitor dependencyHealthMonitor =
+        mock(DependencyHealthMonitor.class);
+    private final OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(new SimpleMeterRegistry(),
+        dependencyHealthMonitor, 3, Duration.ofSeconds(1), 10, 1, 50, 20, 2, 300);
+
+    @Test
+    void 커넥션_풀_대기_시간_초과는_한도를_줄이지_않고_장애로_기록하지_않음() {
+        // given
+        ResourceAccessException leaseTimeout = new ResourceAccessException("커넥션 대기 시간 초과",
+            new ConnectionRequestTimeoutException("Timeout deadline: 10000 MILLISECONDS"));
+
+        // when
+        assertThrows(ResourceAccessException.class,
+            () -> rateLimiter.execute(OpenAiEndpoint.CHAT, 0, () -> {
+                throw leaseTimeout;
+            }));
+
+        // then
+        assertThat(rateLimiter.limit(OpenAiEndpoint.CHAT)).isEqualTo(20);
+        assertThat(rateLimiter.utilization(OpenAiEndpoint.CHAT)).isZero();
+        verify(dependencyHealthMonitor, never()).recordFailure(any(), anyLong());
+    }
+
+    @Test
+    void 네트워크_오류는_한도를_줄이고_장애로_기록() {
+        // given
+        ResourceAccessException readTimeout = new ResourceAccessException("응답 시간 초과");
+
+        // when
+        assertThrows(ResourceAccessException.class,
+            () -> rateLimiter.execute(OpenAiEndpoint.CHAT, 0, () -> {
+                throw readTimeout;
+            }));
+
+        // then
+        assertThat(rateLimiter.limit(OpenAiEndpoint.CHAT)).isLessThan(20);
+        verify(dependencyHealthMonitor).recordFailure(any(), anyLong());
+    }
+}
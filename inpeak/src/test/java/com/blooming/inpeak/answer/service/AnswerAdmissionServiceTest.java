@@ -0,0 +1,82 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.service.AnswerAdmissionService.StageLoad;
+import com.blooming.inpeak.common.error.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AnswerAdmissionServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AnswerAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionService = new AnswerAdmissionService(meterRegistry, Duration.ofSeconds(60), 10,
+            Duration.ofSeconds(120), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void 추정치가_없으면_요청을_받음() {
+        // when & then
+        assertDoesNotThrow(() -> admissionService.checkAdmission());
+    }
+
+    @Test
+    void 단계별_대기_시간을_더해_기준을_넘으면_거절() {
+        // given: STT 100건 / 초당 1건 + 채점 50건 / 초당 2건 = 125초
+        admissionService.update(List.of(
+            new StageLoad("stt", 100, 1.0),
+            new StageLoad("grading", 50, 2.0),
+            new StageLoad("persist", 0, 0.0)
+        ));
+
+        // when
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class,
+            () -> admissionService.checkAdmission());
+
+        // then
+        assertThat(admissionService.expectedWait()).isEqualTo(Duration.ofSeconds(125));
+        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(65));
+        assertThat(meterRegistry.counter("answer.admission.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 예상_대기_시간이_기준_이내면_요청을_받음() {
+        // given
+        admissionService.update(List.of(new StageLoad("stt", 100, 10.0)));
+
+        // when & then
+        assertDoesNotThrow(() -> admissionService.checkAdmission());
+    }
+
+    @Test
+    void 적체가_적으면_처리_속도가_느려도_요청을_받음() {
+        // given
+        admissionService.update(List.of(new StageLoad("grading", 5, 0.01)));
+
+        // when & then
+        assertDoesNotThrow(() -> admissionService.checkAdmission());
+    }
+
+    @Test
+    void 적체가_있는데_처리가_멈추면_최대_대기_시간으로_거절() {
+        // given
+        admissionService.update(List.of(new StageLoad("grading", 500, 0.0)));
+
+        // when
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class,
+            () -> admissionService.checkAdmission());
+
+        // then
+        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(120));
+    }
+}
@@ -1,18 +1,20 @@
 package com.blooming.inpeak.answer.service;
 
 import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskOutbox;
 import com.blooming.inpeak.answer.domain.AnswerTaskStatus;
 import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
-import com.blooming.inpeak.answer.dto.command.AnswerTaskMessage;
 import com.blooming.inpeak.answer.dto.response.TaskIDResponse;
+import com.blooming.inpeak.answer.repository.AnswerTaskOutboxRepository;
 import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
 import com.blooming.inpeak.common.error.exception.NotFoundException;
+import com.blooming.inpeak.common.error.exception.ServiceUnavailableException;
 import com.blooming.inpeak.question.domain.Question;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
-import org.springframework.kafka.core.KafkaTemplate;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -27,7 +29,13 @@ class AnswerAsyncServiceTest {
     private AnswerTaskRepository answerTaskRepository;
 
     @Mock
-    private KafkaTemplate<String, AnswerTaskMessage> kafkaTemplate;
+    private AnswerTaskOutboxRepository answerTaskOutboxRepository;
+
+    @Mock
+    private AnswerTaskStatusCache answerTaskStatusCache;
+
+    @Mock
+    private AnswerAdmissionService answerAdmissionService;
 
     @InjectMocks
     private AnswerAsyncService answerAsyncService;
@@ -61,7 +69,77 @@ class AnswerAsyncServiceTest {
 
         // then
         assertThat(response.taskId()).isEqualTo(123L);
-        verify(kafkaTemplate).send(eq("answer-task-topic"), any(AnswerTaskMessage.class));
+
+        ArgumentCaptor<AnswerTaskOutbox> captor = ArgumentCaptor.forClass(AnswerTaskOutbox.class);
+        verify(answerTaskOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getTaskId()).isEqualTo(123L);
+        assertThat(captor.getValue().getTopic()).isEqualTo("answer-task-topic");
+        assertThat(captor.getValue().getMessageKey()).isEqualTo("3");
+        verify(answerTaskStatusCache).put(savedTask);
+    }
+
+    @Test
+    void requestAsyncAnswerCreation_진행중인_작업이_있으면_기존_작업ID_반환() {
+        // given
+        AnswerCreateCommand command = new AnswerCreateCommand("audio", 2L, 3L, 1L, 4L, "video");
+        when(answerManagerService.validateAndGetQuestion(command)).thenReturn(mock(Question.class));
+
+        AnswerTask inFlight = AnswerTask.waiting(command, "Spring이란?");
+        setField(inFlight, "id", 77L);
+        when(answerTaskRepository.findByInterviewIdAndQuestionId(4L, 1L))
+            .thenReturn(Optional.of(inFlight));
+
+        // when
+        TaskIDResponse response = answerAsyncService.requestAsyncAnswerCreation(command);
+
+        // then
+        assertThat(response.taskId()).isEqualTo(77L);
+        verify(answerTaskRepository, never()).save(any());
+        verify(answerTaskOutboxRepository, never()).save(any());
+        verify(answerAdmissionService, never()).checkAdmission();
+    }
+
+    @Test
+    void requestAsyncAnswerCreation_파이프라인이_밀려_있으면_새_작업을_만들지_않음() {
+        // given
+        AnswerCreateCommand command = new AnswerCreateCommand("audio", 2L, 3L, 1L, 4L, "video");
+        when(answerManagerService.validateAndGetQuestion(command)).thenReturn(mock(Question.class));
+        doThrow(new ServiceUnavailableException("적체", Duration.ofSeconds(30)))
+            .when(answerAdmissionService).checkAdmission();
+
+        // when & then
+        assertThatThrownBy(() -> answerAsyncService.requestAsyncAnswerCreation(command))
+            .isInstanceOf(ServiceUnavailableException.class);
+        verify(answerTaskRepository, never()).save(any());
+        verify(answerTaskOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    void requestAsyncAnswerCreation_실패한_작업은_새_작업으로_대체() {
+        // given
+        AnswerCreateCommand command = new AnswerCreateCommand("audio", 2L, 3L, 1L, 4L, "video");
+        Question question = mock(Question.class);
+        when(question.getContent()).thenReturn("Spring이란?");
+        when(answerManagerService.validateAndGetQuestion(command)).thenReturn(question);
+
+        AnswerTask failed = AnswerTask.waiting(command, "Spring이란?");
+        failed.markFailed();
+        when(answerTaskRepository.findByInterviewIdAndQuestionId(4L, 1L))
+            .thenReturn(Optional.of(failed));
+
+        AnswerTask savedTask = AnswerTask.waiting(command, "Spring이란?");
+        setField(savedTask, "id", 124L);
+        when(answerTaskRepository.save(any())).thenReturn(savedTask);
+
+        // when
+        TaskIDResponse response = answerAsyncService.requestAsyncAnswerCreation(command);
+
+        // then
+        assertThat(response.taskId()).isEqualTo(124L);
+        InOrder inOrder = inOrder(answerTaskRepository);
+        inOrder.verify(answerTaskRepository).delete(failed);
+        inOrder.verify(answerTaskRepository).flush();
+        inOrder.verify(answerTaskRepository).save(any());
     }
 
     // 테스트 목적상 private 필드 직접 설정 유틸
@@ -0,0 +1,139 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
+import com.blooming.inpeak.answer.dto.response.TaskIDResponse;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.common.error.exception.ConflictException;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class AnswerIdempotencyServiceTest {
+
+    private static final String REDIS_KEY = "idempotency:answer_create:3:key-1";
+
+    private AnswerAsyncService answerAsyncService;
+    private AnswerTaskRepository answerTaskRepository;
+    private ValueOperations<String, String> valueOperations;
+    private AnswerIdempotencyService idempotencyService;
+
+    private final AnswerCreateCommand command =
+        new AnswerCreateCommand("audio", 2L, 3L, 1L, 4L, "video");
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        answerAsyncService = mock(AnswerAsyncService.class);
+        answerTaskRepository = mock(AnswerTaskRepository.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        idempotencyService = new AnswerIdempotencyService(answerAsyncService,
+            answerTaskRepository, redisTemplate, Duration.ofHours(24), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void 처음_요청은_작업을_만들고_결과를_기록() {
+        // given
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), eq("PENDING"), any(Duration.class)))
+            .thenReturn(true);
+        when(answerAsyncService.requestAsyncAnswerCreation(command))
+            .thenReturn(new TaskIDResponse(10L));
+
+        // when
+        TaskIDResponse response = idempotencyService.requestAnswerCreation(command, "key-1");
+
+        // then
+        assertThat(response.taskId()).isEqualTo(10L);
+        verify(valueOperations).set(REDIS_KEY, "4:1:10", Duration.ofHours(24));
+    }
+
+    @Test
+    void 재전송은_작업을_만들지_않고_처음_작업ID_반환() {
+        // given
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), eq("PENDING"), any(Duration.class)))
+            .thenReturn(false);
+        when(valueOperations.get(REDIS_KEY)).thenReturn("4:1:10");
+
+        // when
+        TaskIDResponse response = idempotencyService.requestAnswerCreation(command, "key-1");
+
+        // then
+        assertThat(response.taskId()).isEqualTo(10L);
+        verify(answerAsyncService, never()).requestAsyncAnswerCreation(any());
+    }
+
+    @Test
+    void 재전송시_Redis_조회에_실패하면_유니크_제약으로_처음_작업ID_반환() {
+        // given
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), eq("PENDING"), any(Duration.class)))
+            .thenReturn(false);
+        when(valueOperations.get(REDIS_KEY))
+            .thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+        when(answerAsyncService.requestAsyncAnswerCreation(command))
+            .thenThrow(new DataIntegrityViolationException("uk_answer_tasks_interview_question"));
+        AnswerTask existing = mock(AnswerTask.class);
+        when(existing.getId()).thenReturn(10L);
+        when(answerTaskRepository.findByInterviewIdAndQuestionId(4L, 1L))
+            .thenReturn(Optional.of(existing));
+
+        // when
+        TaskIDResponse response = idempotencyService.requestAnswerCreation(command, "key-1");
+
+        // then
+        assertThat(response.taskId()).isEqualTo(10L);
+    }
+
+    @Test
+    void 처리중인_키로_재전송하면_충돌() {
+        // given
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), eq("PENDING"), any(Duration.class)))
+            .thenReturn(false);
+        when(valueOperations.get(REDIS_KEY)).thenReturn("PENDING");
+
+        // when & then
+        assertThrows(ConflictException.class,
+            () -> idempotencyService.requestAnswerCreation(command, "key-1"));
+        verify(answerAsyncService, never()).requestAsyncAnswerCreation(any());
+    }
+
+    @Test
+    void 다른_질문에_사용된_키는_충돌() {
+        // given
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), eq("PENDING"), any(Duration.class)))
+            .thenReturn(false);
+        when(valueOperations.get(REDIS_KEY)).thenReturn("4:99:10");
+
+        // when & then
+        assertThrows(ConflictException.class,
+            () -> idempotencyService.requestAnswerCreation(command, "key-1"));
+    }
+
+    @Test
+    void 동시_요청이_유니크_제약에_걸리면_먼저_만들어진_작업ID_반환() {
+        // given
+        when(answerAsyncService.requestAsyncAnswerCreation(command))
+            .thenThrow(new DataIntegrityViolationException("uk_answer_tasks_interview_question"));
+        AnswerTask existing = mock(AnswerTask.class);
+        when(existing.getId()).thenReturn(10L);
+        when(answerTaskRepository.findByInterviewIdAndQuestionId(4L, 1L))
+            .thenReturn(Optional.of(existing));
+
+        // when
+        TaskIDResponse response = idempotencyService.requestAnswerCreation(command, null);
+
+        // then
+        assertThat(response.taskId()).isEqualTo(10L);
+    }
+}
@@ -1,105 +1,153 @@
 package com.blooming.inpeak.answer.service;
 
-import com.blooming.inpeak.answer.domain.AnswerTask;
-import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
+import com.blooming.inpeak.answer.dto.command.AnswerGradingMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerPersistMessage;
 import com.blooming.inpeak.answer.dto.command.AnswerTaskMessage;
-import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
-import com.blooming.inpeak.common.error.exception.NotFoundException;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import com.blooming.inpeak.common.error.exception.GPTApiException;
+import com.blooming.inpeak.common.kafka.ConsumerMode;
+import com.blooming.inpeak.common.kafka.KafkaRecordDispatcher;
+import com.blooming.inpeak.common.kafka.RetryTopicRelay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class AnswerKafkaConsumerTest {
 
-    private AnswerTaskRepository answerTaskRepository;
-    private AnswerManagerService answerManagerService;
-    private GPTService gptService;
-    private AnswerPresignedUrlService answerPresignedUrlService;
+    private AnswerPipelineService answerPipelineService;
+    private RetryTopicRelay retryTopicRelay;
+    private Acknowledgment ack;
     private AnswerKafkaConsumer consumer;
 
     @BeforeEach
     void setUp() {
-        answerTaskRepository = mock(AnswerTaskRepository.class);
-        answerManagerService = mock(AnswerManagerService.class);
-        gptService = mock(GPTService.class);
-        answerPresignedUrlService = mock(AnswerPresignedUrlService.class);
+        answerPipelineService = mock(AnswerPipelineService.class);
+        retryTopicRelay = mock(RetryTopicRelay.class);
+        ack = mock(Acknowledgment.class);
 
         consumer = new AnswerKafkaConsumer(
-            answerTaskRepository,
-            answerManagerService,
-            gptService,
-            answerPresignedUrlService
+            answerPipelineService,
+            dispatcher("stt"),
+            dispatcher("grading"),
+            dispatcher("persist"),
+            retryTopicRelay,
+            new ObjectMapper()
         );
     }
 
     @Test
-    void listen_성공_테스트() {
+    void listen_STT_단계를_처리하고_ack() {
         // given
-        AnswerTask task = Mockito.spy(
-            AnswerTask.waiting(
-                new AnswerCreateCommand(
-                    "audio-url",   // audioURL
-                    10L,           // time
-                    3L,            // memberId
-                    4L,            // questionId
-                    5L,            // interviewId
-                    "video-url"    // videoURL
-                ),
-                "질문 내용"
-            )
-        );
-        when(answerTaskRepository.findById(1L)).thenReturn(java.util.Optional.of(task));
-        when(answerPresignedUrlService.downloadAudioFromS3(any())).thenReturn(new byte[]{1, 2, 3});
-        when(gptService.makeGPTResponse(any(), any())).thenReturn("유저답변@CORRECT@AI 피드백");
-        when(answerManagerService.generateAnswer(any(), any())).thenReturn(
-            mock(com.blooming.inpeak.answer.domain.Answer.class)
-        );
-        when(answerManagerService.generateAnswer(any(), any()).getId()).thenReturn(100L);
+        AnswerTaskMessage message = new AnswerTaskMessage(1L);
 
         // when
-        consumer.listen(new AnswerTaskMessage(1L));
+        consumer.listen(record(KafkaTopics.ANSWER_TASK, message), ack);
 
         // then
-        verify(task).markSuccess(100L);
-        verify(answerManagerService).saveAnswerTask(task);
+        verify(answerPipelineService).transcribe(message);
+        verify(ack).acknowledge();
     }
 
     @Test
-    void listen_실패_테스트() {
+    void listenGrading_채점_단계를_처리하고_ack() {
         // given
-        AnswerTask task = Mockito.spy(
-            AnswerTask.waiting(
-                new AnswerCreateCommand(
-                    "audio-url", 10L, 3L, 4L, 5L, "video-url"
-                ),
-                "질문 내용"
-            )
-        );
-        when(answerTaskRepository.findById(1L)).thenReturn(java.util.Optional.of(task));
-        when(answerPresignedUrlService.downloadAudioFromS3(any())).thenReturn(new byte[]{9, 9, 9});
-        when(gptService.makeGPTResponse(any(), any())).thenThrow(new RuntimeException("GPT 오류"));
+        AnswerGradingMessage message = new AnswerGradingMessage(1L, "답변 내용");
 
-        // when & then
-        assertThrows(RuntimeException.class,
-            () -> consumer.listen(new AnswerTaskMessage(1L))
-        );
+        // when
+        consumer.listenGrading(record(KafkaTopics.ANSWER_GRADING, message), ack);
 
-        verify(task).markFailed();
-        verify(answerManagerService).saveAnswerTask(task);
+        // then
+        verify(answerPipelineService).grade(message);
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void listenPersist_저장_단계를_처리하고_ack() {
+        // given
+        AnswerPersistMessage message = new AnswerPersistMessage(1L, "유저답변@CORRECT@AI 피드백");
 
+        // when
+        consumer.listenPersist(record(KafkaTopics.ANSWER_PERSIST, message), ack);
 
+        // then
+        verify(answerPipelineService).persist(message);
+        verify(ack).acknowledge();
     }
 
     @Test
-    void listen_존재하지않는_taskId() {
+    void listen_단계_처리에_실패하면_예외를_던지고_ack_하지_않음() {
         // given
-        when(answerTaskRepository.findById(99L)).thenReturn(java.util.Optional.empty());
+        AnswerTaskMessage message = new AnswerTaskMessage(1L);
+        doThrow(new GPTApiException("STT 처리 실패")).when(answerPipelineService)
+            .transcribe(message);
 
         // when & then
-        assertThrows(NotFoundException.class,
-            () -> consumer.listen(new AnswerTaskMessage(99L)));
+        assertThrows(GPTApiException.class,
+            () -> consumer.listen(record(KafkaTopics.ANSWER_TASK, message), ack));
+        verify(ack, never()).acknowledge();
+    }
+
+    @Test
+    void listenRetry_재시도_레코드를_relay에_넘김() {
+        // given
+        ConsumerRecord<String, byte[]> record = record(KafkaTopics.ANSWER_RETRY_2, bytes("{}"));
+
+        // when
+        consumer.listenRetry2(record, ack);
+
+        // then
+        verify(retryTopicRelay).relay(record, ack);
+    }
+
+    @Test
+    void listenDeadLetter_작업을_실패_처리하고_원인_예외를_남김() {
+        // given
+        ConsumerRecord<String, byte[]> record =
+            record(KafkaTopics.ANSWER_DLT, bytes("{\"taskId\":1}"));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_FQCN,
+            bytes(GPTApiException.class.getName()));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, bytes("GPT 응답 생성 실패"));
+
+        // when
+        consumer.listenDeadLetter(record, ack);
+
+        // then
+        verify(answerPipelineService).markDeadLettered(1L, "GPTApiException: GPT 응답 생성 실패");
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void listenDeadLetter_taskId가_없는_레코드는_폐기() {
+        // given
+        ConsumerRecord<String, byte[]> record = record(KafkaTopics.ANSWER_DLT, bytes("not-json"));
+
+        // when
+        consumer.listenDeadLetter(record, ack);
+
+        // then
+        verify(answerPipelineService, never()).markDeadLettered(any(), any());
+        verify(ack).acknowledge();
+    }
+
+    private KafkaRecordDispatcher dispatcher(String name) {
+        return new KafkaRecordDispatcher(name, ConsumerMode.PLATFORM, 1, 1,
+            mock(ConsumerRecordRecoverer.class), new SimpleMeterRegistry());
+    }
+
+    private <T> ConsumerRecord<String, T> record(String topic, T value) {
+        return new ConsumerRecord<>(topic, 0, 0L, "3", value);
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 }
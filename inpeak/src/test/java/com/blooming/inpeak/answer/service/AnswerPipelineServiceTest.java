@@ -0,0 +1,489 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.audio.AudioFile;
+import com.blooming.inpeak.answer.audio.PreprocessedAudio;
+import com.blooming.inpeak.answer.audio.WavPreprocessor;
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskStage;
+import com.blooming.inpeak.answer.domain.AnswerTaskStatus;
+import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
+import com.blooming.inpeak.answer.dto.command.AnswerGradingMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerPersistMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerTaskMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerTaskPayload;
+import com.blooming.inpeak.answer.dto.response.AnswerByTaskResponse;
+import com.blooming.inpeak.answer.ratelimit.GradingScheduler;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import com.blooming.inpeak.common.error.exception.InvalidAudioException;
+import com.blooming.inpeak.common.error.exception.NotFoundException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class AnswerPipelineServiceTest {
+
+    private AnswerTaskRepository answerTaskRepository;
+    private AnswerManagerService answerManagerService;
+    private GPTService gptService;
+    private GradingScheduler gradingScheduler;
+    private TranscriptionService transcriptionService;
+    private AnswerPresignedUrlService answerPresignedUrlService;
+    private WavPreprocessor wavPreprocessor;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private AnswerTaskClaimService answerTaskClaimService;
+    private AnswerTaskEventService answerTaskEventService;
+    private AnswerTaskStatusCache answerTaskStatusCache;
+    private AnswerPipelineService pipelineService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        answerTaskRepository = mock(AnswerTaskRepository.class);
+        answerManagerService = mock(AnswerManagerService.class);
+        gptService = mock(GPTService.class);
+        gradingScheduler = mock(GradingScheduler.class);
+        transcriptionService = mock(TranscriptionService.class);
+        answerPresignedUrlService = mock(AnswerPresignedUrlService.class);
+        wavPreprocessor = mock(WavPreprocessor.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        answerTaskClaimService = mock(AnswerTaskClaimService.class);
+        answerTaskEventService = mock(AnswerTaskEventService.class);
+        answerTaskStatusCache = mock(AnswerTaskStatusCache.class);
+
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(answerTaskClaimService.tryClaim(any(), any())).thenReturn(Optional.of(claim(false)));
+        when(answerTaskRepository.completeTranscription(any(), any(), any(), any())).thenReturn(1);
+        when(answerTaskRepository.completeGrading(any(), any(), any())).thenReturn(1);
+        when(gradingScheduler.execute(any(), any(), any())).thenAnswer(
+            invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        when(wavPreprocessor.preprocess(any())).thenAnswer(
+            invocation -> PreprocessedAudio.passThrough(invocation.getArgument(0)));
+
+        pipelineService = new AnswerPipelineService(
+            answerTaskRepository,
+            answerManagerService,
+            gptService,
+            gradingScheduler,
+            transcriptionService,
+            answerPresignedUrlService,
+            wavPreprocessor,
+            answerTaskClaimService,
+            answerTaskEventService,
+            answerTaskStatusCache,
+            kafkaTemplate
+        );
+    }
+
+    @Test
+    void transcribe_payload로_변환하고_채점단계로_전달() {
+        // given
+        when(answerPresignedUrlService.downloadAudioFromS3("audio-url")).thenReturn(audioFile());
+        when(transcriptionService.transcribe(any())).thenReturn("유저답변");
+
+        // when
+        pipelineService.transcribe(new AnswerTaskMessage(2, 1L, payload()));
+
+        // then
+        verify(answerTaskRepository).completeTranscription(eq(1L), eq("유저답변"), any(), any());
+        verify(kafkaTemplate).send(KafkaTopics.ANSWER_GRADING, "3",
+            new AnswerGradingMessage(1L, "유저답변", payload()));
+        verify(answerTaskClaimService).complete(AnswerTaskStage.STT, 1L, "token");
+        verify(answerTaskStatusCache).waiting(1L, 3L, AnswerTaskStage.GRADING);
+        verify(answerTaskRepository, never()).findById(any());
+    }
+
+    @Test
+    void transcribe_이전_형식_메시지는_작업을_조회해_처리() {
+        // given
+        AnswerTask task = createTask();
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(answerPresignedUrlService.downloadAudioFromS3("audio-url")).thenReturn(audioFile());
+        when(transcriptionService.transcribe(any())).thenReturn("유저답변");
+
+        // when
+        pipelineService.transcribe(new AnswerTaskMessage(1L));
+
+        // then
+        verify(answerTaskRepository).completeTranscription(eq(1L), eq("유저답변"), any(), any());
+        verify(kafkaTemplate).send(eq(KafkaTopics.ANSWER_GRADING), eq("3"), any(AnswerGradingMessage.class));
+    }
+
+    @Test
+    void transcribe_STT_체크포인트가_있으면_다운로드와_STT를_건너뜀() {
+        // given
+        AnswerTask task = createTask();
+        task.completeTranscription("저장된 답변");
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // when
+        pipelineService.transcribe(new AnswerTaskMessage(1L));
+
+        // then
+        verify(answerPresignedUrlService, never()).downloadAudioFromS3(any());
+        verify(transcriptionService, never()).transcribe(any());
+        verify(kafkaTemplate).send(eq(KafkaTopics.ANSWER_GRADING), eq("3"), any(AnswerGradingMessage.class));
+    }
+
+    @Test
+    void transcribe_체크포인트_표시가_있으면_payload가_있어도_저장된_결과로_이어감() {
+        // given
+        AnswerTask task = createTask();
+        task.completeTranscription("저장된 답변");
+        when(answerTaskClaimService.tryClaim(AnswerTaskStage.STT, 1L))
+            .thenReturn(Optional.of(claim(true)));
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // when
+        pipelineService.transcribe(new AnswerTaskMessage(2, 1L, payload()));
+
+        // then
+        verify(answerPresignedUrlService, never()).downloadAudioFromS3(any());
+        verify(transcriptionService, never()).transcribe(any());
+        verify(kafkaTemplate).send(eq(KafkaTopics.ANSWER_GRADING), eq("3"),
+            argThat(message -> "저장된 답변".equals(((AnswerGradingMessage) message).transcript())));
+    }
+
+    @Test
+    void transcribe_다음_단계_발행에_실패한_뒤_재전달되면_STT를_다시_호출하지_않음() {
+        // given
+        AnswerTask task = createTask();
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(answerPresignedUrlService.downloadAudioFromS3(any())).thenReturn(audioFile());
+        when(transcriptionService.transcribe(any())).thenReturn("유저답변");
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka 오류")))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(answerTaskRepository.completeTranscription(any(), any(), any(), any()))
+            .thenAnswer(invocation -> {
+                task.completeTranscription(invocation.getArgument(1));
+                return 1;
+            });
+        when(answerTaskClaimService.tryClaim(AnswerTaskStage.STT, 1L))
+            .thenReturn(Optional.of(claim(false)))
+            .thenReturn(Optional.of(claim(true)));
+
+        // when
+        assertThrows(RuntimeException.class,
+            () -> pipelineService.transcribe(new AnswerTaskMessage(2, 1L, payload())));
+        pipelineService.transcribe(new AnswerTaskMessage(2, 1L, payload()));
+
+        // then
+        verify(answerTaskClaimService).checkpoint(AnswerTaskStage.STT, 1L, "token");
+        verify(answerTaskClaimService, never()).release(any(), any(), any());
+        verify(answerPresignedUrlService, times(1)).downloadAudioFromS3(any());
+        verify(transcriptionService, times(1)).transcribe(any());
+        verify(kafkaTemplate, times(2)).send(eq(KafkaTopics.ANSWER_GRADING), eq("3"),
+            any(AnswerGradingMessage.class));
+    }
+
+    @Test
+    void transcribe_이미_기록된_체크포인트가_있으면_저장된_결과로_이어감() {
+        // given: 변환하는 동안 다른 워커가 먼저 결과를 기록했다.
+        AnswerTask stored = createTask();
+        stored.completeTranscription("먼저 저장된 답변");
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(stored));
+        when(answerPresignedUrlService.downloadAudioFromS3(any())).thenReturn(audioFile());
+        when(transcriptionService.transcribe(any())).thenReturn("유저답변");
+        when(answerTaskRepository.completeTranscription(any(), any(), any(), any())).thenReturn(0);
+
+        // when
+        pipelineService.transcribe(new AnswerTaskMessage(2, 1L, payload()));
+
+        // then
+        verify(kafkaTemplate).send(eq(KafkaTopics.ANSWER_GRADING), eq("3"),
+            argThat(message -> "먼저 저장된 답변".equals(((AnswerGradingMessage) message).transcript())));
+    }
+
+    @Test
+    void transcribe_잘못된_오디오는_STT_없이_예외를_던짐() {
+        // given
+        when(answerPresignedUrlService.downloadAudioFromS3(any())).thenReturn(audioFile());
+        when(wavPreprocessor.preprocess(any())).thenThrow(new InvalidAudioException("손상된 WAV 파일"));
+
+        // when & then
+        assertThrows(InvalidAudioException.class,
+            () -> pipelineService.transcribe(new AnswerTaskMessage(2, 1L, payload())));
+
+        // 실패 처리는 DLT 에서 한다.
+        verify(transcriptionService, never()).transcribe(any());
+        verify(answerTaskRepository, never()).completeTranscription(any(), any(), any(), any());
+        verify(answerTaskClaimService).release(AnswerTaskStage.STT, 1L, "token");
+    }
+
+    @Test
+    void transcribe_측정한_오디오_길이를_기록() {
+        // given
+        AudioFile audioFile = audioFile();
+        when(answerPresignedUrlService.downloadAudioFromS3(any())).thenReturn(audioFile);
+        when(wavPreprocessor.preprocess(any()))
+            .thenReturn(new PreprocessedAudio(audioFile, 12.4, 9.0, false));
+        when(transcriptionService.transcribe(any())).thenReturn("유저답변");
+
+        // when
+        pipelineService.transcribe(new AnswerTaskMessage(2, 1L, payload()));
+
+        // then
+        verify(answerTaskRepository).completeTranscription(eq(1L), eq("유저답변"), eq(12L), any());
+    }
+
+    @Test
+    void 클라이언트_답변_시간은_측정_길이에_가까운_단위로_해석() {
+        // when & then
+        assertThat(AnswerPipelineService.toSeconds(12, 12.4)).isEqualTo(12);
+        assertThat(AnswerPipelineService.toSeconds(12_400, 12.4)).isEqualTo(12);
+        assertThat(AnswerPipelineService.toSeconds(30, 12.4)).isEqualTo(30);
+    }
+
+    @Test
+    void transcribe_무음뿐인_답변은_STT_없이_빈_답변으로_채점단계로_전달() {
+        // given
+        AudioFile audioFile = audioFile();
+        when(answerPresignedUrlService.downloadAudioFromS3(any())).thenReturn(audioFile);
+        when(wavPreprocessor.preprocess(any()))
+            .thenReturn(PreprocessedAudio.silent(audioFile, 10.0));
+
+        // when
+        pipelineService.transcribe(new AnswerTaskMessage(2, 1L, payload()));
+
+        // then
+        verify(transcriptionService, never()).transcribe(any());
+        verify(answerTaskRepository).completeTranscription(eq(1L), eq(""), eq(10L), any());
+        verify(kafkaTemplate).send(KafkaTopics.ANSWER_GRADING, "3",
+            new AnswerGradingMessage(1L, "", payload()));
+    }
+
+    @Test
+    void transcribe_다른_워커가_처리중이면_다운로드_없이_건너뜀() {
+        // given
+        when(answerTaskClaimService.tryClaim(AnswerTaskStage.STT, 1L)).thenReturn(Optional.empty());
+
+        // when
+        pipelineService.transcribe(new AnswerTaskMessage(1L));
+
+        // then
+        verify(answerTaskRepository, never()).findById(any());
+        verify(answerPresignedUrlService, never()).downloadAudioFromS3(any());
+        verify(transcriptionService, never()).transcribe(any());
+        verify(answerTaskClaimService, never()).release(any(), any(), any());
+    }
+
+    @Test
+    void grade_payload로_채점하고_저장단계로_전달() {
+        // given
+        when(gptService.makeGPTResponse("유저답변", "질문 내용")).thenReturn("피드백");
+
+        // when
+        pipelineService.grade(new AnswerGradingMessage(1L, "유저답변", payload()));
+
+        // then
+        verify(gradingScheduler).execute(eq(3L), eq("유저답변"), any());
+        verify(answerTaskRepository).completeGrading(eq(1L), eq("피드백"), any());
+        verify(kafkaTemplate).send(KafkaTopics.ANSWER_PERSIST, "3",
+            new AnswerPersistMessage(1L, "피드백", payload()));
+        verify(answerTaskRepository, never()).findById(any());
+    }
+
+    @Test
+    void grade_채점_체크포인트가_있으면_GPT를_호출하지_않음() {
+        // given
+        AnswerTask task = createTask();
+        task.completeTranscription("유저답변");
+        task.completeGrading("유저답변@CORRECT@AI 피드백");
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // when
+        pipelineService.grade(new AnswerGradingMessage(1L, "유저답변"));
+
+        // then
+        verify(gptService, never()).makeGPTResponse(any(), any());
+        verify(kafkaTemplate).send(eq(KafkaTopics.ANSWER_PERSIST), eq("3"), any(AnswerPersistMessage.class));
+    }
+
+    @Test
+    void grade_다음_단계_발행에_실패한_뒤_재전달되면_GPT를_다시_호출하지_않음() {
+        // given
+        AnswerTask task = transcribedTask();
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(gptService.makeGPTResponse("유저답변", "질문 내용")).thenReturn("피드백");
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka 오류")))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(answerTaskRepository.completeGrading(any(), any(), any())).thenAnswer(invocation -> {
+            task.completeGrading(invocation.getArgument(1));
+            return 1;
+        });
+        when(answerTaskClaimService.tryClaim(AnswerTaskStage.GRADING, 1L))
+            .thenReturn(Optional.of(claim(false)))
+            .thenReturn(Optional.of(claim(true)));
+
+        // when
+        assertThrows(RuntimeException.class,
+            () -> pipelineService.grade(new AnswerGradingMessage(1L, "유저답변", payload())));
+        pipelineService.grade(new AnswerGradingMessage(1L, "유저답변", payload()));
+
+        // then
+        verify(answerTaskClaimService).checkpoint(AnswerTaskStage.GRADING, 1L, "token");
+        verify(gptService, times(1)).makeGPTResponse(any(), any());
+        verify(kafkaTemplate, times(2)).send(eq(KafkaTopics.ANSWER_PERSIST), eq("3"),
+            argThat(message -> "피드백".equals(((AnswerPersistMessage) message).feedback())));
+    }
+
+    @Test
+    void grade_실패_테스트() {
+        // given
+        when(gptService.makeGPTResponse(any(), any())).thenThrow(new RuntimeException("GPT 오류"));
+
+        // when & then
+        assertThrows(RuntimeException.class,
+            () -> pipelineService.grade(new AnswerGradingMessage(1L, "유저답변", payload()))
+        );
+
+        // 재시도 토픽을 거치는 동안에는 실패 상태로 바꾸지 않는다.
+        verify(answerManagerService, never()).saveAnswerTask(any());
+        verify(kafkaTemplate, never()).send(eq(KafkaTopics.ANSWER_PERSIST), any(), any());
+        verify(answerTaskClaimService).release(AnswerTaskStage.GRADING, 1L, "token");
+    }
+
+    @Test
+    void markDeadLettered_실패_상태와_원인을_기록() {
+        // given
+        AnswerTask task = createTask();
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // when
+        pipelineService.markDeadLettered(1L, "GPT 오류");
+
+        // then
+        assertThat(task.getStatus()).isEqualTo(AnswerTaskStatus.FAILED);
+        assertThat(task.getFailureReason()).isEqualTo("GPT 오류");
+        verify(answerManagerService).saveAnswerTask(task);
+        verify(answerTaskStatusCache).failed(1L, 3L, task.getStage());
+        verify(answerTaskEventService).publish(AnswerByTaskResponse.failed(1L, task.getStage()));
+    }
+
+    @Test
+    void markDeadLettered_이미_완료된_작업은_무시() {
+        // given
+        AnswerTask task = createTask();
+        task.markSuccess(100L);
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // when
+        pipelineService.markDeadLettered(1L, "GPT 오류");
+
+        // then
+        assertThat(task.getStatus()).isEqualTo(AnswerTaskStatus.SUCCESS);
+        verify(answerManagerService, never()).saveAnswerTask(any());
+        verify(answerTaskEventService, never()).publish(any());
+    }
+
+    @Test
+    void markDeadLettered_삭제된_작업은_무시() {
+        // given
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when
+        pipelineService.markDeadLettered(1L, "GPT 오류");
+
+        // then
+        verify(answerManagerService, never()).saveAnswerTask(any());
+    }
+
+    @Test
+    void persist_성공_테스트() {
+        // given
+        when(answerManagerService.completeAnswerTask(any(), any(), any())).thenReturn(100L);
+
+        // when
+        pipelineService.persist(new AnswerPersistMessage(1L, "유저답변@CORRECT@AI 피드백", payload()));
+
+        // then
+        verify(answerTaskRepository, never()).findById(any());
+        verify(answerManagerService).completeAnswerTask(1L, payload().command(),
+            "유저답변@CORRECT@AI 피드백");
+        verify(answerTaskClaimService).complete(AnswerTaskStage.PERSIST, 1L, "token");
+        verify(answerTaskStatusCache).success(1L, 3L, 100L);
+        verify(answerTaskEventService).publish(AnswerByTaskResponse.success(1L, 100L));
+    }
+
+    @Test
+    void persist_이전_형식_메시지는_완료된_작업을_건너뜀() {
+        // given
+        AnswerTask task = createTask();
+        task.markSuccess(100L);
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // when
+        pipelineService.persist(new AnswerPersistMessage(1L, "유저답변@CORRECT@AI 피드백"));
+
+        // then
+        verify(answerManagerService, never()).completeAnswerTask(any(), any(), any());
+    }
+
+    @Test
+    void persist_중복_완료는_예외없이_건너뜀() {
+        // given
+        when(answerManagerService.completeAnswerTask(any(), any(), any()))
+            .thenThrow(new ObjectOptimisticLockingFailureException(AnswerTask.class, 1L));
+
+        // when
+        pipelineService.persist(new AnswerPersistMessage(1L, "유저답변@CORRECT@AI 피드백", payload()));
+
+        // then
+        verify(answerTaskClaimService).release(AnswerTaskStage.PERSIST, 1L, "token");
+        verify(answerTaskEventService, never()).publish(any());
+    }
+
+    @Test
+    void transcribe_존재하지않는_taskId() {
+        // given
+        when(answerTaskRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(NotFoundException.class,
+            () -> pipelineService.transcribe(new AnswerTaskMessage(99L)));
+    }
+
+    private AnswerTaskClaimService.Claim claim(boolean checkpointed) {
+        return new AnswerTaskClaimService.Claim("token", checkpointed);
+    }
+
+    private AnswerTask createTask() {
+        return AnswerTask.waiting(command(), "질문 내용");
+    }
+
+    private AnswerTask transcribedTask() {
+        AnswerTask task = createTask();
+        task.completeTranscription("유저답변");
+        return task;
+    }
+
+    private AnswerTaskPayload payload() {
+        return new AnswerTaskPayload(command(), "질문 내용");
+    }
+
+    private AnswerCreateCommand command() {
+        return new AnswerCreateCommand(
+            "audio-url",   // audioURL
+            10L,           // time
+            3L,            // memberId
+            4L,            // questionId
+            5L,            // interviewId
+            "video-url"    // videoURL
+        );
+    }
+
+    private AudioFile audioFile() {
+        return new AudioFile(Path.of("build", "not-exists.wav"), 3L);
+    }
+}
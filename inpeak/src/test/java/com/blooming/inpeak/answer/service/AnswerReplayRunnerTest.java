@@ -0,0 +1,144 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerReplayJob;
+import com.blooming.inpeak.answer.domain.AnswerReplayJobStatus;
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
+import com.blooming.inpeak.answer.ratelimit.OpenAiEndpoint;
+import com.blooming.inpeak.answer.ratelimit.OpenAiRateLimiter;
+import com.blooming.inpeak.answer.repository.AnswerReplayJobRepository;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AnswerReplayRunnerTest {
+
+    private AnswerReplayJobRepository answerReplayJobRepository;
+    private AnswerTaskRepository answerTaskRepository;
+    private AnswerManagerService answerManagerService;
+    private AnswerTaskStatusCache answerTaskStatusCache;
+    private OpenAiRateLimiter openAiRateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+    private AnswerReplayRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        answerReplayJobRepository = mock(AnswerReplayJobRepository.class);
+        answerTaskRepository = mock(AnswerTaskRepository.class);
+        answerManagerService = mock(AnswerManagerService.class);
+        answerTaskStatusCache = mock(AnswerTaskStatusCache.class);
+        openAiRateLimiter = mock(OpenAiRateLimiter.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        runner = new AnswerReplayRunner(answerReplayJobRepository, answerTaskRepository,
+            answerManagerService, answerTaskStatusCache, openAiRateLimiter,
+            mock(RedissonClient.class), meterRegistry, 2, 0.5);
+    }
+
+    @Test
+    void 배치의_작업을_다시_발행하고_커서를_옮김() {
+        // given
+        AnswerReplayJob job = createJob();
+        when(answerTaskRepository.findReplayable(any(), any(), any(), any(), any(), any()))
+            .thenReturn(List.of(createTask(1L), createTask(2L)));
+        when(answerManagerService.replayFailedTask(1L)).thenReturn(true);
+        when(answerManagerService.replayFailedTask(2L)).thenReturn(false);
+
+        // when
+        runner.replayBatch(job);
+
+        // then
+        verify(answerTaskStatusCache).evict(1L);
+        verify(answerTaskStatusCache, never()).evict(2L);
+        verify(answerReplayJobRepository).save(job);
+        assertThat(job.getCursorId()).isEqualTo(2L);
+        assertThat(job.getReplayedCount()).isEqualTo(1);
+        assertThat(job.getSkippedCount()).isEqualTo(1);
+        assertThat(job.getStatus()).isEqualTo(AnswerReplayJobStatus.RUNNING);
+        assertThat(meterRegistry.counter("answer.replay.tasks", "result", "replayed").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void 배치가_가득_차지_않으면_작업_완료() {
+        // given
+        AnswerReplayJob job = createJob();
+        when(answerTaskRepository.findReplayable(any(), any(), any(), any(), any(), any()))
+            .thenReturn(List.of(createTask(1L)));
+        when(answerManagerService.replayFailedTask(1L)).thenReturn(true);
+
+        // when
+        runner.replayBatch(job);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(AnswerReplayJobStatus.COMPLETED);
+        assertThat(job.getCompletedAt()).isNotNull();
+        verify(answerReplayJobRepository).save(job);
+    }
+
+    @Test
+    void OpenAI_사용률이_높으면_이번_주기는_건너뜀() {
+        // given
+        AnswerReplayJob job = createJob();
+        when(openAiRateLimiter.utilization(OpenAiEndpoint.CHAT)).thenReturn(0.8);
+
+        // when
+        runner.replayBatch(job);
+
+        // then
+        verifyNoInteractions(answerTaskRepository, answerManagerService);
+        verify(answerReplayJobRepository, never()).save(any());
+        assertThat(meterRegistry.counter("answer.replay.throttled").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 중단된_작업의_진행_상황_저장_충돌은_무시() {
+        // given
+        AnswerReplayJob job = createJob();
+        when(answerTaskRepository.findReplayable(any(), any(), any(), any(), any(), any()))
+            .thenReturn(List.of());
+        when(answerReplayJobRepository.save(job))
+            .thenThrow(new OptimisticLockingFailureException("cancelled"));
+
+        // when
+        runner.replayBatch(job);
+
+        // then
+        verify(answerManagerService, never()).replayFailedTask(any());
+    }
+
+    private AnswerReplayJob createJob() {
+        ZonedDateTime now = ZonedDateTime.now();
+        return AnswerReplayJob.builder()
+            .requestedBy(1L)
+            .failedFrom(now.minusHours(1))
+            .failedTo(now)
+            .build();
+    }
+
+    private AnswerTask createTask(Long id) {
+        AnswerTask task = AnswerTask.waiting(
+            new AnswerCreateCommand("audio", 10L, 3L, 1L, 4L, "video"), "질문 내용");
+        setField(task, "id", id);
+        return task;
+    }
+
+    // 테스트 목적상 private 필드 직접 설정 유틸
+    private void setField(Object target, String fieldName, Object value) {
+        try {
+            var field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -57,6 +57,9 @@ class AnswerServiceTest extends IntegrationTestSupport {
     @Autowired
     private MemberStatisticsRepository memberStatisticsRepository;
 
+    @Autowired
+    private AnswerTaskStatusCache answerTaskStatusCache;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -434,4 +437,19 @@ class AnswerServiceTest extends IntegrationTestSupport {
             .hasMessageContaining("해당 답변에 대한 접근 권한이 없습니다.");
     }
 
+    @DisplayName("findAnswerByTaskId - 상태 캐시가 있으면 DB 조회 없이 응답")
+    @Test
+    void findAnswerByTaskId_shouldServeFromCache_whenStatusIsCached() {
+        // given
+        Long taskId = 987654L;
+        answerTaskStatusCache.success(taskId, memberId, 55L);
+
+        // when
+        ResponseEntity<AnswerByTaskResponse> response = answerService.findAnswerByTaskId(taskId, memberId);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().taskId()).isEqualTo(taskId);
+        assertThat(response.getBody().answerId()).isEqualTo(55L);
+    }
 }
@@ -0,0 +1,140 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
+import com.blooming.inpeak.answer.dto.response.AnswerByTaskResponse;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.common.error.exception.ForbiddenException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class AnswerTaskEventServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AnswerTaskRepository answerTaskRepository;
+    private StringRedisTemplate stringRedisTemplate;
+    private AnswerTaskEventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        answerTaskRepository = mock(AnswerTaskRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+
+        eventService = new AnswerTaskEventService(answerTaskRepository, stringRedisTemplate,
+            mock(RedisMessageListenerContainer.class), objectMapper, Duration.ofMinutes(5),
+            15_000);
+    }
+
+    @Test
+    void subscribe_진행중인_작업은_연결을_유지() {
+        // given
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(createTask()));
+
+        // when
+        SseEmitter emitter = eventService.subscribe(1L, 3L);
+
+        // then
+        assertThatCode(() -> emitter.send("next")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void subscribe_이미_완료된_작업은_결과를_보내고_연결을_닫음() {
+        // given
+        AnswerTask task = createTask();
+        task.markSuccess(100L);
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // when
+        SseEmitter emitter = eventService.subscribe(1L, 3L);
+
+        // then
+        assertThrows(IllegalStateException.class, () -> emitter.send("next"));
+    }
+
+    @Test
+    void subscribe_다른_사용자의_작업은_구독할_수_없음() {
+        // given
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(createTask()));
+
+        // when & then
+        assertThrows(ForbiddenException.class, () -> eventService.subscribe(1L, 99L));
+    }
+
+    @Test
+    void subscribe_상태를_조회하는_사이에_완료된_작업도_결과를_받음() {
+        // given: 조회한 상태는 진행 중이지만 그 직후 완료 이벤트가 도착한다.
+        when(answerTaskRepository.findById(1L)).thenAnswer(invocation -> {
+            AnswerTask task = createTask();
+            eventService.onMessage(message(AnswerByTaskResponse.success(1L, 100L)), null);
+            return Optional.of(task);
+        });
+
+        // when
+        SseEmitter emitter = eventService.subscribe(1L, 3L);
+
+        // then
+        assertThrows(IllegalStateException.class, () -> emitter.send("next"));
+    }
+
+    @Test
+    void onMessage_완료_이벤트를_받으면_구독자에게_보내고_연결을_닫음() throws Exception {
+        // given
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(createTask()));
+        SseEmitter emitter = eventService.subscribe(1L, 3L);
+
+        // when
+        eventService.onMessage(message(AnswerByTaskResponse.success(1L, 100L)), null);
+
+        // then
+        assertThrows(IllegalStateException.class, () -> emitter.send("next"));
+    }
+
+    @Test
+    void onMessage_다른_작업의_이벤트는_무시() throws Exception {
+        // given
+        when(answerTaskRepository.findById(1L)).thenReturn(Optional.of(createTask()));
+        SseEmitter emitter = eventService.subscribe(1L, 3L);
+
+        // when
+        eventService.onMessage(message(AnswerByTaskResponse.success(2L, 100L)), null);
+
+        // then
+        assertThatCode(() -> emitter.send("next")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void publish_Redis_채널로_결과를_발행() throws Exception {
+        // given
+        AnswerByTaskResponse response = AnswerByTaskResponse.failed(1L, null);
+
+        // when
+        eventService.publish(response);
+
+        // then
+        verify(stringRedisTemplate).convertAndSend(AnswerTaskEventService.CHANNEL,
+            objectMapper.writeValueAsString(response));
+    }
+
+    private DefaultMessage message(AnswerByTaskResponse response) throws Exception {
+        return new DefaultMessage(AnswerTaskEventService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            objectMapper.writeValueAsBytes(response));
+    }
+
+    private AnswerTask createTask() {
+        return AnswerTask.waiting(new AnswerCreateCommand("audio", 10L, 3L, 1L, 4L, "video"),
+            "질문 내용");
+    }
+}
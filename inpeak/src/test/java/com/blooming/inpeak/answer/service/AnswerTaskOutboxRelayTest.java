@@ -0,0 +1,158 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.domain.AnswerTaskOutbox;
+import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
+import com.blooming.inpeak.answer.dto.command.AnswerGradingMessage;
+import com.blooming.inpeak.answer.dto.command.AnswerTaskMessage;
+import com.blooming.inpeak.answer.repository.AnswerTaskOutboxRepository;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AnswerTaskOutboxRelayTest {
+
+    private AnswerTaskOutboxRepository outboxRepository;
+    private AnswerTaskRepository answerTaskRepository;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private RedissonClient redissonClient;
+    private RLock lock;
+    private AnswerTaskOutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxRepository = mock(AnswerTaskOutboxRepository.class);
+        answerTaskRepository = mock(AnswerTaskRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        redissonClient = mock(RedissonClient.class);
+        lock = mock(RLock.class);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+
+        relay = new AnswerTaskOutboxRelay(outboxRepository, answerTaskRepository, kafkaTemplate,
+            redissonClient, 10, 1000);
+    }
+
+    @Test
+    void 발행에_성공한_메시지만_아웃박스에서_삭제() {
+        // given
+        AnswerTask task11 = task(11L);
+        AnswerTask task12 = task(12L);
+        when(outboxRepository.findPending(any())).thenReturn(List.of(outbox(1L, 11L), outbox(2L, 12L)));
+        when(answerTaskRepository.findAllById(List.of(11L, 12L))).thenReturn(List.of(task11, task12));
+        when(kafkaTemplate.send(KafkaTopics.ANSWER_TASK, "11", AnswerTaskMessage.of(task11)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send(KafkaTopics.ANSWER_TASK, "12", AnswerTaskMessage.of(task12)))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        int published = relay.publishBatch();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void 삭제된_작업의_메시지는_발행하지_않고_아웃박스에서_삭제() {
+        // given
+        when(outboxRepository.findPending(any())).thenReturn(List.of(outbox(1L, 11L)));
+        when(answerTaskRepository.findAllById(List.of(11L))).thenReturn(List.of());
+
+        // when
+        int published = relay.publishBatch();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void 채점_토픽으로_재발행된_작업은_STT_체크포인트를_실어_보냄() {
+        // given
+        AnswerTask task = task(11L);
+        task.completeTranscription("유저답변");
+        AnswerTaskOutbox outbox = AnswerTaskOutbox.builder()
+            .id(1L)
+            .taskId(11L)
+            .topic(KafkaTopics.ANSWER_GRADING)
+            .messageKey("3")
+            .build();
+        when(outboxRepository.findPending(any())).thenReturn(List.of(outbox));
+        when(answerTaskRepository.findAllById(List.of(11L))).thenReturn(List.of(task));
+        when(kafkaTemplate.send(KafkaTopics.ANSWER_GRADING, "3", AnswerGradingMessage.of(task)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int published = relay.publishBatch();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        verify(kafkaTemplate).send(KafkaTopics.ANSWER_GRADING, "3", AnswerGradingMessage.of(task));
+    }
+
+    @Test
+    void 락을_얻지_못하면_발행하지_않음() {
+        // given
+        when(lock.tryLock()).thenReturn(false);
+
+        // when
+        relay.relay();
+
+        // then
+        verify(outboxRepository, never()).findPending(any());
+    }
+
+    @Test
+    void 대기_메시지가_없으면_아무것도_하지_않음() {
+        // given
+        when(lock.tryLock()).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(outboxRepository.findPending(any())).thenReturn(List.of());
+
+        // when
+        relay.relay();
+
+        // then
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+        verify(lock).unlock();
+    }
+
+    private AnswerTask task(Long id) {
+        AnswerTask task = AnswerTask.waiting(
+            new AnswerCreateCommand("audio", 10L, 3L, 1L, 4L, "video"), "질문 내용");
+        setField(task, "id", id);
+        return task;
+    }
+
+    // 테스트 목적상 private 필드 직접 설정 유틸
+    private void setField(Object target, String fieldName, Object value) {
+        try {
+            var field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private AnswerTaskOutbox outbox(Long id, Long taskId) {
+        return AnswerTaskOutbox.builder()
+            .id(id)
+            .taskId(taskId)
+            .topic(KafkaTopics.ANSWER_TASK)
+            .messageKey(String.valueOf(taskId))
+            .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.blooming.inpeak.answer.service;
+
+import com.blooming.inpeak.answer.domain.AnswerTask;
+import com.blooming.inpeak.answer.dto.command.AnswerCreateCommand;
+import com.blooming.inpeak.answer.dto.response.AnswerByTaskResponse;
+import com.blooming.inpeak.answer.repository.AnswerTaskRepository;
+import com.blooming.inpeak.common.config.kafka.KafkaTopics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AnswerTaskReaperTest {
+
+    private AnswerTaskRepository answerTaskRepository;
+    private AnswerManagerService answerManagerService;
+    private AnswerTaskStatusCache answerTaskStatusCache;
+    private AnswerTaskEventService answerTaskEventService;
+    private RedissonClient redissonClient;
+    private RLock lock;
+    private SimpleMeterRegistry meterRegistry;
+    private AnswerTaskReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        answerTaskRepository = mock(AnswerTaskRepository.class);
+        answerManagerService = mock(AnswerManagerService.class);
+        answerTaskStatusCache = mock(AnswerTaskStatusCache.class);
+        answerTaskEventService = mock(AnswerTaskEventService.class);
+        redissonClient = mock(RedissonClient.class);
+        lock = mock(RLock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+
+        reaper = new AnswerTaskReaper(answerTaskRepository, answerManagerService,
+            answerTaskStatusCache, answerTaskEventService, redissonClient, meterRegistry,
+            Duration.ofMinutes(15), 3, 10);
+    }
+
+    @Test
+    void 멈춘_작업은_체크포인트_단계의_토픽으로_재발행() {
+        // given
+        ZonedDateTime cutoff = ZonedDateTime.now();
+        AnswerTask notStarted = createTask(1L);
+        AnswerTask transcribed = createTask(2L);
+        transcribed.completeTranscription("유저답변");
+        AnswerTask graded = createTask(3L);
+        graded.completeTranscription("유저답변");
+        graded.completeGrading("피드백");
+
+        when(answerTaskRepository.findStale(eq(0), eq(cutoff), any()))
+            .thenReturn(List.of(notStarted, transcribed, graded));
+        when(answerManagerService.reenqueueStaleTask(any(), any(), any())).thenReturn(true);
+
+        // when
+        int reaped = reaper.reapBatch(0, cutoff);
+
+        // then
+        assertThat(reaped).isEqualTo(3);
+        verify(answerManagerService).reenqueueStaleTask(notStarted, KafkaTopics.ANSWER_TASK, cutoff);
+        verify(answerManagerService).reenqueueStaleTask(transcribed, KafkaTopics.ANSWER_GRADING,
+            cutoff);
+        verify(answerManagerService).reenqueueStaleTask(graded, KafkaTopics.ANSWER_PERSIST, cutoff);
+        assertThat(meterRegistry.counter("answer.task.reaped", "action", "reenqueued").count())
+            .isEqualTo(3);
+    }
+
+    @Test
+    void 그_사이_진행된_작업은_집계하지_않음() {
+        // given
+        ZonedDateTime cutoff = ZonedDateTime.now();
+        when(answerTaskRepository.findStale(eq(0), eq(cutoff), any()))
+            .thenReturn(List.of(createTask(1L)));
+        when(answerManagerService.reenqueueStaleTask(any(), any(), any())).thenReturn(false);
+
+        // when
+        reaper.reapBatch(0, cutoff);
+
+        // then
+        assertThat(meterRegistry.counter("answer.task.reaped", "action", "reenqueued").count())
+            .isZero();
+    }
+
+    @Test
+    void 재발행_한도를_넘긴_작업은_실패_처리() {
+        // given
+        ZonedDateTime cutoff = ZonedDateTime.now();
+        AnswerTask task = createTask(1L);
+        when(answerTaskRepository.findStale(eq(3), eq(cutoff), any())).thenReturn(List.of(task));
+        when(answerTaskRepository.markStaleFailed(eq(1L), eq(0), eq(cutoff), any(), any()))
+            .thenReturn(1);
+
+        // when
+        reaper.reapBatch(3, cutoff);
+
+        // then
+        verify(answerManagerService, never()).reenqueueStaleTask(any(), any(), any());
+        verify(answerTaskStatusCache).failed(1L, 3L, task.getStage());
+        verify(answerTaskEventService).publish(AnswerByTaskResponse.failed(1L, task.getStage()));
+        assertThat(meterRegistry.counter("answer.task.reaped", "action", "failed").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void 재발행_횟수마다_기다리는_시간을_두배로_늘림() {
+        // given
+        when(lock.tryLock()).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(answerTaskRepository.findStale(anyInt(), any(), any())).thenReturn(List.of());
+        ZonedDateTime before = ZonedDateTime.now();
+
+        // when
+        reaper.reap();
+
+        // then
+        verify(answerTaskRepository).findStale(eq(0), argThat(cutoff ->
+            !cutoff.isAfter(before.minusMinutes(15).plusSeconds(5))
+                && cutoff.isAfter(before.minusMinutes(16))), any());
+        verify(answerTaskRepository).findStale(eq(3), argThat(cutoff ->
+            !cutoff.isAfter(before.minusMinutes(120).plusSeconds(5))
+                && cutoff.isAfter(before.minusMinutes(121))), any());
+        verify(lock).unlock();
+    }
+
+    @Test
+    void 락을_얻지_못하면_정리하지_않음() {
+        // given
+        when(lock.tryLock()).thenReturn(false);
+
+        // when
+        reaper.reap();
+
+        // then
+        verify(answerTaskRepository, never()).findStale(anyInt(), any(), any());
+    }
+
+    private AnswerTask createTask(Long id) {
+        AnswerTask task = AnswerTask.waiting(
+            new AnswerCreateCommand("audio", 10L, 3L, 1L, 4L, "video"), "질문 내용");
+        setField(task, "id", id);
+        return task;
+    }
+
+    // 테스트 목적상 private 필드 직접 설정 유틸
+    private void setField(Object target, String fieldName, Object value) {
+        try {
+            var field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
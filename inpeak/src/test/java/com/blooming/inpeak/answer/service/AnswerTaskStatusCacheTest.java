@@ -0,0 +1,79 @@
+package com.blooming.inpeak.answer.service;
+
+import static org.mockito.Mockito.*;
+
+import com.blooming.inpeak.answer.domain.AnswerTaskStage;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("AnswerTaskStatusCache 테스트")
+@ExtendWith(MockitoExtension.class)
+class AnswerTaskStatusCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private AnswerTaskStatusCache answerTaskStatusCache;
+
+    @BeforeEach
+    void setUp() {
+        answerTaskStatusCache = new AnswerTaskStatusCache(stringRedisTemplate,
+            Duration.ofMinutes(30), Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_기록() {
+        // when
+        answerTaskStatusCache.waiting(1L, 3L, AnswerTaskStage.STT);
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋된_뒤에_기록() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        answerTaskStatusCache.waiting(1L, 3L, AnswerTaskStage.STT);
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 롤백되면_기록하지_않음() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        answerTaskStatusCache.waiting(1L, 3L, AnswerTaskStage.STT);
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
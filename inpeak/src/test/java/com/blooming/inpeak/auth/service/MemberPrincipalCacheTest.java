@@ -0,0 +1,153 @@
+package com.blooming.inpeak.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.blooming.inpeak.auth.service.MemberPrincipalCache.CachedPrincipal;
+import com.blooming.inpeak.member.domain.Member;
+import com.blooming.inpeak.member.domain.OAuth2Provider;
+import com.blooming.inpeak.member.domain.RegistrationStatus;
+import com.blooming.inpeak.member.repository.MemberRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@DisplayName("MemberPrincipalCache 테스트")
+@ExtendWith(MockitoExtension.class)
+class MemberPrincipalCacheTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private MemberPrincipalCache memberPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        memberPrincipalCache = new MemberPrincipalCache(memberRepository, stringRedisTemplate,
+            listenerContainer, 2, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void 캐시된_회원은_DB를_다시_조회하지_않음() {
+        // given
+        when(memberRepository.findById(MEMBER_ID))
+            .thenReturn(Optional.of(member(MEMBER_ID, RegistrationStatus.COMPLETED)));
+
+        // when
+        memberPrincipalCache.find(MEMBER_ID);
+        Optional<CachedPrincipal> result = memberPrincipalCache.find(MEMBER_ID);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().registrationCompleted()).isTrue();
+        assertThat(result.get().principal().id()).isEqualTo(MEMBER_ID);
+        verify(memberRepository, times(1)).findById(MEMBER_ID);
+    }
+
+    @Test
+    void 무효화_메시지를_받으면_DB에서_다시_조회() {
+        // given
+        when(memberRepository.findById(MEMBER_ID))
+            .thenReturn(Optional.of(member(MEMBER_ID, RegistrationStatus.INITIATED)))
+            .thenReturn(Optional.of(member(MEMBER_ID, RegistrationStatus.COMPLETED)));
+        memberPrincipalCache.find(MEMBER_ID);
+
+        // when
+        memberPrincipalCache.onMessage(message(MEMBER_ID), null);
+        Optional<CachedPrincipal> result = memberPrincipalCache.find(MEMBER_ID);
+
+        // then
+        assertThat(result.get().registrationCompleted()).isTrue();
+        verify(memberRepository, times(2)).findById(MEMBER_ID);
+    }
+
+    @Test
+    void 무효화하면_다른_노드에_알림() {
+        // when: 트랜잭션 밖이면 바로 발행한다.
+        memberPrincipalCache.invalidate(MEMBER_ID);
+
+        // then
+        verify(stringRedisTemplate).convertAndSend(MemberPrincipalCache.CHANNEL,
+            String.valueOf(MEMBER_ID));
+    }
+
+    @Test
+    void 조회_도중_무효화되면_읽어온_값을_캐시하지_않음() {
+        // given: DB 조회와 무효화가 겹친다.
+        when(memberRepository.findById(MEMBER_ID)).thenAnswer(invocation -> {
+            memberPrincipalCache.onMessage(message(MEMBER_ID), null);
+            return Optional.of(member(MEMBER_ID, RegistrationStatus.INITIATED));
+        });
+
+        // when
+        memberPrincipalCache.find(MEMBER_ID);
+        memberPrincipalCache.find(MEMBER_ID);
+
+        // then
+        verify(memberRepository, times(2)).findById(MEMBER_ID);
+    }
+
+    @Test
+    void 최대_개수를_넘으면_가장_오래_쓰지_않은_회원부터_제거() {
+        // given
+        when(memberRepository.findById(anyLong())).thenAnswer(invocation ->
+            Optional.of(member(invocation.getArgument(0), RegistrationStatus.COMPLETED)));
+
+        // when
+        memberPrincipalCache.find(1L);
+        memberPrincipalCache.find(2L);
+        memberPrincipalCache.find(1L);
+        memberPrincipalCache.find(3L);
+        memberPrincipalCache.find(1L);
+        memberPrincipalCache.find(2L);
+
+        // then
+        verify(memberRepository, times(1)).findById(1L);
+        verify(memberRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void 없는_회원은_빈_값_반환() {
+        // given
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.empty());
+
+        // when
+        Optional<CachedPrincipal> result = memberPrincipalCache.find(MEMBER_ID);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    private Member member(Long id, RegistrationStatus status) {
+        return Member.builder()
+            .id(id)
+            .kakaoId(100L)
+            .nickname("nickname" + id)
+            .provider(OAuth2Provider.KAKAO)
+            .registrationStatus(status)
+            .kakaoEmail("test@test.com")
+            .build();
+    }
+
+    private DefaultMessage message(Long memberId) {
+        return new DefaultMessage(MemberPrincipalCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            String.valueOf(memberId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,185 @@
+package com.blooming.inpeak.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.blooming.inpeak.auth.domain.RefreshToken;
+import com.blooming.inpeak.auth.repository.RefreshTokenRepository;
+import com.blooming.inpeak.auth.service.RefreshTokenRotator.RotatedTokens;
+import com.blooming.inpeak.auth.utils.JwtTokenProvider;
+import com.blooming.inpeak.member.domain.Member;
+import com.blooming.inpeak.member.domain.OAuth2Provider;
+import com.blooming.inpeak.member.domain.RegistrationStatus;
+import com.blooming.inpeak.member.repository.MemberRepository;
+import com.blooming.inpeak.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@DisplayName("RefreshTokenRotator 테스트")
+class RefreshTokenRotatorTest extends IntegrationTestSupport {
+
+    private static final String OLD_TOKEN = "old-refresh-token";
+
+    @Autowired
+    private RefreshTokenRotator refreshTokenRotator;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.of(1234567890L, "rotator-test", "test@test.com",
+            OAuth2Provider.KAKAO, RegistrationStatus.COMPLETED));
+        refreshTokenRepository.save(RefreshToken.builder()
+            .memberId(member.getId())
+            .refreshToken(OLD_TOKEN)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteById(member.getId());
+        memberRepository.delete(member);
+    }
+
+    @Test
+    void 저장된_토큰이면_새_토큰으로_교체() {
+        // when
+        Optional<RotatedTokens> rotated =
+            refreshTokenRotator.rotate(member.getId(), OLD_TOKEN, true);
+
+        // then
+        assertThat(rotated).isPresent();
+        assertThat(rotated.get().refreshToken()).isNotEqualTo(OLD_TOKEN);
+        assertThat(refreshTokenRepository.findById(member.getId()).get().getRefreshToken())
+            .isEqualTo(rotated.get().refreshToken());
+    }
+
+    @Test
+    void grace_period_안에_직전_토큰을_제시하면_이미_발급한_토큰을_반환() {
+        // given
+        RotatedTokens first = refreshTokenRotator.rotate(member.getId(), OLD_TOKEN, true).get();
+
+        // when
+        Optional<RotatedTokens> second = refreshTokenRotator.rotate(member.getId(), OLD_TOKEN, true);
+
+        // then
+        assertThat(second).contains(first);
+    }
+
+    @Test
+    void 저장된_토큰과_다르면_거절() {
+        // when
+        Optional<RotatedTokens> rotated =
+            refreshTokenRotator.rotate(member.getId(), "unknown-token", true);
+
+        // then
+        assertThat(rotated).isEmpty();
+        assertThat(refreshTokenRepository.findById(member.getId()).get().getRefreshToken())
+            .isEqualTo(OLD_TOKEN);
+    }
+
+    @Test
+    void 로그아웃_이후에는_직전_토큰도_거절() {
+        // given
+        refreshTokenRotator.rotate(member.getId(), OLD_TOKEN, true);
+        refreshTokenRepository.deleteById(member.getId());
+
+        // when
+        Optional<RotatedTokens> rotated = refreshTokenRotator.rotate(member.getId(), OLD_TOKEN, true);
+
+        // then
+        assertThat(rotated).isEmpty();
+    }
+
+    @Test
+    void 동시에_재발급해도_토큰은_한_번만_만들고_모두_같은_토큰을_받음() throws Exception {
+        // given: 첫 요청이 토큰을 만드는 동안 나머지 요청이 모두 도착한다.
+        int requests = 8;
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.makeToken(any(), any())).thenAnswer(invocation -> {
+            awaitCoalesced(meterRegistry, requests - 1);
+            return "new-token-" + invocation.getArgument(1);
+        });
+        RefreshTokenRotator rotator = new RefreshTokenRotator(stringRedisTemplate,
+            memberRepository, jwtTokenProvider, meterRegistry, 1_800_000L, 1_209_600_000L,
+            Duration.ofSeconds(10));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<RotatedTokens>>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return rotator.rotate(member.getId(), OLD_TOKEN, true);
+                }));
+            }
+            start.countDown();
+        }
+
+        // then
+        RotatedTokens first = results.get(0).get().orElseThrow();
+        for (Future<Optional<RotatedTokens>> result : results) {
+            assertThat(result.get()).contains(first);
+        }
+        assertThat(coalesced(meterRegistry)).isEqualTo(requests - 1);
+        verify(jwtTokenProvider, times(2)).makeToken(any(), any());
+        assertThat(refreshTokenRepository.findById(member.getId()).get().getRefreshToken())
+            .isEqualTo(first.refreshToken());
+    }
+
+    @Test
+    void 저장된_토큰과_다르면_토큰을_만들지_않음() {
+        // given
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        RefreshTokenRotator rotator = new RefreshTokenRotator(stringRedisTemplate,
+            memberRepository, jwtTokenProvider, new SimpleMeterRegistry(), 1_800_000L,
+            1_209_600_000L, Duration.ofSeconds(10));
+
+        // when
+        Optional<RotatedTokens> rotated = rotator.rotate(member.getId(), "unknown-token", true);
+
+        // then
+        assertThat(rotated).isEmpty();
+        verify(jwtTokenProvider, never()).makeToken(any(), any());
+    }
+
+    private void awaitCoalesced(MeterRegistry meterRegistry, int expected)
+        throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (coalesced(meterRegistry) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double coalesced(MeterRegistry meterRegistry) {
+        return meterRegistry.get("auth.refresh.rotation").tag("result", "coalesced").counter()
+            .count();
+    }
+}
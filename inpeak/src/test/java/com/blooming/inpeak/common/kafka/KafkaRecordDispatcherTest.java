@@ -0,0 +1,296 @@
+package com.blooming.inpeak.common.kafka;
+
+import com.blooming.inpeak.answer.ratelimit.FairShareScheduler;
+import com.blooming.inpeak.common.error.exception.KeyShareExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.*;
+
+class KafkaRecordDispatcherTest {
+
+    private final ConsumerRecord<String, String> record =
+        new ConsumerRecord<>("answer-task-topic", 0, 0L, "1", "message");
+    private final ConsumerRecordRecoverer recoverer = mock(ConsumerRecordRecoverer.class);
+
+    @Test
+    void platform_모드는_호출_스레드에서_처리후_ack() {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.PLATFORM, 1);
+        Acknowledgment ack = mock(Acknowledgment.class);
+        Thread caller = Thread.currentThread();
+        AtomicInteger sameThread = new AtomicInteger();
+
+        // when
+        dispatcher.dispatch(record, ack, () -> {
+            if (Thread.currentThread() == caller) {
+                sameThread.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(sameThread.get()).isEqualTo(1);
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void platform_모드_실패시_예외를_던지고_ack_하지_않음() {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.PLATFORM, 1);
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatch(record, ack, () -> {
+            throw new IllegalStateException("실패");
+        }));
+        verify(ack, never()).acknowledge();
+        verify(recoverer, never()).accept(any(), any());
+    }
+
+    @Test
+    void virtual_모드는_가상스레드에서_처리후_ack() {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.VIRTUAL, 10);
+        Acknowledgment ack = mock(Acknowledgment.class);
+        AtomicInteger virtual = new AtomicInteger();
+
+        // when
+        dispatcher.dispatch(record, ack, () -> {
+            if (Thread.currentThread().isVirtual()) {
+                virtual.incrementAndGet();
+            }
+        });
+        dispatcher.close();
+
+        // then
+        assertThat(virtual.get()).isEqualTo(1);
+        assertThat(dispatcher.getInFlightCount()).isZero();
+        verify(ack).acknowledge();
+        verify(recoverer, never()).accept(any(), any());
+    }
+
+    @Test
+    void virtual_모드_실패시_재시도_토픽으로_넘긴후_ack() {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.VIRTUAL, 10);
+        Acknowledgment ack = mock(Acknowledgment.class);
+        IllegalStateException failure = new IllegalStateException("일시 오류");
+
+        // when
+        dispatcher.dispatch(record, ack, () -> {
+            throw failure;
+        });
+        dispatcher.close();
+
+        // then
+        verify(recoverer).accept(record, failure);
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void virtual_모드_재시도_토픽_발행이_실패하면_성공할때까지_다시_시도() {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.VIRTUAL, 10);
+        Acknowledgment ack = mock(Acknowledgment.class);
+        doThrow(new IllegalStateException("브로커 오류")).doNothing()
+            .when(recoverer).accept(any(), any());
+
+        // when
+        dispatcher.dispatch(record, ack, () -> {
+            throw new IllegalStateException("일시 오류");
+        });
+        dispatcher.close();
+
+        // then
+        verify(recoverer, times(2)).accept(eq(record), any());
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void virtual_모드_동시처리_한도를_넘지_않음() throws Exception {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.VIRTUAL, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        Runnable blocking = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        dispatcher.dispatch(record("member-1", 0), mock(Acknowledgment.class), blocking);
+        dispatcher.dispatch(record("member-2", 1), mock(Acknowledgment.class), blocking);
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        Thread third = Thread.ofVirtual().start(() ->
+            dispatcher.dispatch(record("member-3", 2), mock(Acknowledgment.class), () -> {
+            }));
+        third.join(200);
+
+        // then
+        assertThat(third.isAlive()).isTrue();
+        assertThat(dispatcher.getInFlightCount()).isEqualTo(2);
+
+        release.countDown();
+        third.join(1000);
+        dispatcher.close();
+        assertThat(dispatcher.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void key_ordered_모드는_같은_키를_도착_순서대로_처리() {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.KEY_ORDERED, 10);
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlapped = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            int order = i;
+            dispatcher.dispatch(record("member-1", i), mock(Acknowledgment.class), () -> {
+                if (running.incrementAndGet() > 1) {
+                    overlapped.incrementAndGet();
+                }
+                sleep(20);
+                processed.add(order);
+                running.decrementAndGet();
+            });
+        }
+        dispatcher.close();
+
+        // then
+        assertThat(processed).containsExactly(0, 1, 2, 3, 4);
+        assertThat(overlapped.get()).isZero();
+        assertThat(dispatcher.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void key_ordered_모드는_다른_키를_병렬로_처리() throws Exception {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.KEY_ORDERED, 10);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable waitForOther = () -> {
+            bothStarted.countDown();
+            try {
+                bothStarted.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // when
+        dispatcher.dispatch(record("member-1", 0), mock(Acknowledgment.class), waitForOther);
+        dispatcher.dispatch(record("member-2", 1), mock(Acknowledgment.class), waitForOther);
+        dispatcher.close();
+
+        // then
+        assertThat(bothStarted.getCount()).isZero();
+    }
+
+    @Test
+    void key_ordered_모드_실패해도_같은_키의_다음_레코드를_처리() {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.KEY_ORDERED, 10);
+        Acknowledgment first = mock(Acknowledgment.class);
+        Acknowledgment second = mock(Acknowledgment.class);
+
+        // when
+        dispatcher.dispatch(record("member-1", 0), first, () -> {
+            throw new IllegalStateException("실패");
+        });
+        dispatcher.dispatch(record("member-1", 1), second, () -> {
+        });
+        dispatcher.close();
+
+        // then
+        verify(recoverer).accept(any(), any());
+        verify(first).acknowledge();
+        verify(second).acknowledge();
+    }
+
+    @Test
+    void 한_키가_몫을_넘기면_미루고_다른_키는_막히지_않음() throws Exception {
+        // given
+        KafkaRecordDispatcher dispatcher = dispatcher(ConsumerMode.VIRTUAL, 4, 2);
+        FairShareScheduler scheduler = new FairShareScheduler(() -> 2, 1, 1000);
+        CountDownLatch hotRelease = new CountDownLatch(1);
+        Runnable hot = () -> runFairly(scheduler, "hot", () -> {
+            try {
+                hotRelease.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Acknowledgment coldAck = mock(Acknowledgment.class);
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (int i = 0; i < 10; i++) {
+                dispatcher.dispatch(record("hot", i), mock(Acknowledgment.class), hot);
+            }
+            dispatcher.dispatch(record("cold", 10), coldAck,
+                () -> runFairly(scheduler, "cold", () -> {
+                }));
+        });
+
+        // then
+        verify(coldAck, timeout(1000)).acknowledge();
+        verify(recoverer, times(8)).accept(any(), any(KeyShareExceededException.class));
+
+        hotRelease.countDown();
+        dispatcher.close();
+        assertThat(dispatcher.getInFlightCount()).isZero();
+    }
+
+    private ConsumerRecord<String, String> record(String key, long offset) {
+        return new ConsumerRecord<>("answer-task-topic", 0, offset, key, "message");
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runFairly(FairShareScheduler scheduler, String key, Runnable work) {
+        try {
+            scheduler.acquire(key, 1, Duration.ofSeconds(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            work.run();
+        } finally {
+            scheduler.release(key);
+        }
+    }
+
+    private KafkaRecordDispatcher dispatcher(ConsumerMode mode, int maxInFlight) {
+        return dispatcher(mode, maxInFlight, maxInFlight);
+    }
+
+    private KafkaRecordDispatcher dispatcher(ConsumerMode mode, int maxInFlight,
+        int maxInFlightPerKey) {
+        return new KafkaRecordDispatcher("test", mode, maxInFlight, maxInFlightPerKey, recoverer,
+            new SimpleMeterRegistry());
+    }
+}
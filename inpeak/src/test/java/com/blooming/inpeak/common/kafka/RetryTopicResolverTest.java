@@ -0,0 +1,98 @@
+package com.blooming.inpeak.common.kafka;
+
+import com.blooming.inpeak.common.error.exception.GPTRateLimitException;
+import com.blooming.inpeak.common.error.exception.KeyShareExceededException;
+import com.blooming.inpeak.common.error.exception.NotFoundException;
+import java.time.Duration;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryTopicResolverTest {
+
+    private final RetryTopicResolver resolver = new RetryTopicResolver(
+        List.of("retry-1", "retry-2"),
+        List.of(Duration.ofSeconds(10), Duration.ofMinutes(1)),
+        "dlt",
+        List.of(NotFoundException.class)
+    );
+
+    @Test
+    void 첫_실패는_첫번째_재시도_토픽으로() {
+        // given
+        ConsumerRecord<String, String> record = record(0);
+
+        // when
+        TopicPartition destination = resolver.resolve(record, new IllegalStateException("오류"));
+        Headers headers = resolver.headers(record, new IllegalStateException("오류"));
+
+        // then
+        assertThat(destination.topic()).isEqualTo("retry-1");
+        assertThat(RetryHeaders.getString(headers, RetryHeaders.ORIGIN_TOPIC)).isEqualTo("origin");
+        assertThat(RetryHeaders.getLong(headers, RetryHeaders.ATTEMPT, 0)).isEqualTo(1);
+        assertThat(RetryHeaders.getLong(headers, RetryHeaders.DUE_AT, 0))
+            .isGreaterThanOrEqualTo(System.currentTimeMillis() + 9_000);
+    }
+
+    @Test
+    void 재시도를_모두_소진하면_DLT로() {
+        // given
+        ConsumerRecord<String, String> record = record(2);
+
+        // when
+        TopicPartition destination = resolver.resolve(record, new IllegalStateException("오류"));
+
+        // then
+        assertThat(destination.topic()).isEqualTo("dlt");
+    }
+
+    @Test
+    void 재시도할_수_없는_예외는_바로_DLT로() {
+        // when
+        TopicPartition destination = resolver.resolve(record(0),
+            new RuntimeException(new NotFoundException("없음")));
+
+        // then
+        assertThat(destination.topic()).isEqualTo("dlt");
+    }
+
+    @Test
+    void 요청_한도_초과는_retry_after_이후로_지연() {
+        // given
+        GPTRateLimitException e = new GPTRateLimitException("한도 초과", Duration.ofMinutes(5));
+
+        // when
+        Headers headers = resolver.headers(record(0), e);
+
+        // then
+        assertThat(RetryHeaders.getLong(headers, RetryHeaders.DUE_AT, 0))
+            .isGreaterThanOrEqualTo(System.currentTimeMillis() + Duration.ofMinutes(4).toMillis());
+    }
+
+    @Test
+    void 키별_몫_초과는_재시도_횟수를_늘리지_않고_첫번째_재시도_토픽으로() {
+        // given
+        ConsumerRecord<String, String> record = record(2);
+        KeyShareExceededException e = new KeyShareExceededException("몫 초과");
+
+        // when
+        TopicPartition destination = resolver.resolve(record, e);
+        Headers headers = resolver.headers(record, e);
+
+        // then
+        assertThat(destination.topic()).isEqualTo("retry-1");
+        assertThat(RetryHeaders.getLong(headers, RetryHeaders.ATTEMPT, 0)).isEqualTo(2);
+    }
+
+    private ConsumerRecord<String, String> record(int attempt) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("origin", 0, 0L, "1", "message");
+        if (attempt > 0) {
+            record.headers().add(RetryHeaders.ATTEMPT, RetryHeaders.toBytes(attempt));
+        }
+        return record;
+    }
+}
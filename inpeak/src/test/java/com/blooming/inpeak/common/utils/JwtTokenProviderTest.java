@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.blooming.inpeak.auth.utils.JwtTokenProvider;
+import com.blooming.inpeak.auth.utils.JwtTokenProvider.VerifiedToken;
 import com.blooming.inpeak.member.domain.Member;
 import com.blooming.inpeak.member.domain.OAuth2Provider;
 import com.blooming.inpeak.member.domain.RegistrationStatus;
@@ -90,6 +91,38 @@ class JwtTokenProviderTest extends IntegrationTestSupport {
             // then
             assertThat(isValid).isFalse();
         }
+
+        @DisplayName("한 번 검증한 토큰은 같은 결과를 반환")
+        @Test
+        void verify_withCachedToken_shouldReturnSameClaims() {
+            // given
+            Long memberId = 1L;
+            Member testMember = createTestMember(memberId);
+            String token = jwtTokenProvider.makeToken(testMember, Duration.ofMinutes(30));
+            VerifiedToken first = jwtTokenProvider.verify(token);
+
+            // when
+            VerifiedToken second = jwtTokenProvider.verify(token);
+
+            // then
+            assertThat(second).isEqualTo(first);
+            assertThat(second.subject()).isEqualTo(memberId.toString());
+            assertThat(second.expirationTime()).isGreaterThan(System.currentTimeMillis());
+        }
+
+        @DisplayName("검증된 토큰을 변조하면 캐시와 관계없이 검증 실패")
+        @Test
+        void verify_withTamperedCachedToken_shouldThrowException() {
+            // given
+            Member testMember = createTestMember(1L);
+            String token = jwtTokenProvider.makeToken(testMember, Duration.ofMinutes(30));
+            jwtTokenProvider.verify(token);
+            String tampered = token.substring(0, token.lastIndexOf('.') + 1) + "tampered";
+
+            // when & then
+            assertThatThrownBy(() -> jwtTokenProvider.verify(tampered))
+                .isInstanceOf(SignatureException.class);
+        }
     }
 
     @DisplayName("예외 케이스 테스트")